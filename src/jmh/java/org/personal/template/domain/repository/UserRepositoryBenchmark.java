@@ -0,0 +1,103 @@
+package org.personal.template.domain.repository;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.personal.template.domain.entity.User;
+import org.personal.template.infrastructure.security.Role;
+
+/**
+ * 저장소 경합 시 처리량 (ops/sec)
+ * - findByEmail / registerAndDelete: 8 스레드가 동시에 실행
+ * - mixed: 조회 6 스레드 + 가입/탈퇴 2 스레드를 한 그룹으로 실행
+ * registerAndDelete는 새 사용자 저장 후 바로 삭제하여 저장소 크기를 일정하게 유지
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserRepositoryBenchmark {
+
+	@Param({"memory", "compact"})
+	public String engine;
+
+	@Param({"100000"})
+	public int users;
+
+	private UserRepository repository;
+	private String[] emails;
+	private final AtomicLong sequence = new AtomicLong();
+
+	@Setup
+	public void setUp() {
+		repository = switch (engine) {
+			case "memory" -> new InMemoryUserRepository(Optional.empty());
+			case "compact" -> new CompactUserRepository(users);
+			default -> throw new IllegalArgumentException(engine);
+		};
+
+		emails = new String[users];
+		for (int i = 0; i < users; i++) {
+			emails[i] = "user" + i + "@test.com";
+			repository.save(newUser(emails[i], "user" + i));
+		}
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Optional<User> findByEmail() {
+		return repository.findByEmail(randomEmail());
+	}
+
+	@Benchmark
+	@Threads(8)
+	public long registerAndDelete() {
+		return registerAndDeleteOnce();
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(6)
+	public Optional<User> mixedRead() {
+		return repository.findByEmail(randomEmail());
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(2)
+	public long mixedWrite() {
+		return registerAndDeleteOnce();
+	}
+
+	private long registerAndDeleteOnce() {
+		long n = sequence.incrementAndGet();
+		User user = repository.save(newUser("new" + n + "@test.com", "new" + n));
+		repository.deleteById(user.getUuid());
+		return user.getUuid();
+	}
+
+	private String randomEmail() {
+		return emails[ThreadLocalRandom.current().nextInt(emails.length)];
+	}
+
+	private static User newUser(String email, String username) {
+		User user = new User();
+		user.setEmail(email);
+		user.setUsername(username);
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		return user;
+	}
+}
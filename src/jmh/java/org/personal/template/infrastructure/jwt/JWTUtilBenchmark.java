@@ -0,0 +1,126 @@
+package org.personal.template.infrastructure.jwt;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.security.Role;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 토큰 발급/검증 처리량 (tokens/sec) 비교
+ * - legacy*: 요청마다 JwtParser, HashMap, builder 체인을 새로 만드는 기존 방식
+ * - 그 외: init()에서 만든 공유 JwtParser와 고정 형태 인코더를 사용하는 현재 JWTUtil
+ * - *Tampered: 서명이 틀린 토큰 (validateTampered는 예외 경로, checkTampered는 결과 값 경로)
+ * 캐시 효과를 제외하기 위해 VerifiedTokenCache는 비활성화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JWTUtilBenchmark {
+
+	static final String SECRET = Base64.getEncoder()
+		.encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+	private JWTUtil jwtUtil;
+	private Key key;
+	private String token;
+	private String tamperedToken;
+
+	@Setup
+	public void setUp() throws Exception {
+		jwtUtil = newJwtUtil(new VerifiedTokenCache(false, 1, 1));
+		key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+		token = jwtUtil.substringToken(jwtUtil.createAccessToken("bench@test.com", "bench", Role.ROLE_USER));
+		int signature = token.lastIndexOf('.') + 1;
+		tamperedToken = token.substring(0, signature) + (token.charAt(signature) == 'A' ? 'B' : 'A')
+			+ token.substring(signature + 1);
+	}
+
+	public static JWTUtil newJwtUtil(VerifiedTokenCache cache) throws Exception {
+		JWTUtil util = new JWTUtil(cache);
+		Field secretKey = JWTUtil.class.getDeclaredField("secretKey");
+		secretKey.setAccessible(true);
+		secretKey.set(util, SECRET);
+		util.init();
+		return util;
+	}
+
+	@Benchmark
+	public String createAccessTokenLegacy() {
+		Date now = new Date();
+		Map<String, Object> claims = new HashMap<>();
+		claims.put(JWTUtil.USERNAME_KEY, "bench");
+		claims.put(JWTUtil.EMAIL_KEY, "bench@test.com");
+		claims.put(JWTUtil.AUTHORIZATION_KEY, Role.ROLE_USER.name());
+
+		return JWTUtil.BEARER_PREFIX + Jwts.builder()
+			.setClaims(claims)
+			.setSubject("bench@test.com")
+			.setIssuedAt(now)
+			.setExpiration(new Date(now.getTime() + 60 * 60 * 1000L))
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	@Benchmark
+	public String createAccessToken() {
+		return jwtUtil.createAccessToken("bench@test.com", "bench", Role.ROLE_USER);
+	}
+
+	@Benchmark
+	public Claims getClaimsLegacy() {
+		return Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build()
+			.parseClaimsJws(token)
+			.getBody();
+	}
+
+	@Benchmark
+	public Claims getClaims() {
+		return jwtUtil.getClaims(token);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtUtil.validateToken(token);
+	}
+
+	@Benchmark
+	public VerifiedToken verify() {
+		return jwtUtil.verify(token);
+	}
+
+	@Benchmark
+	public boolean validateTampered() {
+		try {
+			return jwtUtil.validateToken(tamperedToken);
+		} catch (BaseException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public TokenCheck checkTampered() {
+		return jwtUtil.checkToken(tamperedToken);
+	}
+}
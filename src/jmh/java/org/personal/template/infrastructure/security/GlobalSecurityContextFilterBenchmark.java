@@ -0,0 +1,151 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.JWTUtilBenchmark;
+import org.personal.template.infrastructure.jwt.TokenRevocationList;
+import org.personal.template.infrastructure.jwt.VerifiedTokenCache;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * 요청 1건당 인증 필터 비용 (requests/sec)
+ * - doFilterInternal을 직접 호출 (같은 패키지), 다음 필터는 아무 일도 하지 않음
+ * - jwt*: Authorization 헤더 검증 + 사용자 조회 (jwtCached는 토큰/사용자 캐시 사용, jwtUncached는 둘 다 미사용)
+ * - jwtClaimsOnly: 저장소 조회 없이 클레임 + 폐기 목록만 확인
+ * - legacyHeaders: X-USER-* 헤더 경로
+ * - invalidToken: 서명 검증 실패 후 JSON 에러 응답까지 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class GlobalSecurityContextFilterBenchmark {
+
+	private static final FilterChain NOOP_CHAIN = (request, response) -> {
+	};
+
+	private GlobalSecurityContextFilter cachedFilter;
+	private GlobalSecurityContextFilter uncachedFilter;
+	private GlobalSecurityContextFilter claimsFilter;
+	private String authorization;
+	private String tamperedAuthorization;
+
+	@Setup
+	public void setUp() throws Exception {
+		InMemoryUserRepository userRepository = new InMemoryUserRepository(Optional.empty());
+		User user = new User();
+		user.setEmail("bench@test.com");
+		user.setUsername("bench");
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		userRepository.save(user);
+
+		JWTUtil cachedJwtUtil = JWTUtilBenchmark.newJwtUtil(new VerifiedTokenCache(true, 10_000, 16));
+		JWTUtil uncachedJwtUtil = JWTUtilBenchmark.newJwtUtil(new VerifiedTokenCache(false, 1, 1));
+		PrincipalCache principalCache = new PrincipalCache(true, 10_000, 16, 60);
+		TokenRevocationList revocationList = new TokenRevocationList(10_000);
+		userRepository.setChangeListeners(List.of(principalCache, revocationList));
+		ApiResponseSerializer serializer = new ApiResponseSerializer(new ObjectMapper());
+		AuthEventLogger authEventLogger = new AuthEventLogger(20);
+		cachedFilter = new GlobalSecurityContextFilter(cachedJwtUtil, userRepository,
+			new PrincipalResolver(userRepository, principalCache, revocationList, "lookup"), serializer,
+			authEventLogger, AuthMetrics.NONE);
+		uncachedFilter = new GlobalSecurityContextFilter(uncachedJwtUtil, userRepository,
+			new PrincipalResolver(userRepository, new PrincipalCache(false, 1, 1, 60), revocationList, "lookup"),
+			serializer, authEventLogger, AuthMetrics.NONE);
+		claimsFilter = new GlobalSecurityContextFilter(cachedJwtUtil, userRepository,
+			new PrincipalResolver(userRepository, principalCache, revocationList, "claims"), serializer,
+			authEventLogger, AuthMetrics.NONE);
+
+		authorization = cachedJwtUtil.createAccessToken("bench@test.com", "bench", Role.ROLE_USER);
+		// 서명 첫 글자를 바꿔 서명 불일치 유도
+		int signature = authorization.lastIndexOf('.') + 1;
+		char replaced = authorization.charAt(signature) == 'A' ? 'B' : 'A';
+		tamperedAuthorization = authorization.substring(0, signature) + replaced + authorization.substring(signature + 1);
+	}
+
+	@State(Scope.Thread)
+	public static class Exchange {
+
+		MockHttpServletRequest jwtRequest;
+		MockHttpServletRequest tamperedRequest;
+		MockHttpServletRequest legacyRequest;
+
+		@Setup
+		public void setUp(GlobalSecurityContextFilterBenchmark benchmark) {
+			jwtRequest = new MockHttpServletRequest("GET", "/api/user/me");
+			jwtRequest.addHeader(JWTUtil.AUTHORIZATION_HEADER, benchmark.authorization);
+
+			tamperedRequest = new MockHttpServletRequest("GET", "/api/user/me");
+			tamperedRequest.addHeader(JWTUtil.AUTHORIZATION_HEADER, benchmark.tamperedAuthorization);
+
+			legacyRequest = new MockHttpServletRequest("GET", "/api/user/me");
+			legacyRequest.addHeader("X-USER-NAME", "bench");
+			legacyRequest.addHeader("X-USER-ROLE", Role.ROLE_USER.name());
+			legacyRequest.addHeader("X-USER-ID", "1");
+		}
+	}
+
+	@Benchmark
+	public Object jwtCached(Exchange exchange) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		cachedFilter.doFilterInternal(exchange.jwtRequest, response, NOOP_CHAIN);
+		return authenticationAndClear();
+	}
+
+	@Benchmark
+	public Object jwtUncached(Exchange exchange) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		uncachedFilter.doFilterInternal(exchange.jwtRequest, response, NOOP_CHAIN);
+		return authenticationAndClear();
+	}
+
+	@Benchmark
+	public Object jwtClaimsOnly(Exchange exchange) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		claimsFilter.doFilterInternal(exchange.jwtRequest, response, NOOP_CHAIN);
+		return authenticationAndClear();
+	}
+
+	@Benchmark
+	public Object legacyHeaders(Exchange exchange) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		cachedFilter.doFilterInternal(exchange.legacyRequest, response, NOOP_CHAIN);
+		return authenticationAndClear();
+	}
+
+	@Benchmark
+	public int invalidToken(Exchange exchange) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		uncachedFilter.doFilterInternal(exchange.tamperedRequest, response, NOOP_CHAIN);
+		return response.getContentAsByteArray().length + response.getStatus();
+	}
+
+	private static Object authenticationAndClear() {
+		Object authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		return authentication;
+	}
+}
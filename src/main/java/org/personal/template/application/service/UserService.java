@@ -2,12 +2,19 @@ package org.personal.template.application.service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.personal.template.domain.entity.User;
 import org.personal.template.domain.repository.UserRepository;
 import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.exception.RetryLaterException;
 import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.metrics.AuthMetrics.ConflictField;
 import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.LoginAttemptLimiter;
+import org.personal.template.infrastructure.security.PasswordHashingExecutor;
 import org.personal.template.infrastructure.security.Role;
 import org.personal.template.presentation.dto.LoginRequestDTO;
 import org.personal.template.presentation.dto.RegisterAdminRequestDTO;
@@ -26,22 +33,63 @@ public class UserService {
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JWTUtil jwtUtil;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final AuthEventLogger authEventLogger;
+	private final AuthMetrics authMetrics;
+	private final LoginAttemptLimiter loginAttemptLimiter;
+
+	/**
+	 * 로그인 (BCrypt 검증은 요청 스레드가 아닌 해시 전용 풀에서 실행)
+	 * 이메일/IP 시도 제한에 걸리거나 풀이 포화 상태이면 해시 없이 즉시 RetryLaterException
+	 * 예약한 시도는 login()의 결과로 정산하고, 풀에 넣지 못했으면 반납
+	 * @param clientIp 알 수 없으면 null
+	 */
+	public CompletableFuture<Map<String, Object>> loginAsync(LoginRequestDTO loginRequestDTO, String clientIp) {
+		loginAttemptLimiter.acquire(loginRequestDTO.getEmail(), clientIp);
+		try {
+			return passwordHashingExecutor.submit(() -> login(loginRequestDTO));
+		} catch (RetryLaterException e) {
+			loginAttemptLimiter.release(loginRequestDTO.getEmail());
+			throw e;
+		}
+	}
 
+	public CompletableFuture<User> registerUserAsync(RegisterRequestDTO requestDTO, Role role) {
+		return passwordHashingExecutor.submit(() -> registerUser(requestDTO, role));
+	}
+
+	public CompletableFuture<User> registerAdminAsync(RegisterAdminRequestDTO requestDTO, Role role) {
+		return passwordHashingExecutor.submit(() -> registerAdmin(requestDTO, role));
+	}
 
 	public Map<String, Object> login(LoginRequestDTO loginRequestDTO) {
-		log.info("로그인 시도: {}", loginRequestDTO.getEmail());
+		String email = loginRequestDTO.getEmail();
+		authEventLogger.loginAttempt(email);
 
 		// 이메일로 사용자 조회
-		User user = userRepository.findByEmail(loginRequestDTO.getEmail())
-			.orElseThrow(() -> new BaseException(Code.SIGN001, "일치하는 이메일 없음"));
+		User user = userRepository.findByEmail(email).orElse(null);
+		if (user == null) {
+			authEventLogger.loginFailed(email, Code.SIGN001.getMessage());
+			loginAttemptLimiter.recordFailure(email);
+			throw new BaseException(Code.SIGN001, "일치하는 이메일 없음");
+		}
 
 		// 비밀번호 검증
 		if (!passwordEncoder.matches(loginRequestDTO.getPassword(), user.getPassword())) {
+			authEventLogger.loginFailed(email, Code.SIGN002.getMessage());
+			loginAttemptLimiter.recordFailure(email);
 			throw new BaseException(Code.SIGN002, "비밀번호 불일치");
 		}
 
+		// 이전 cost로 저장된 해시면 백그라운드에서 현재 cost로 재해시
+		if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+			rehashInBackground(user, loginRequestDTO.getPassword());
+		}
+
 		// JWT 토큰 생성
 		String token = jwtUtil.createAccessToken(user.getEmail(), user.getUsername(), user.getRole());
+		authEventLogger.loginSucceeded(email);
+		loginAttemptLimiter.recordSuccess(email);
 
 		// 응답 데이터 구성
 		Map<String, Object> responseData = new HashMap<>();
@@ -54,13 +102,15 @@ public class UserService {
 	}
 
 	public User registerUser(RegisterRequestDTO requestDTO, Role role) {
-		// 이메일 중복 검사
+		// 이메일 중복 검사 (해시 비용을 쓰기 전 빠른 거절, 동시 가입은 save()에서 최종 차단)
 		if (userRepository.findByEmail(requestDTO.getEmail()).isPresent()) {
+			authMetrics.recordRegistrationConflict(ConflictField.EMAIL);
 			throw new BaseException(Code.ALREADY_EXISTS, "이미 등록된 이메일입니다");
 		}
 
 		// 사용자 이름 중복 검사
 		if (userRepository.findByUsername(requestDTO.getUsername()) != null) {
+			authMetrics.recordRegistrationConflict(ConflictField.USERNAME);
 			throw new BaseException(Code.ALREADY_EXISTS, "이미 등록된 사용자 이름입니다");
 		}
 
@@ -71,7 +121,7 @@ public class UserService {
 		user.setPassword(passwordEncoder.encode(requestDTO.getPassword()));
 		user.setRole(role);
 
-		return userRepository.save(user);
+		return saveNewUser(user);
 	}
 
 	public User registerAdmin(RegisterAdminRequestDTO requestDTO, Role role) {
@@ -80,13 +130,15 @@ public class UserService {
 			throw new BaseException(Code.SIGN006, "관리자 코드 불일치");
 		}
 
-		// 이메일 중복 검사
+		// 이메일 중복 검사 (해시 비용을 쓰기 전 빠른 거절, 동시 가입은 save()에서 최종 차단)
 		if (userRepository.findByEmail(requestDTO.getEmail()).isPresent()) {
+			authMetrics.recordRegistrationConflict(ConflictField.EMAIL);
 			throw new BaseException(Code.ALREADY_EXISTS, "이미 등록된 이메일입니다");
 		}
 
 		// 사용자 이름 중복 검사
 		if (userRepository.findByUsername(requestDTO.getUsername()) != null) {
+			authMetrics.recordRegistrationConflict(ConflictField.USERNAME);
 			throw new BaseException(Code.ALREADY_EXISTS, "이미 등록된 사용자 이름입니다");
 		}
 
@@ -97,7 +149,39 @@ public class UserService {
 		user.setPassword(passwordEncoder.encode(requestDTO.getPassword()));
 		user.setRole(role);
 
-		return userRepository.save(user);
+		return saveNewUser(user);
+	}
+
+	// 사전 검사 이후 같은 email/username으로 먼저 저장된 경우 저장소가 ALREADY_EXISTS로 거절
+	private User saveNewUser(User user) {
+		try {
+			return userRepository.save(user);
+		} catch (BaseException e) {
+			if (e.getErrorCode() == Code.ALREADY_EXISTS) {
+				authMetrics.recordRegistrationConflict(ConflictField.CONCURRENT);
+			}
+			throw e;
+		}
+	}
+
+	// 로그인 시점에 읽은 User를 그대로 저장하면 그사이의 다른 변경을 덮어쓰므로, 검증한 해시가 그대로일 때만 교체
+	private void rehashInBackground(User user, String rawPassword) {
+		long uuid = user.getUuid();
+		String checkedPassword = user.getPassword();
+		try {
+			passwordHashingExecutor.submit(() ->
+				userRepository.replacePassword(uuid, checkedPassword, passwordEncoder.encode(rawPassword))
+			).whenComplete((replaced, e) -> {
+				if (e != null) {
+					log.warn("비밀번호 재해시 실패: uuid={}", uuid, e);
+				} else if (!replaced) {
+					log.debug("비밀번호 재해시 건너뜀 (그사이 변경/삭제됨): uuid={}", uuid);
+				}
+			});
+		} catch (RetryLaterException e) {
+			// 해시 풀이 포화 상태면 건너뛰고 다음 로그인 때 다시 시도
+			log.debug("비밀번호 재해시 보류 (해시 풀 포화): uuid={}", uuid);
+		}
 	}
 
 }
@@ -0,0 +1,71 @@
+package org.personal.template.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.personal.template.domain.entity.User;
+
+/**
+ * uuid 오름차순 scan을 작은 배치로 나누어 읽는 Iterator
+ * 락을 쓰는 저장소에서 배치마다 락을 잡았다 놓으므로, 긴 scan 중에도 쓰기가 막히지 않음 (약한 일관성)
+ */
+class BatchedUserIterator implements Iterator<User> {
+
+	static final int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * afterUuid 초과 uuid를 오름차순으로 최대 limit건 out에 채움
+	 */
+	@FunctionalInterface
+	interface BatchLoader {
+		void load(long afterUuid, int limit, List<User> out);
+	}
+
+	private final BatchLoader loader;
+	private final int batchSize;
+	private final List<User> batch;
+	private long cursor;
+	private int position;
+	private boolean exhausted;
+
+	BatchedUserIterator(Long afterUuid, BatchLoader loader) {
+		this(afterUuid, loader, DEFAULT_BATCH_SIZE);
+	}
+
+	BatchedUserIterator(Long afterUuid, BatchLoader loader, int batchSize) {
+		this.loader = loader;
+		this.batchSize = batchSize;
+		this.batch = new ArrayList<>(batchSize);
+		this.cursor = afterUuid == null ? Long.MIN_VALUE : afterUuid;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (position < batch.size()) {
+			return true;
+		}
+		if (exhausted) {
+			return false;
+		}
+		batch.clear();
+		position = 0;
+		loader.load(cursor, batchSize, batch);
+		if (batch.size() < batchSize) {
+			exhausted = true;
+		}
+		if (!batch.isEmpty()) {
+			cursor = batch.get(batch.size() - 1).getUuid();
+		}
+		return !batch.isEmpty();
+	}
+
+	@Override
+	public User next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return batch.get(position++);
+	}
+}
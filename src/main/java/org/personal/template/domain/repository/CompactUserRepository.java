@@ -0,0 +1,299 @@
+package org.personal.template.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.collection.LongObjectHashMap;
+import org.personal.template.domain.repository.collection.LongSortedArray;
+import org.personal.template.domain.repository.collection.StringLongHashMap;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대용량 사용자 수를 위한 메모리 절약형 저장소 (user.repository.engine=compact)
+ * - uuid -> 불변 레코드는 long 키 open-addressing 맵에 저장 (박싱, 엔트리 객체 없음)
+ * - email/username 인덱스는 String -> long(uuid) 맵, 키는 레코드의 String 인스턴스를 그대로 공유
+ * - 조회 시 레코드로부터 새 User를 만들어 반환하므로, 변경 사항은 save()로 반영해야 함
+ */
+@Repository
+@ConditionalOnProperty(name = "user.repository.engine", havingValue = "compact")
+public class CompactUserRepository implements UserRepository {
+
+	private static final long NO_ID = Long.MIN_VALUE;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final LongObjectHashMap<UserRecord> users;
+	private final StringLongHashMap idByEmail;
+	private final StringLongHashMap idByUsername;
+	// uuid 순 scan용 정렬 인덱스
+	private final LongSortedArray sortedIds;
+	private final AtomicLong idGenerator = new AtomicLong(1L);
+
+	private UserChangeListener changeListener = UserChangeListener.NONE;
+
+	public CompactUserRepository(@Value("${user.repository.compact.expected-size:1024}") int expectedSize) {
+		this.users = new LongObjectHashMap<>(expectedSize);
+		this.idByEmail = new StringLongHashMap(expectedSize, NO_ID);
+		this.idByUsername = new StringLongHashMap(expectedSize, NO_ID);
+		this.sortedIds = new LongSortedArray(expectedSize);
+	}
+
+	/**
+	 * 변경 알림 대상 등록 (UserChangeListener 빈이 없으면 호출되지 않음)
+	 */
+	@Autowired(required = false)
+	public void setChangeListeners(List<UserChangeListener> listeners) {
+		this.changeListener = UserChangeListener.composite(listeners);
+	}
+
+	@Override
+	public User findByUsername(String username) {
+		lock.readLock().lock();
+		try {
+			return toUser(recordOf(idByUsername.get(username)));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Optional<User> findByEmail(String email) {
+		lock.readLock().lock();
+		try {
+			return Optional.ofNullable(toUser(recordOf(idByEmail.get(email))));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public <S extends User> S save(S user) {
+		lock.writeLock().lock();
+		try {
+			if (user.getUuid() == null) {
+				user.setUuid(idGenerator.getAndIncrement());
+			}
+
+			// 다른 사용자가 이미 가진 email/username이면 저장하지 않음
+			checkUnique(idByEmail, user.getEmail(), user.getUuid(), "이미 등록된 이메일입니다");
+			checkUnique(idByUsername, user.getUsername(), user.getUuid(), "이미 등록된 사용자 이름입니다");
+
+			UserRecord record = UserRecord.from(user);
+			UserRecord previous = users.put(record.uuid(), record);
+			if (previous != null) {
+				unindex(previous);
+			} else {
+				sortedIds.add(record.uuid());
+			}
+			index(record);
+			changeListener.userSaved(user, toUser(previous));
+		} finally {
+			lock.writeLock().unlock();
+		}
+		return user;
+	}
+
+	@Override
+	public boolean replacePassword(long uuid, String expectedPassword, String newPassword) {
+		lock.writeLock().lock();
+		try {
+			User current = toUser(users.get(uuid));
+			if (current == null || !Objects.equals(current.getPassword(), expectedPassword)) {
+				return false;
+			}
+			current.setPassword(newPassword);
+			save(current);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public <S extends User> List<S> saveAll(Iterable<S> entities) {
+		List<S> result = new ArrayList<>();
+		for (S entity : entities) {
+			result.add(save(entity));
+		}
+		return result;
+	}
+
+	@Override
+	public Optional<User> findById(Long id) {
+		lock.readLock().lock();
+		try {
+			return Optional.ofNullable(toUser(users.get(id)));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean existsById(Long id) {
+		lock.readLock().lock();
+		try {
+			return users.containsKey(id);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<User> findAll() {
+		lock.readLock().lock();
+		try {
+			List<User> result = new ArrayList<>(users.size());
+			users.forEachValue(record -> result.add(toUser(record)));
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Iterator<User> scanFrom(Long afterUuid) {
+		return new BatchedUserIterator(afterUuid, (after, limit, out) -> {
+			lock.readLock().lock();
+			try {
+				for (int i = sortedIds.higherIndex(after); i < sortedIds.size() && out.size() < limit; i++) {
+					out.add(toUser(users.get(sortedIds.get(i))));
+				}
+			} finally {
+				lock.readLock().unlock();
+			}
+		});
+	}
+
+	@Override
+	public List<User> findAllById(Iterable<Long> ids) {
+		List<User> result = new ArrayList<>();
+		for (Long id : ids) {
+			findById(id).ifPresent(result::add);
+		}
+		return result;
+	}
+
+	@Override
+	public long count() {
+		lock.readLock().lock();
+		try {
+			return users.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void deleteById(Long id) {
+		lock.writeLock().lock();
+		try {
+			UserRecord record = users.remove(id);
+			if (record != null) {
+				unindex(record);
+				sortedIds.remove(id);
+				changeListener.userDeleted(id, record.email());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void delete(User entity) {
+		deleteById(entity.getUuid());
+	}
+
+	@Override
+	public void deleteAllById(Iterable<? extends Long> ids) {
+		for (Long id : ids) {
+			deleteById(id);
+		}
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends User> entities) {
+		for (User entity : entities) {
+			delete(entity);
+		}
+	}
+
+	@Override
+	public void deleteAll() {
+		lock.writeLock().lock();
+		try {
+			users.clear();
+			idByEmail.clear();
+			idByUsername.clear();
+			sortedIds.clear();
+			changeListener.allUsersDeleted();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static void checkUnique(StringLongHashMap index, String key, long uuid, String message) {
+		if (key == null) {
+			return;
+		}
+		long owner = index.get(key);
+		if (owner != NO_ID && owner != uuid) {
+			throw new BaseException(Code.ALREADY_EXISTS, message);
+		}
+	}
+
+	private UserRecord recordOf(long id) {
+		return id == NO_ID ? null : users.get(id);
+	}
+
+	private void index(UserRecord record) {
+		if (record.email() != null) {
+			idByEmail.put(record.email(), record.uuid());
+		}
+		if (record.username() != null) {
+			idByUsername.put(record.username(), record.uuid());
+		}
+	}
+
+	// 다른 사용자가 같은 키를 차지한 경우는 건드리지 않음
+	private void unindex(UserRecord record) {
+		if (record.email() != null && idByEmail.get(record.email()) == record.uuid()) {
+			idByEmail.remove(record.email());
+		}
+		if (record.username() != null && idByUsername.get(record.username()) == record.uuid()) {
+			idByUsername.remove(record.username());
+		}
+	}
+
+	private static User toUser(UserRecord record) {
+		if (record == null) {
+			return null;
+		}
+		User user = new User();
+		user.setUuid(record.uuid());
+		user.setEmail(record.email());
+		user.setPassword(record.password());
+		user.setRole(record.role());
+		user.setUsername(record.username());
+		return user;
+	}
+
+	// 저장용 불변 레코드 (uuid는 primitive)
+	private record UserRecord(long uuid, String email, String password, Role role, String username) {
+
+		static UserRecord from(User user) {
+			return new UserRecord(user.getUuid(), user.getEmail(), user.getPassword(), user.getRole(),
+				user.getUsername());
+		}
+	}
+}
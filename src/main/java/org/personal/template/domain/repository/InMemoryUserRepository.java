@@ -1,45 +1,191 @@
 package org.personal.template.domain.repository;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.journal.UserJournal;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import jakarta.annotation.PostConstruct;
+
+/**
+ * ConcurrentHashMap 기반 기본 저장소 (user.repository.engine=memory)
+ * - users(uuid -> Entry)가 유일한 원본이고, email/username 인덱스는 키 -> uuid 예약
+ * - 저장 시 email, username 순서로 putIfAbsent 예약, 실패하면 앞서 예약한 키를 되돌리고 ALREADY_EXISTS
+ * - 인덱스 조회는 users의 현재 Entry가 같은 키를 가질 때만 결과로 인정하므로,
+ *   users.put 한 번으로 세 인덱스의 변경이 동시에 보이게 됨
+ * - 같은 uuid에 대한 쓰기만 stripe 락으로 직렬화 (전역 락 없음)
+ * - 로그(journal)를 쓰는 경우 키 예약 후 users에 반영하기 전에 기록 (write-ahead),
+ *   기록이 실패하면 예약만 되돌리므로 메모리에도 반영되지 않음
+ * - uuid 순 scan은 별도 정렬 집합(sortedIds)을 따라가며 users에서 조회
+ */
 @Repository
+@ConditionalOnProperty(name = "user.repository.engine", havingValue = "memory", matchIfMissing = true)
 public class InMemoryUserRepository implements UserRepository {
-	private final Map<Long, User> users = new ConcurrentHashMap<>();
-	private final Map<String, User> userByEmail = new ConcurrentHashMap<>();
-	private final Map<String, User> userByUsername = new ConcurrentHashMap<>();
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final ConcurrentHashMap<Long, Entry> users = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Long> uuidByEmail = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Long> uuidByUsername = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListSet<Long> sortedIds = new ConcurrentSkipListSet<>();
 	private final AtomicLong idGenerator = new AtomicLong(1L);
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+	// 변경 내역 로그 (user.repository.journal.enabled=false 이면 null, 메모리에만 보관)
+	private final UserJournal journal;
+
+	private UserChangeListener changeListener = UserChangeListener.NONE;
+
+	public InMemoryUserRepository(Optional<UserJournal> journal) {
+		this.journal = journal.orElse(null);
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * 스냅샷과 로그를 재생하여 이전 상태 복구 (재생 중에는 다시 기록하지 않음)
+	 */
+	@PostConstruct
+	public void recover() {
+		if (journal == null) {
+			return;
+		}
+		journal.open(new UserJournal.Replayer() {
+			@Override
+			public void replaySave(User user) {
+				// 기록된 순서대로 덮어쓰므로 중복 검사 없이 반영
+				Entry previous = users.put(user.getUuid(), new Entry(user));
+				if (previous != null) {
+					releaseKeys(previous, null);
+				} else {
+					sortedIds.add(user.getUuid());
+				}
+				uuidByEmail.put(user.getEmail(), user.getUuid());
+				uuidByUsername.put(user.getUsername(), user.getUuid());
+				idGenerator.accumulateAndGet(user.getUuid() + 1, Math::max);
+			}
+
+			@Override
+			public void replayDelete(long uuid) {
+				Entry removed = users.remove(uuid);
+				if (removed != null) {
+					releaseKeys(removed, null);
+					sortedIds.remove(uuid);
+				}
+			}
+
+			@Override
+			public void replayDeleteAll() {
+				clearIndexes();
+			}
+		}, this::snapshotUsers);
+	}
+
+	/**
+	 * 변경 알림 대상 등록 (UserChangeListener 빈이 없으면 호출되지 않음)
+	 */
+	@Autowired(required = false)
+	public void setChangeListeners(List<UserChangeListener> listeners) {
+		this.changeListener = UserChangeListener.composite(listeners);
+	}
 
 	@Override
 	public User findByUsername(String username) {
-		return userByUsername.get(username);
+		Entry entry = lookup(uuidByUsername, username);
+		return entry != null && entry.username().equals(username) ? entry.user() : null;
 	}
 
 	@Override
 	public Optional<User> findByEmail(String email) {
-		return Optional.ofNullable(userByEmail.get(email));
+		Entry entry = lookup(uuidByEmail, email);
+		return entry != null && entry.email().equals(email) ? Optional.of(entry.user()) : Optional.empty();
 	}
 
+	/**
+	 * 저장 (email/username 중복 시 BaseException(ALREADY_EXISTS))
+	 * 동시에 같은 email로 가입해도 예약에 성공한 한 건만 저장됨
+	 */
 	@Override
 	public <S extends User> S save(S user) {
 		if (user.getUuid() == null) {
 			user.setUuid(idGenerator.getAndIncrement());
 		}
+		long uuid = user.getUuid();
+		Entry entry = new Entry(user);
+
+		ReentrantLock lock = lockOf(uuid);
+		lock.lock();
+		try {
+			Entry previous = users.get(uuid);
+			boolean emailReserved = reserve(uuidByEmail, entry.email(), uuid, "이미 등록된 이메일입니다");
+			boolean usernameReserved;
+			try {
+				usernameReserved = reserve(uuidByUsername, entry.username(), uuid, "이미 등록된 사용자 이름입니다");
+			} catch (BaseException e) {
+				unreserve(entry, uuid, emailReserved, false);
+				throw e;
+			}
 
-		users.put(user.getUuid(), user);
-		userByEmail.put(user.getEmail(), user);
-		userByUsername.put(user.getUsername(), user);
+			// 예약한 키는 users에 반영되기 전까지 조회 결과로 인정되지 않으므로, 기록 실패 시 예약만 되돌림
+			if (journal != null) {
+				try {
+					journal.appendSave(user);
+				} catch (RuntimeException e) {
+					unreserve(entry, uuid, emailReserved, usernameReserved);
+					throw e;
+				}
+			}
 
+			// 이 시점부터 새 email/username으로 조회되고, 이전 키로는 조회되지 않음
+			users.put(uuid, entry);
+			if (previous != null) {
+				releaseKeys(previous, entry);
+			} else {
+				sortedIds.add(uuid);
+			}
+			changeListener.userSaved(user, previous == null ? null : previous.toUser());
+		} finally {
+			lock.unlock();
+		}
 		return user;
 	}
 
+	@Override
+	public boolean replacePassword(long uuid, String expectedPassword, String newPassword) {
+		ReentrantLock lock = lockOf(uuid);
+		lock.lock();
+		try {
+			Entry current = users.get(uuid);
+			if (current == null || !Objects.equals(current.user().getPassword(), expectedPassword)) {
+				return false;
+			}
+			// 공유 중인 User 인스턴스는 건드리지 않고 저장된 상태의 새 User로 교체
+			User updated = current.toUser();
+			updated.setPassword(newPassword);
+			save(updated);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public <S extends User> List<S> saveAll(Iterable<S> entities) {
 		List<S> result = new ArrayList<>();
@@ -51,7 +197,8 @@ public class InMemoryUserRepository implements UserRepository {
 
 	@Override
 	public Optional<User> findById(Long id) {
-		return Optional.ofNullable(users.get(id));
+		Entry entry = users.get(id);
+		return entry == null ? Optional.empty() : Optional.of(entry.user());
 	}
 
 	@Override
@@ -61,7 +208,42 @@ public class InMemoryUserRepository implements UserRepository {
 
 	@Override
 	public List<User> findAll() {
-		return new ArrayList<>(users.values());
+		List<User> result = new ArrayList<>(users.size());
+		for (Entry entry : users.values()) {
+			result.add(entry.user());
+		}
+		return result;
+	}
+
+	@Override
+	public Iterator<User> scanFrom(Long afterUuid) {
+		NavigableSet<Long> ids = afterUuid == null ? sortedIds : sortedIds.tailSet(afterUuid, false);
+		Iterator<Long> idIterator = ids.iterator();
+		return new Iterator<>() {
+			private User next;
+
+			@Override
+			public boolean hasNext() {
+				// 순회 도중 삭제된 uuid는 건너뜀
+				while (next == null && idIterator.hasNext()) {
+					Entry entry = users.get(idIterator.next());
+					if (entry != null) {
+						next = entry.user();
+					}
+				}
+				return next != null;
+			}
+
+			@Override
+			public User next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				User user = next;
+				next = null;
+				return user;
+			}
+		};
 	}
 
 	@Override
@@ -80,10 +262,23 @@ public class InMemoryUserRepository implements UserRepository {
 
 	@Override
 	public void deleteById(Long id) {
-		User user = users.remove(id);
-		if (user != null) {
-			userByEmail.remove(user.getEmail());
-			userByUsername.remove(user.getUsername());
+		ReentrantLock lock = lockOf(id);
+		lock.lock();
+		try {
+			Entry removed = users.get(id);
+			if (removed == null) {
+				return;
+			}
+			// 기록이 실패하면 삭제하지 않음
+			if (journal != null) {
+				journal.appendDelete(id);
+			}
+			users.remove(id);
+			releaseKeys(removed, null);
+			sortedIds.remove(id);
+			changeListener.userDeleted(id, removed.email());
+		} finally {
+			lock.unlock();
 		}
 	}
 
@@ -108,9 +303,118 @@ public class InMemoryUserRepository implements UserRepository {
 
 	@Override
 	public void deleteAll() {
+		// 드문 관리 작업이므로 모든 stripe를 순서대로 잡아 진행 중인 저장과 섞이지 않게 함
+		lockAll();
+		try {
+			if (journal != null) {
+				journal.appendDeleteAll();
+			}
+			clearIndexes();
+			changeListener.allUsersDeleted();
+		} finally {
+			unlockAll();
+		}
+	}
+
+	/**
+	 * 로그 스냅샷용 전체 사용자 (기록은 끝났지만 아직 반영 전인 쓰기가 빠지지 않도록 모든 stripe를 잡고 복사)
+	 */
+	private List<User> snapshotUsers() {
+		lockAll();
+		try {
+			List<User> result = new ArrayList<>(users.size());
+			for (Entry entry : users.values()) {
+				result.add(entry.user());
+			}
+			return result;
+		} finally {
+			unlockAll();
+		}
+	}
+
+	private void lockAll() {
+		for (ReentrantLock lock : locks) {
+			lock.lock();
+		}
+	}
+
+	private void unlockAll() {
+		for (int i = LOCK_STRIPES - 1; i >= 0; i--) {
+			locks[i].unlock();
+		}
+	}
+
+	private Entry lookup(ConcurrentHashMap<String, Long> index, String key) {
+		if (key == null) {
+			return null;
+		}
+		Long uuid = index.get(key);
+		return uuid == null ? null : users.get(uuid);
+	}
+
+	/**
+	 * 키 예약: 새로 예약했으면 true, 이미 같은 uuid가 가지고 있으면 false, 다른 uuid가 가지고 있으면 예외
+	 */
+	private boolean reserve(ConcurrentHashMap<String, Long> index, String key, long uuid, String message) {
+		Long owner = index.putIfAbsent(key, uuid);
+		if (owner == null) {
+			return true;
+		}
+		if (owner == uuid) {
+			return false;
+		}
+		throw new BaseException(Code.ALREADY_EXISTS, message);
+	}
+
+	// 이번 저장에서 새로 예약한 키만 해제
+	private void unreserve(Entry entry, long uuid, boolean emailReserved, boolean usernameReserved) {
+		if (emailReserved) {
+			uuidByEmail.remove(entry.email(), uuid);
+		}
+		if (usernameReserved) {
+			uuidByUsername.remove(entry.username(), uuid);
+		}
+	}
+
+	// 이전 Entry의 키 중 현재 Entry가 더 이상 쓰지 않는 키만 예약 해제 (current == null 이면 모두 해제)
+	private void releaseKeys(Entry previous, Entry current) {
+		long uuid = previous.user().getUuid();
+		if (current == null || !previous.email().equals(current.email())) {
+			uuidByEmail.remove(previous.email(), uuid);
+		}
+		if (current == null || !previous.username().equals(current.username())) {
+			uuidByUsername.remove(previous.username(), uuid);
+		}
+	}
+
+	private void clearIndexes() {
 		users.clear();
-		userByEmail.clear();
-		userByUsername.clear();
+		sortedIds.clear();
+		uuidByEmail.clear();
+		uuidByUsername.clear();
 	}
 
+	private ReentrantLock lockOf(long uuid) {
+		return locks[Long.hashCode(uuid) & (LOCK_STRIPES - 1)];
+	}
+
+	/**
+	 * 저장 시점의 email/username/role을 함께 보관 (User는 가변이므로 인덱스 키와 변경 알림은 여기 기준)
+	 */
+	private record Entry(User user, String email, String username, Role role) {
+
+		Entry(User user) {
+			this(user, user.getEmail(), user.getUsername(), user.getRole());
+		}
+
+		// 저장 시점 상태를 별도 User로 (비밀번호 제외)
+		User toUser() {
+			User snapshot = new User();
+			snapshot.setUuid(user.getUuid());
+			snapshot.setEmail(email);
+			snapshot.setUsername(username);
+			snapshot.setRole(role);
+			return snapshot;
+		}
+	}
 }
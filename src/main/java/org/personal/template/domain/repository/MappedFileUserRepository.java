@@ -0,0 +1,598 @@
+package org.personal.template.domain.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.collection.LongLongHashMap;
+import org.personal.template.domain.repository.collection.LongSortedArray;
+import org.personal.template.domain.repository.collection.StringLongHashMap;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 매핑 파일 기반 사용자 저장소 (user.repository.engine=mapped)
+ * - 사용자 레코드는 힙 밖(mmap 파일)의 고정 크기 슬롯에 저장, 힙에는 uuid/email/username -> 슬롯 인덱스만 유지
+ * - 기동 시 파일을 다시 매핑하고 슬롯을 스캔하여 인덱스를 복구 (재등록 불필요)
+ * - 수정은 새 슬롯에 기록한 뒤 이전 슬롯을 해제 (copy-on-write), 세대 번호로 크래시 후 중복 레코드 정리
+ *
+ * 파일 형식: [헤더 64B][슬롯 512B x N]
+ * 슬롯 형식: status(1) role(1) uuid(8) generation(8) [len(2) bytes] x3 (email, password, username), len -1 = null
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "user.repository.engine", havingValue = "mapped")
+public class MappedFileUserRepository implements UserRepository {
+
+	private static final int MAGIC = 0x55535231; // "USR1"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 64;
+
+	private static final int SLOT_SIZE = 512;
+	private static final int SLOTS_PER_SEGMENT = 65_536; // 세그먼트당 32MB
+	private static final long SEGMENT_BYTES = (long)SLOT_SIZE * SLOTS_PER_SEGMENT;
+
+	private static final int STATUS_OFFSET = 0;
+	private static final int ROLE_OFFSET = 1;
+	private static final int UUID_OFFSET = 2;
+	private static final int GENERATION_OFFSET = 10;
+	private static final int DATA_OFFSET = 18;
+	// 문자열 3개의 길이 필드(2B x 3)를 제외한 최대 바이트 수
+	private static final int MAX_STRING_BYTES = SLOT_SIZE - DATA_OFFSET - 6;
+
+	private static final byte FREE = 0;
+	private static final byte USED = 1;
+	private static final long NO_SLOT = -1L;
+
+	// ordinal 기반 저장이므로 Role 상수 순서를 바꾸면 안 됨
+	private static final Role[] ROLES = Role.values();
+
+	private final Path path;
+	private final boolean forceOnWrite;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	private FileChannel channel;
+
+	private final LongLongHashMap slotById;
+	private final StringLongHashMap slotByEmail;
+	private final StringLongHashMap slotByUsername;
+	// uuid 순 scan용 정렬 인덱스
+	private final LongSortedArray sortedIds;
+
+	private int[] freeSlots = new int[64];
+	private int freeCount;
+	// 한 번이라도 사용된 슬롯 수 (이후 슬롯은 모두 비어 있음)
+	private int highWaterSlot;
+	private long nextGeneration = 1L;
+	private long nextId = 1L;
+
+	private UserChangeListener changeListener = UserChangeListener.NONE;
+
+	public MappedFileUserRepository(
+		@Value("${user.repository.mapped.path:./data/users.db}") String path,
+		@Value("${user.repository.mapped.force-on-write:false}") boolean forceOnWrite,
+		@Value("${user.repository.mapped.expected-size:1024}") int expectedSize) {
+		this.path = Path.of(path);
+		this.forceOnWrite = forceOnWrite;
+		this.slotById = new LongLongHashMap(expectedSize, NO_SLOT);
+		this.slotByEmail = new StringLongHashMap(expectedSize, NO_SLOT);
+		this.slotByUsername = new StringLongHashMap(expectedSize, NO_SLOT);
+		this.sortedIds = new LongSortedArray(expectedSize);
+	}
+
+	/**
+	 * 변경 알림 대상 등록 (UserChangeListener 빈이 없으면 호출되지 않음)
+	 */
+	@Autowired(required = false)
+	public void setChangeListeners(List<UserChangeListener> listeners) {
+		this.changeListener = UserChangeListener.composite(listeners);
+	}
+
+	@PostConstruct
+	public void open() throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		if (channel.size() < HEADER_SIZE) {
+			writeHeader();
+		} else {
+			verifyHeader();
+		}
+
+		long dataBytes = channel.size() - HEADER_SIZE;
+		int segmentCount = (int)((dataBytes + SEGMENT_BYTES - 1) / SEGMENT_BYTES);
+		for (int i = 0; i < segmentCount; i++) {
+			mapSegment(i);
+		}
+
+		recover();
+		log.info("Mapped user store opened: path={}, users={}, slots={}", path, slotById.size(), highWaterSlot);
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		lock.writeLock().lock();
+		try {
+			for (MappedByteBuffer segment : segments) {
+				segment.force();
+			}
+			channel.close();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public User findByUsername(String username) {
+		lock.readLock().lock();
+		try {
+			return readUser(slotByUsername.get(username));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Optional<User> findByEmail(String email) {
+		lock.readLock().lock();
+		try {
+			return Optional.ofNullable(readUser(slotByEmail.get(email)));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public <S extends User> S save(S user) {
+		byte[] email = encode(user.getEmail());
+		byte[] password = encode(user.getPassword());
+		byte[] username = encode(user.getUsername());
+		if (length(email) + length(password) + length(username) > MAX_STRING_BYTES) {
+			// 가입 DTO의 길이 제한은 문자 수 기준이라 멀티바이트 값은 여기서 걸릴 수 있음, 클라이언트 입력 오류이므로 400
+			throw new BaseException(Code.SIGN005, "사용자 정보가 너무 깁니다");
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (user.getUuid() == null) {
+				user.setUuid(nextId++);
+			}
+			long uuid = user.getUuid();
+
+			// 다른 사용자가 이미 가진 email/username이면 저장하지 않음
+			long currentSlot = slotById.get(uuid);
+			checkUnique(slotByEmail, user.getEmail(), currentSlot, "이미 등록된 이메일입니다");
+			checkUnique(slotByUsername, user.getUsername(), currentSlot, "이미 등록된 사용자 이름입니다");
+			nextId = Math.max(nextId, uuid + 1);
+
+			int slot = allocateSlot();
+			writeSlot(slot, uuid, user.getRole(), email, password, username);
+
+			long previousSlot = slotById.put(uuid, slot);
+			User previous = null;
+			if (previousSlot != NO_SLOT) {
+				previous = readUser(previousSlot);
+				unindex((int)previousSlot);
+				release((int)previousSlot);
+			} else {
+				sortedIds.add(uuid);
+			}
+			index(slot, user.getEmail(), user.getUsername());
+			changeListener.userSaved(user, previous);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		return user;
+	}
+
+	@Override
+	public boolean replacePassword(long uuid, String expectedPassword, String newPassword) {
+		lock.writeLock().lock();
+		try {
+			long slot = slotById.get(uuid);
+			if (slot == NO_SLOT) {
+				return false;
+			}
+			User current = readUser(slot);
+			if (!Objects.equals(current.getPassword(), expectedPassword)) {
+				return false;
+			}
+			current.setPassword(newPassword);
+			save(current);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public <S extends User> List<S> saveAll(Iterable<S> entities) {
+		List<S> result = new ArrayList<>();
+		for (S entity : entities) {
+			result.add(save(entity));
+		}
+		return result;
+	}
+
+	@Override
+	public Optional<User> findById(Long id) {
+		lock.readLock().lock();
+		try {
+			return Optional.ofNullable(readUser(slotById.get(id)));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean existsById(Long id) {
+		lock.readLock().lock();
+		try {
+			return slotById.containsKey(id);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<User> findAll() {
+		lock.readLock().lock();
+		try {
+			List<User> result = new ArrayList<>(slotById.size());
+			for (int slot = 0; slot < highWaterSlot; slot++) {
+				if (segmentOf(slot).get(offsetOf(slot) + STATUS_OFFSET) == USED) {
+					result.add(readUser(slot));
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Iterator<User> scanFrom(Long afterUuid) {
+		return new BatchedUserIterator(afterUuid, (after, limit, out) -> {
+			lock.readLock().lock();
+			try {
+				for (int i = sortedIds.higherIndex(after); i < sortedIds.size() && out.size() < limit; i++) {
+					out.add(readUser(slotById.get(sortedIds.get(i))));
+				}
+			} finally {
+				lock.readLock().unlock();
+			}
+		});
+	}
+
+	@Override
+	public List<User> findAllById(Iterable<Long> ids) {
+		List<User> result = new ArrayList<>();
+		for (Long id : ids) {
+			findById(id).ifPresent(result::add);
+		}
+		return result;
+	}
+
+	@Override
+	public long count() {
+		lock.readLock().lock();
+		try {
+			return slotById.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void deleteById(Long id) {
+		lock.writeLock().lock();
+		try {
+			long slot = slotById.remove(id);
+			if (slot != NO_SLOT) {
+				String email = unindex((int)slot);
+				release((int)slot);
+				sortedIds.remove(id);
+				changeListener.userDeleted(id, email);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void delete(User entity) {
+		deleteById(entity.getUuid());
+	}
+
+	@Override
+	public void deleteAllById(Iterable<? extends Long> ids) {
+		for (Long id : ids) {
+			deleteById(id);
+		}
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends User> entities) {
+		for (User entity : entities) {
+			delete(entity);
+		}
+	}
+
+	@Override
+	public void deleteAll() {
+		lock.writeLock().lock();
+		try {
+			for (int slot = 0; slot < highWaterSlot; slot++) {
+				segmentOf(slot).put(offsetOf(slot) + STATUS_OFFSET, FREE);
+			}
+			if (forceOnWrite) {
+				segments.forEach(MappedByteBuffer::force);
+			}
+			slotById.clear();
+			slotByEmail.clear();
+			slotByUsername.clear();
+			sortedIds.clear();
+			freeCount = 0;
+			highWaterSlot = 0;
+			changeListener.allUsersDeleted();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 파일 전체 슬롯을 스캔하여 인덱스, 빈 슬롯 목록, 다음 uuid/세대 번호 복구
+	private void recover() {
+		int totalSlots = segments.size() * SLOTS_PER_SEGMENT;
+		long maxId = 0L;
+		long maxGeneration = 0L;
+
+		for (int slot = 0; slot < totalSlots; slot++) {
+			MappedByteBuffer segment = segmentOf(slot);
+			int base = offsetOf(slot);
+			if (segment.get(base + STATUS_OFFSET) != USED) {
+				continue;
+			}
+			highWaterSlot = slot + 1;
+
+			long uuid = segment.getLong(base + UUID_OFFSET);
+			long generation = segment.getLong(base + GENERATION_OFFSET);
+			maxId = Math.max(maxId, uuid);
+			maxGeneration = Math.max(maxGeneration, generation);
+
+			// 수정 도중 크래시로 같은 uuid가 두 슬롯에 남은 경우 세대 번호가 큰 쪽을 유지
+			long existing = slotById.get(uuid);
+			if (existing != NO_SLOT) {
+				int stale = generationOf((int)existing) > generation ? slot : (int)existing;
+				if (stale == slot) {
+					segment.put(base + STATUS_OFFSET, FREE);
+					continue;
+				}
+				unindex(stale);
+				segmentOf(stale).put(offsetOf(stale) + STATUS_OFFSET, FREE);
+			}
+
+			slotById.put(uuid, slot);
+			int pos = base + DATA_OFFSET;
+			String email = readString(segment, pos);
+			pos = skipString(segment, pos);
+			pos = skipString(segment, pos);
+			index(slot, email, readString(segment, pos));
+		}
+
+		for (int slot = highWaterSlot - 1; slot >= 0; slot--) {
+			if (segmentOf(slot).get(offsetOf(slot) + STATUS_OFFSET) != USED) {
+				pushFree(slot);
+			}
+		}
+		sortedIds.addAll(slotById.keys());
+		nextId = maxId + 1;
+		nextGeneration = maxGeneration + 1;
+	}
+
+	private void writeSlot(int slot, long uuid, Role role, byte[] email, byte[] password, byte[] username) {
+		MappedByteBuffer segment = segmentOf(slot);
+		int base = offsetOf(slot);
+
+		segment.put(base + ROLE_OFFSET, role == null ? 0 : (byte)(role.ordinal() + 1));
+		segment.putLong(base + UUID_OFFSET, uuid);
+		segment.putLong(base + GENERATION_OFFSET, nextGeneration++);
+		int pos = base + DATA_OFFSET;
+		pos = putBytes(segment, pos, email);
+		pos = putBytes(segment, pos, password);
+		putBytes(segment, pos, username);
+		// 모든 필드를 쓴 뒤 마지막에 사용 표시
+		segment.put(base + STATUS_OFFSET, USED);
+
+		if (forceOnWrite) {
+			segment.force(base, SLOT_SIZE);
+		}
+	}
+
+	private User readUser(long slot) {
+		if (slot == NO_SLOT) {
+			return null;
+		}
+		MappedByteBuffer segment = segmentOf((int)slot);
+		int base = offsetOf((int)slot);
+
+		User user = new User();
+		user.setUuid(segment.getLong(base + UUID_OFFSET));
+		byte role = segment.get(base + ROLE_OFFSET);
+		user.setRole(role == 0 ? null : ROLES[role - 1]);
+
+		int pos = base + DATA_OFFSET;
+		user.setEmail(readString(segment, pos));
+		pos = skipString(segment, pos);
+		user.setPassword(readString(segment, pos));
+		pos = skipString(segment, pos);
+		user.setUsername(readString(segment, pos));
+		return user;
+	}
+
+	private static void checkUnique(StringLongHashMap index, String key, long currentSlot, String message) {
+		if (key == null) {
+			return;
+		}
+		long owner = index.get(key);
+		if (owner != NO_SLOT && owner != currentSlot) {
+			throw new BaseException(Code.ALREADY_EXISTS, message);
+		}
+	}
+
+	private void index(int slot, String email, String username) {
+		if (email != null) {
+			slotByEmail.put(email, slot);
+		}
+		if (username != null) {
+			slotByUsername.put(username, slot);
+		}
+	}
+
+	// 슬롯에 기록된 email/username이 해당 슬롯을 가리킬 때만 인덱스에서 제거, 슬롯의 email 반환
+	private String unindex(int slot) {
+		MappedByteBuffer segment = segmentOf(slot);
+		int pos = offsetOf(slot) + DATA_OFFSET;
+		String email = readString(segment, pos);
+		pos = skipString(segment, pos);
+		pos = skipString(segment, pos);
+		String username = readString(segment, pos);
+
+		if (email != null && slotByEmail.get(email) == slot) {
+			slotByEmail.remove(email);
+		}
+		if (username != null && slotByUsername.get(username) == slot) {
+			slotByUsername.remove(username);
+		}
+		return email;
+	}
+
+	private int allocateSlot() {
+		if (freeCount > 0) {
+			return freeSlots[--freeCount];
+		}
+		int slot = highWaterSlot++;
+		if (slot / SLOTS_PER_SEGMENT >= segments.size()) {
+			mapSegment(segments.size());
+		}
+		return slot;
+	}
+
+	private void release(int slot) {
+		MappedByteBuffer segment = segmentOf(slot);
+		int base = offsetOf(slot);
+		segment.put(base + STATUS_OFFSET, FREE);
+		if (forceOnWrite) {
+			segment.force(base, 1);
+		}
+		pushFree(slot);
+	}
+
+	private void pushFree(int slot) {
+		if (freeCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeSlots.length << 1);
+		}
+		freeSlots[freeCount++] = slot;
+	}
+
+	private long generationOf(int slot) {
+		return segmentOf(slot).getLong(offsetOf(slot) + GENERATION_OFFSET);
+	}
+
+	private MappedByteBuffer segmentOf(int slot) {
+		return segments.get(slot / SLOTS_PER_SEGMENT);
+	}
+
+	private static int offsetOf(int slot) {
+		return (slot % SLOTS_PER_SEGMENT) * SLOT_SIZE;
+	}
+
+	// 매핑 범위가 파일 크기를 넘으면 파일이 자동으로 늘어남
+	private void mapSegment(int index) {
+		try {
+			segments.add(channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + index * SEGMENT_BYTES,
+				SEGMENT_BYTES));
+		} catch (IOException e) {
+			throw new UncheckedIOException("사용자 저장 파일 매핑 실패: " + path, e);
+		}
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).putInt(VERSION).putInt(SLOT_SIZE).putInt(SLOTS_PER_SEGMENT);
+		header.clear();
+		channel.write(header, 0);
+		channel.force(true);
+	}
+
+	private void verifyHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		channel.read(header, 0);
+		header.flip();
+		int magic = header.getInt();
+		int version = header.getInt();
+		int slotSize = header.getInt();
+		int slotsPerSegment = header.getInt();
+		if (magic != MAGIC || version != VERSION || slotSize != SLOT_SIZE || slotsPerSegment != SLOTS_PER_SEGMENT) {
+			throw new IllegalStateException("지원하지 않는 사용자 저장 파일 형식: " + path);
+		}
+	}
+
+	private static int putBytes(ByteBuffer segment, int pos, byte[] bytes) {
+		if (bytes == null) {
+			segment.putShort(pos, (short)-1);
+			return pos + 2;
+		}
+		segment.putShort(pos, (short)bytes.length);
+		segment.put(pos + 2, bytes);
+		return pos + 2 + bytes.length;
+	}
+
+	private static String readString(ByteBuffer segment, int pos) {
+		short length = segment.getShort(pos);
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		segment.get(pos + 2, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int skipString(ByteBuffer segment, int pos) {
+		return pos + 2 + Math.max(0, segment.getShort(pos));
+	}
+
+	private static byte[] encode(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static int length(byte[] bytes) {
+		return bytes == null ? 0 : bytes.length;
+	}
+}
@@ -0,0 +1,74 @@
+package org.personal.template.domain.repository;
+
+import java.util.List;
+
+import org.personal.template.domain.entity.User;
+
+/**
+ * 저장소 변경 알림 (인증 주체 캐시 등 사용자 정보를 복사해 두는 곳의 무효화용)
+ * - 저장소 쓰기 락 안에서 변경 직후 호출되므로, save/delete가 반환된 뒤의 조회는 이전 값을 보지 않음
+ * - 변경이 메모리에 반영된 경우에만, 반영 직후(로그 기록 이후) 호출
+ *   로그 기록 실패 등으로 반영되지 않은 변경은 알리지 않으므로 캐시/폐기 목록이 저장소 상태와 어긋나지 않음
+ * - 락 안에서 호출되므로 구현은 짧게 끝나야 하고 저장소를 다시 호출하면 안 됨
+ */
+public interface UserChangeListener {
+
+	UserChangeListener NONE = new UserChangeListener() {
+		@Override
+		public void userSaved(User user, User previous) {
+		}
+
+		@Override
+		public void userDeleted(long uuid, String email) {
+		}
+
+		@Override
+		public void allUsersDeleted() {
+		}
+	};
+
+	/**
+	 * 신규 저장 또는 수정 직후 호출
+	 * previous는 저장 전 상태의 별도 객체 (uuid/email/username/role만 보장, 신규 사용자이면 null)
+	 */
+	void userSaved(User user, User previous);
+
+	void userDeleted(long uuid, String email);
+
+	void allUsersDeleted();
+
+	/**
+	 * 여러 리스너를 하나로 묶음 (없으면 NONE)
+	 */
+	static UserChangeListener composite(List<? extends UserChangeListener> listeners) {
+		if (listeners == null || listeners.isEmpty()) {
+			return NONE;
+		}
+		if (listeners.size() == 1) {
+			return listeners.get(0);
+		}
+		List<UserChangeListener> copy = List.copyOf(listeners);
+		return new UserChangeListener() {
+			@Override
+			public void userSaved(User user, User previous) {
+				for (UserChangeListener listener : copy) {
+					listener.userSaved(user, previous);
+				}
+			}
+
+			@Override
+			public void userDeleted(long uuid, String email) {
+				for (UserChangeListener listener : copy) {
+					listener.userDeleted(uuid, email);
+				}
+			}
+
+			@Override
+			public void allUsersDeleted() {
+				for (UserChangeListener listener : copy) {
+					listener.allUsersDeleted();
+				}
+			}
+		};
+	}
+}
@@ -1,5 +1,6 @@
 package org.personal.template.domain.repository;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +15,25 @@ public interface UserRepository {
 
 	<S extends User> List<S> saveAll(Iterable<S> entities);
 
+	/**
+	 * 저장된 비밀번호 해시가 expectedPassword와 같을 때만 newPassword로 교체 (나머지 필드는 저장된 값 유지)
+	 * 조회 시점의 User를 그대로 save()하면 그사이 바뀐 email/username/role을 덮어쓰므로 재해시 등에 사용
+	 * @return 교체했으면 true, 사용자가 없거나 그사이 비밀번호가 바뀌었으면 false
+	 */
+	boolean replacePassword(long uuid, String expectedPassword, String newPassword);
+
 	Optional<User> findById(Long id);
 
 	boolean existsById(Long id);
 
 	List<User> findAll();
 
+	/**
+	 * uuid 오름차순으로 afterUuid 다음 사용자부터 순회 (null 이면 처음부터)
+	 * 전체 목록을 복사하지 않으며, 순회 중의 변경은 반영될 수도 있고 아닐 수도 있음 (약한 일관성)
+	 */
+	Iterator<User> scanFrom(Long afterUuid);
+
 	List<User> findAllById(Iterable<Long> ids);
 
 	long count();
@@ -0,0 +1,158 @@
+package org.personal.template.domain.repository.collection;
+
+import java.util.Arrays;
+
+/**
+ * long -> long open-addressing 해시맵 (선형 탐사)
+ * - 키와 값을 모두 primitive 배열에 저장, used[i]로 슬롯 사용 여부 표시
+ * - 값이 없으면 get은 missingValue 반환
+ * - 삭제 시 backward-shift로 탐사 체인을 메움
+ * thread-safe 하지 않음, 외부에서 동기화 필요
+ */
+public class LongLongHashMap {
+
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private final long missingValue;
+
+	private long[] keys;
+	private long[] values;
+	private boolean[] used;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+
+	public LongLongHashMap(int expectedSize, long missingValue) {
+		this.missingValue = missingValue;
+		allocate(LongObjectHashMap.capacityFor(expectedSize));
+	}
+
+	public long get(long key) {
+		int i = indexOf(key);
+		return i < 0 ? missingValue : values[i];
+	}
+
+	public boolean containsKey(long key) {
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * 값 저장, 이전 값 또는 missingValue 반환
+	 */
+	public long put(long key, long value) {
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				long previous = values[i];
+				values[i] = value;
+				return previous;
+			}
+			i = (i + 1) & mask;
+		}
+		used[i] = true;
+		keys[i] = key;
+		values[i] = value;
+		if (++size > resizeThreshold) {
+			rehash(keys.length << 1);
+		}
+		return missingValue;
+	}
+
+	/**
+	 * 삭제 후 이전 값 또는 missingValue 반환
+	 */
+	public long remove(long key) {
+		int i = indexOf(key);
+		if (i < 0) {
+			return missingValue;
+		}
+		long previous = values[i];
+		used[i] = false;
+		size--;
+		shiftBack(i);
+		return previous;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	/**
+	 * 현재 키 목록 복사본 (순서 없음)
+	 */
+	public long[] keys() {
+		long[] result = new long[size];
+		int n = 0;
+		for (int i = 0; i < used.length; i++) {
+			if (used[i]) {
+				result[n++] = keys[i];
+			}
+		}
+		return result;
+	}
+
+	private int indexOf(long key) {
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void shiftBack(int gap) {
+		int i = gap;
+		while (true) {
+			i = (i + 1) & mask;
+			if (!used[i]) {
+				return;
+			}
+			int ideal = slot(keys[i]);
+			if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+				keys[gap] = keys[i];
+				values[gap] = values[i];
+				used[gap] = true;
+				used[i] = false;
+				gap = i;
+			}
+		}
+	}
+
+	private int slot(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32)) & mask;
+	}
+
+	private void rehash(int newCapacity) {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(newCapacity);
+		for (int i = 0; i < oldUsed.length; i++) {
+			if (oldUsed[i]) {
+				int j = slot(oldKeys[i]);
+				while (used[j]) {
+					j = (j + 1) & mask;
+				}
+				used[j] = true;
+				keys[j] = oldKeys[i];
+				values[j] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int)(capacity * LOAD_FACTOR);
+	}
+}
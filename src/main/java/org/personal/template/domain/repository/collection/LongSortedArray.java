@@ -0,0 +1,105 @@
+package org.personal.template.domain.repository.collection;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순을 유지하는 중복 없는 long 배열
+ * - uuid 순 range scan용 보조 인덱스, 새 uuid는 대부분 최대값이므로 끝에 추가됨
+ * - 중간 삽입/삭제는 이진 탐색 + arraycopy
+ * thread-safe 하지 않음, 외부에서 동기화 필요
+ */
+public class LongSortedArray {
+
+	private long[] values;
+	private int size;
+
+	public LongSortedArray(int expectedSize) {
+		this.values = new long[Math.max(expectedSize, 16)];
+	}
+
+	/**
+	 * 추가 후 true, 이미 있으면 false
+	 */
+	public boolean add(long value) {
+		if (size == 0 || value > values[size - 1]) {
+			ensureCapacity(size + 1);
+			values[size++] = value;
+			return true;
+		}
+		int index = Arrays.binarySearch(values, 0, size, value);
+		if (index >= 0) {
+			return false;
+		}
+		index = -index - 1;
+		ensureCapacity(size + 1);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = value;
+		size++;
+		return true;
+	}
+
+	/**
+	 * 정렬되지 않은 값들을 한 번에 추가 (복구 시 일괄 적재용)
+	 */
+	public void addAll(long[] unsorted) {
+		ensureCapacity(size + unsorted.length);
+		System.arraycopy(unsorted, 0, values, size, unsorted.length);
+		Arrays.sort(values, 0, size + unsorted.length);
+
+		int distinct = 0;
+		for (int i = 0; i < size + unsorted.length; i++) {
+			if (distinct == 0 || values[i] != values[distinct - 1]) {
+				values[distinct++] = values[i];
+			}
+		}
+		size = distinct;
+	}
+
+	public boolean remove(long value) {
+		int index = Arrays.binarySearch(values, 0, size, value);
+		if (index < 0) {
+			return false;
+		}
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		return true;
+	}
+
+	/**
+	 * value보다 큰 첫 원소의 위치 (없으면 size())
+	 */
+	public int higherIndex(long value) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (values[mid] <= value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	public long get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+		return values[index];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required > values.length) {
+			values = Arrays.copyOf(values, Math.max(required, values.length * 2));
+		}
+	}
+}
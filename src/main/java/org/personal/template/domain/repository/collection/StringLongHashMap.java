@@ -0,0 +1,153 @@
+package org.personal.template.domain.repository.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.personal.template.infrastructure.cache.SipHash;
+
+/**
+ * String -> long open-addressing 해시맵 (선형 탐사)
+ * - 값을 박싱하지 않고 long[]에 직접 저장, 엔트리 객체 없음
+ * - keys[i] == null 이면 빈 슬롯, 값이 없으면 get은 missingValue 반환
+ * - 삭제 시 backward-shift로 탐사 체인을 메움
+ * - 키가 공개 API(가입 email/username)에서 오므로 String.hashCode 대신 맵마다 비밀 키를 둔 SipHash로 슬롯 결정
+ *   (충돌 문자열을 미리 만들어 탐사 체인을 길게 늘이는 공격 방지)
+ * thread-safe 하지 않음, 외부에서 동기화 필요
+ */
+public class StringLongHashMap {
+
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private final long missingValue;
+	private final SipHash hasher = SipHash.random();
+
+	private String[] keys;
+	private long[] values;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+
+	public StringLongHashMap(long missingValue) {
+		this(16, missingValue);
+	}
+
+	public StringLongHashMap(int expectedSize, long missingValue) {
+		this.missingValue = missingValue;
+		allocate(LongObjectHashMap.capacityFor(expectedSize));
+	}
+
+	public long get(String key) {
+		int i = indexOf(key);
+		return i < 0 ? missingValue : values[i];
+	}
+
+	public boolean containsKey(String key) {
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * 값 저장, 이전 값 또는 missingValue 반환
+	 */
+	public long put(String key, long value) {
+		Objects.requireNonNull(key, "key");
+		int i = slot(key);
+		while (keys[i] != null) {
+			if (keys[i].equals(key)) {
+				long previous = values[i];
+				values[i] = value;
+				return previous;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		if (++size > resizeThreshold) {
+			rehash(keys.length << 1);
+		}
+		return missingValue;
+	}
+
+	/**
+	 * 삭제 후 이전 값 또는 missingValue 반환
+	 */
+	public long remove(String key) {
+		int i = indexOf(key);
+		if (i < 0) {
+			return missingValue;
+		}
+		long previous = values[i];
+		keys[i] = null;
+		size--;
+		shiftBack(i);
+		return previous;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(keys, null);
+		size = 0;
+	}
+
+	private int indexOf(String key) {
+		if (key == null) {
+			return -1;
+		}
+		int i = slot(key);
+		while (keys[i] != null) {
+			if (keys[i].equals(key)) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void shiftBack(int gap) {
+		int i = gap;
+		while (true) {
+			i = (i + 1) & mask;
+			String key = keys[i];
+			if (key == null) {
+				return;
+			}
+			int ideal = slot(key);
+			if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+				keys[gap] = key;
+				values[gap] = values[i];
+				keys[i] = null;
+				gap = i;
+			}
+		}
+	}
+
+	private int slot(String key) {
+		long h = hasher.hash(key);
+		return (int)(h ^ (h >>> 32)) & mask;
+	}
+
+	private void rehash(int newCapacity) {
+		String[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(newCapacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int j = slot(oldKeys[i]);
+				while (keys[j] != null) {
+					j = (j + 1) & mask;
+				}
+				keys[j] = oldKeys[i];
+				values[j] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new String[capacity];
+		values = new long[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int)(capacity * LOAD_FACTOR);
+	}
+}
@@ -0,0 +1,467 @@
+package org.personal.template.domain.repository.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.personal.template.domain.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 기반 사용자 로그 (user.repository.journal.enabled=true)
+ * - 변경 내역을 append-only 바이너리 로그(users-{세대}.wal)에 기록
+ * - 전용 writer 스레드가 대기열에 모인 기록을 한 번에 FileChannel에 쓰고 정책에 따라 fsync (group commit)
+ * - 주기적으로 로그를 새 세대로 교체한 뒤 전체 상태 스냅샷(users.snapshot)을 쓰고 이전 로그 삭제
+ * - 기동 시 스냅샷 적재 후 이후 세대 로그를 순서대로 재생, 끝부분이 깨진 레코드는 잘라냄
+ * - 기록 실패 시 디스크에 반영된 기록만 성공 처리하고, 파일은 마지막 정상 위치로 잘라 이후 기록이 깨진 바이트 뒤에
+ *   붙지 않게 함 (잘라내지 못하거나 interval 정책이면 이후 기록을 모두 거절)
+ *
+ * 로그 레코드: length(4) crc32(4) payload (UserRecordCodec)
+ * 스냅샷: magic(4) 다음 로그 세대(8) 사용자 수(4) [length(4) crc32(4) SAVE payload] x N
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.repository.journal.enabled", havingValue = "true")
+public class FileUserJournal implements UserJournal {
+
+	private static final String LOG_PREFIX = "users-";
+	private static final String LOG_SUFFIX = ".wal";
+	private static final String SNAPSHOT_FILE = "users.snapshot";
+	private static final int SNAPSHOT_MAGIC = 0x55534E31; // "USN1"
+	private static final int RECORD_HEADER_SIZE = 8;
+
+	private final Path directory;
+	private final FsyncPolicy fsyncPolicy;
+	private final long fsyncIntervalMillis;
+	private final int maxBatchSize;
+	private final long snapshotIntervalSeconds;
+
+	private final BlockingQueue<PendingWrite> queue;
+	private final Object channelLock = new Object();
+	private FileChannel channel;
+	private long generation;
+
+	private volatile boolean running;
+	// 복구할 수 없는 기록 실패, 설정되면 이후 기록을 모두 거절
+	private volatile IOException failure;
+	private Thread writer;
+	private ScheduledExecutorService scheduler;
+	private Supplier<Collection<User>> snapshotSource;
+
+	public FileUserJournal(
+		@Value("${user.repository.journal.directory:./data/journal}") String directory,
+		@Value("${user.repository.journal.fsync:batched}") String fsyncPolicy,
+		@Value("${user.repository.journal.fsync-interval-millis:100}") long fsyncIntervalMillis,
+		@Value("${user.repository.journal.max-batch-size:256}") int maxBatchSize,
+		@Value("${user.repository.journal.snapshot-interval-seconds:300}") long snapshotIntervalSeconds) {
+		this.directory = Path.of(directory);
+		this.fsyncPolicy = FsyncPolicy.from(fsyncPolicy);
+		this.fsyncIntervalMillis = fsyncIntervalMillis;
+		this.maxBatchSize = maxBatchSize;
+		this.snapshotIntervalSeconds = snapshotIntervalSeconds;
+		this.queue = new ArrayBlockingQueue<>(maxBatchSize * 16);
+	}
+
+	@Override
+	public void open(Replayer replayer, Supplier<Collection<User>> snapshotSource) {
+		this.snapshotSource = snapshotSource;
+		try {
+			Files.createDirectories(directory);
+			long firstGeneration = loadSnapshot(replayer);
+			long lastGeneration = replayLogs(firstGeneration, replayer);
+			deleteLogsBefore(firstGeneration);
+
+			// 복구 후에는 항상 새 세대 로그에 기록
+			generation = lastGeneration + 1;
+			channel = openLog(generation);
+		} catch (IOException e) {
+			throw new UncheckedIOException("사용자 로그 복구 실패: " + directory, e);
+		}
+
+		running = true;
+		writer = new Thread(this::writeLoop, "user-journal-writer");
+		writer.setDaemon(true);
+		writer.start();
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "user-journal-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+			scheduler.scheduleWithFixedDelay(this::forceQuietly, fsyncIntervalMillis, fsyncIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+		if (snapshotIntervalSeconds > 0) {
+			scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalSeconds, snapshotIntervalSeconds,
+				TimeUnit.SECONDS);
+		}
+		log.info("User journal opened: directory={}, generation={}, fsync={}", directory, generation, fsyncPolicy);
+	}
+
+	@Override
+	public void appendSave(User user) {
+		append(UserRecordCodec.encodeSave(user));
+	}
+
+	@Override
+	public void appendDelete(long uuid) {
+		append(UserRecordCodec.encodeDelete(uuid));
+	}
+
+	@Override
+	public void appendDeleteAll() {
+		append(UserRecordCodec.encodeDeleteAll());
+	}
+
+	@PreDestroy
+	public void close() throws IOException, InterruptedException {
+		if (!running) {
+			return;
+		}
+		running = false;
+		writer.join();
+		scheduler.shutdownNow();
+		if (snapshotIntervalSeconds > 0) {
+			snapshotQuietly();
+		}
+		synchronized (channelLock) {
+			channel.force(true);
+			channel.close();
+		}
+	}
+
+	/**
+	 * 스냅샷 작성: 로그를 새 세대로 교체 -> 현재 상태 기록 -> 원자적 rename -> 이전 세대 로그 삭제
+	 * 교체 이전 기록은 snapshotSource가 진행 중인 쓰기의 반영을 기다린 뒤 읽으므로 스냅샷에 포함되고,
+	 * 교체 이후 기록은 새 로그에 남아 스냅샷 위에 다시 재생됨 (재생은 멱등)
+	 */
+	synchronized void snapshot() throws IOException {
+		long snapshotGeneration;
+		synchronized (channelLock) {
+			channel.force(true);
+			channel.close();
+			snapshotGeneration = ++generation;
+			channel = openLog(snapshotGeneration);
+		}
+
+		Collection<User> users = snapshotSource.get();
+		Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+		int count = 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+			List<byte[]> records = new ArrayList<>(users.size());
+			for (User user : users) {
+				records.add(UserRecordCodec.encodeSave(user));
+			}
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeLong(snapshotGeneration);
+			out.writeInt(records.size());
+			for (byte[] record : records) {
+				out.writeInt(record.length);
+				out.writeInt(crc(record));
+				out.write(record);
+			}
+			count = records.size();
+		}
+		try (FileChannel tmpChannel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+			tmpChannel.force(true);
+		}
+		Files.move(tmp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+			StandardCopyOption.REPLACE_EXISTING);
+		deleteLogsBefore(snapshotGeneration);
+		log.info("User snapshot written: users={}, generation={}", count, snapshotGeneration);
+	}
+
+	private void append(byte[] payload) {
+		if (!running) {
+			throw new IllegalStateException("사용자 로그가 열려 있지 않습니다");
+		}
+		if (failure != null) {
+			throw new IllegalStateException("사용자 로그 기록 실패로 쓰기 중단", failure);
+		}
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+		record.putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+
+		PendingWrite write = new PendingWrite(record, new CompletableFuture<>());
+		try {
+			// 대기열이 가득 차면 writer가 따라잡을 때까지 대기 (backpressure)
+			queue.put(write);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("사용자 로그 기록 중단", e);
+		}
+
+		if (fsyncPolicy != FsyncPolicy.INTERVAL) {
+			try {
+				write.done().join();
+			} catch (CompletionException e) {
+				throw new IllegalStateException("사용자 로그 기록 실패", e.getCause());
+			}
+		}
+	}
+
+	private void writeLoop() {
+		List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, maxBatchSize - 1);
+
+				IOException failed = failure;
+				if (failed != null) {
+					batch.forEach(write -> write.done().completeExceptionally(failed));
+				} else {
+					writeBatch(batch);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 배치 기록 후 정책에 따라 fsync, 디스크에 반영된 기록만 성공 처리
+	 * 실패하면 나머지 기록은 실패 처리하고 파일을 마지막 정상 위치로 잘라냄
+	 */
+	private void writeBatch(List<PendingWrite> batch) {
+		synchronized (channelLock) {
+			int completed = 0;
+			long committed = -1;
+			try {
+				committed = channel.size();
+				if (fsyncPolicy == FsyncPolicy.PER_OP) {
+					// 기록마다 fsync 후 바로 성공 처리 (뒤의 기록이 실패해도 앞의 기록은 유지)
+					for (PendingWrite write : batch) {
+						writeFully(write.record());
+						channel.force(false);
+						committed += write.record().limit();
+						write.done().complete(null);
+						completed++;
+					}
+					return;
+				}
+
+				ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+				for (int i = 0; i < buffers.length; i++) {
+					buffers[i] = batch.get(i).record();
+				}
+				while (buffers[buffers.length - 1].hasRemaining()) {
+					channel.write(buffers);
+				}
+				if (fsyncPolicy == FsyncPolicy.BATCHED) {
+					channel.force(false);
+				}
+				batch.forEach(write -> write.done().complete(null));
+			} catch (IOException e) {
+				log.error("사용자 로그 기록 실패: {}", e.getMessage(), e);
+				batch.subList(completed, batch.size()).forEach(write -> write.done().completeExceptionally(e));
+				discardUncommitted(committed, e);
+			}
+		}
+	}
+
+	/**
+	 * 실패한 기록의 부분 바이트를 잘라냄, 남겨 두면 이후 기록이 그 뒤에 붙고 재생이 깨진 레코드에서 멈춰
+	 * 그 뒤의 성공한 기록까지 사라짐
+	 * interval 정책은 호출자가 이미 성공으로 받은 기록이므로 잘라내지 않고 로그를 닫음
+	 */
+	private void discardUncommitted(long committed, IOException cause) {
+		if (committed >= 0 && fsyncPolicy != FsyncPolicy.INTERVAL) {
+			try {
+				channel.truncate(committed);
+				channel.force(false);
+				return;
+			} catch (IOException e) {
+				cause.addSuppressed(e);
+			}
+		}
+		failClosed(cause);
+	}
+
+	private void failClosed(IOException cause) {
+		if (failure == null) {
+			failure = cause;
+			log.error("사용자 로그를 복구할 수 없어 이후 기록을 거절합니다: {}", directory);
+		}
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private void forceQuietly() {
+		synchronized (channelLock) {
+			try {
+				channel.force(false);
+			} catch (IOException e) {
+				// 이미 성공으로 응답한 기록이 디스크에 남았는지 알 수 없으므로 이후 기록을 거절
+				log.error("사용자 로그 fsync 실패: {}", e.getMessage(), e);
+				failClosed(e);
+			}
+		}
+	}
+
+	private void snapshotQuietly() {
+		try {
+			snapshot();
+		} catch (IOException | RuntimeException e) {
+			log.error("사용자 스냅샷 작성 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	// 스냅샷이 있으면 적재 후 다음에 재생할 로그 세대 반환, 없으면 1
+	private long loadSnapshot(Replayer replayer) throws IOException {
+		Path snapshot = directory.resolve(SNAPSHOT_FILE);
+		if (!Files.exists(snapshot)) {
+			return 1L;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+			if (in.readInt() != SNAPSHOT_MAGIC) {
+				throw new IOException("스냅샷 형식 오류: " + snapshot);
+			}
+			long nextGeneration = in.readLong();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				byte[] payload = new byte[in.readInt()];
+				int expectedCrc = in.readInt();
+				in.readFully(payload);
+				if (crc(payload) != expectedCrc) {
+					throw new IOException("스냅샷 체크섬 불일치: " + snapshot);
+				}
+				UserRecordCodec.apply(ByteBuffer.wrap(payload), replayer);
+			}
+			log.info("User snapshot loaded: users={}, next generation={}", count, nextGeneration);
+			return nextGeneration;
+		}
+	}
+
+	// firstGeneration 이상의 로그를 세대 순으로 재생, 마지막으로 재생한 세대 반환
+	private long replayLogs(long firstGeneration, Replayer replayer) throws IOException {
+		long lastGeneration = firstGeneration - 1;
+		for (long logGeneration : logGenerations()) {
+			if (logGeneration < firstGeneration) {
+				continue;
+			}
+			replayLog(logPath(logGeneration), replayer);
+			lastGeneration = logGeneration;
+		}
+		return lastGeneration;
+	}
+
+	private void replayLog(Path path, Replayer replayer) throws IOException {
+		long validLength = 0;
+		int records = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			while (true) {
+				int length;
+				try {
+					length = in.readInt();
+				} catch (EOFException e) {
+					break;
+				}
+				try {
+					int expectedCrc = in.readInt();
+					if (length <= 0 || length > (1 << 20)) {
+						break;
+					}
+					byte[] payload = new byte[length];
+					in.readFully(payload);
+					if (crc(payload) != expectedCrc) {
+						break;
+					}
+					UserRecordCodec.apply(ByteBuffer.wrap(payload), replayer);
+				} catch (EOFException e) {
+					break;
+				}
+				validLength += RECORD_HEADER_SIZE + length;
+				records++;
+			}
+		}
+
+		// 기록 도중 종료되어 끝부분이 깨진 레코드는 잘라냄
+		if (validLength < Files.size(path)) {
+			log.warn("User journal {} truncated from {} to {} bytes", path, Files.size(path), validLength);
+			try (FileChannel truncate = FileChannel.open(path, StandardOpenOption.WRITE)) {
+				truncate.truncate(validLength);
+			}
+		}
+		log.info("User journal replayed: {} ({} records)", path.getFileName(), records);
+	}
+
+	private List<Long> logGenerations() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.map(path -> path.getFileName().toString())
+				.filter(name -> name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX))
+				.map(name -> name.substring(LOG_PREFIX.length(), name.length() - LOG_SUFFIX.length()))
+				.filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+				.map(Long::parseLong)
+				.sorted()
+				.toList();
+		}
+	}
+
+	private void deleteLogsBefore(long generation) throws IOException {
+		for (long logGeneration : logGenerations()) {
+			if (logGeneration < generation) {
+				Files.deleteIfExists(logPath(logGeneration));
+			}
+		}
+	}
+
+	private FileChannel openLog(long logGeneration) throws IOException {
+		return FileChannel.open(logPath(logGeneration),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+
+	private Path logPath(long logGeneration) {
+		return directory.resolve(String.format("%s%020d%s", LOG_PREFIX, logGeneration, LOG_SUFFIX));
+	}
+
+	private static int crc(byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		return (int)crc.getValue();
+	}
+
+	private record PendingWrite(ByteBuffer record, CompletableFuture<Void> done) {
+	}
+}
@@ -0,0 +1,20 @@
+package org.personal.template.domain.repository.journal;
+
+import java.util.Locale;
+
+/**
+ * 로그 fsync 시점
+ */
+public enum FsyncPolicy {
+	// 기록마다 fsync, 호출자는 fsync 완료까지 대기
+	PER_OP,
+	// 한 번에 모인 기록(group commit)마다 fsync, 호출자는 해당 묶음의 fsync 완료까지 대기
+	BATCHED,
+	// 일정 주기로 fsync, 호출자는 대기하지 않음 (주기 내 기록은 유실 가능)
+	INTERVAL,
+	;
+
+	public static FsyncPolicy from(String value) {
+		return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,36 @@
+package org.personal.template.domain.repository.journal;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.personal.template.domain.entity.User;
+
+/**
+ * 사용자 저장소 변경 내역 영속화 (write-ahead log + 스냅샷)
+ * 저장소는 메모리 상태에 반영하기 전에 append 하고 (실패하면 반영하지 않음), 기동 시 open()으로 상태를 복구
+ * append는 fsync 정책이 INTERVAL이 아니면 기록이 끝날 때까지 기다림
+ */
+public interface UserJournal {
+
+	/**
+	 * 스냅샷과 로그를 재생하여 상태를 복구한 뒤 기록 시작
+	 * @param replayer 복구된 변경 내역을 저장소에 반영 (다시 기록하지 않음)
+	 * @param snapshotSource 주기적 스냅샷 작성 시 현재 전체 사용자 조회
+	 */
+	void open(Replayer replayer, Supplier<Collection<User>> snapshotSource);
+
+	void appendSave(User user);
+
+	void appendDelete(long uuid);
+
+	void appendDeleteAll();
+
+	interface Replayer {
+
+		void replaySave(User user);
+
+		void replayDelete(long uuid);
+
+		void replayDeleteAll();
+	}
+}
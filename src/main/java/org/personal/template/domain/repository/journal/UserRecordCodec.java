@@ -0,0 +1,98 @@
+package org.personal.template.domain.repository.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.infrastructure.security.Role;
+
+/**
+ * 로그/스냅샷 공용 바이너리 레코드 형식
+ * SAVE: op(1) uuid(8) role(1) [len(2) bytes] x3 (email, password, username), len -1 = null
+ * DELETE: op(1) uuid(8)
+ * DELETE_ALL: op(1)
+ */
+final class UserRecordCodec {
+
+	static final byte OP_SAVE = 1;
+	static final byte OP_DELETE = 2;
+	static final byte OP_DELETE_ALL = 3;
+
+	// ordinal 기반 저장이므로 Role 상수 순서를 바꾸면 안 됨
+	private static final Role[] ROLES = Role.values();
+
+	private UserRecordCodec() {
+	}
+
+	static byte[] encodeSave(User user) {
+		byte[] email = bytes(user.getEmail());
+		byte[] password = bytes(user.getPassword());
+		byte[] username = bytes(user.getUsername());
+
+		ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + 1 + 6 + length(email) + length(password) + length(username));
+		buffer.put(OP_SAVE);
+		buffer.putLong(user.getUuid());
+		buffer.put(user.getRole() == null ? 0 : (byte)(user.getRole().ordinal() + 1));
+		putBytes(buffer, email);
+		putBytes(buffer, password);
+		putBytes(buffer, username);
+		return buffer.array();
+	}
+
+	static byte[] encodeDelete(long uuid) {
+		return ByteBuffer.allocate(9).put(OP_DELETE).putLong(uuid).array();
+	}
+
+	static byte[] encodeDeleteAll() {
+		return new byte[] {OP_DELETE_ALL};
+	}
+
+	static void apply(ByteBuffer payload, UserJournal.Replayer replayer) {
+		byte op = payload.get();
+		switch (op) {
+			case OP_SAVE -> replayer.replaySave(decodeSave(payload));
+			case OP_DELETE -> replayer.replayDelete(payload.getLong());
+			case OP_DELETE_ALL -> replayer.replayDeleteAll();
+			default -> throw new IllegalStateException("알 수 없는 로그 레코드: " + op);
+		}
+	}
+
+	// op 바이트 이후부터 읽음
+	static User decodeSave(ByteBuffer payload) {
+		User user = new User();
+		user.setUuid(payload.getLong());
+		byte role = payload.get();
+		user.setRole(role == 0 ? null : ROLES[role - 1]);
+		user.setEmail(getString(payload));
+		user.setPassword(getString(payload));
+		user.setUsername(getString(payload));
+		return user;
+	}
+
+	private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+		if (bytes == null) {
+			buffer.putShort((short)-1);
+			return;
+		}
+		buffer.putShort((short)bytes.length);
+		buffer.put(bytes);
+	}
+
+	private static String getString(ByteBuffer buffer) {
+		short length = buffer.getShort();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] bytes(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static int length(byte[] bytes) {
+		return bytes == null ? 0 : bytes.length;
+	}
+}
@@ -0,0 +1,151 @@
+package org.personal.template.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 엔트리별 만료 시각을 갖는 크기 제한 LRU 캐시
+ * - 키 해시로 세그먼트를 나눠 세그먼트 단위로만 잠금 (전역 잠금 없음)
+ * - 세그먼트마다 maximumSize / segmentCount 개를 넘으면 가장 오래 사용되지 않은 엔트리 제거
+ */
+public class ExpiringLruCache<K, V> {
+
+	private final Segment<K, V>[] segments;
+	private final int segmentMask;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	@SuppressWarnings("unchecked")
+	public ExpiringLruCache(int maximumSize, int concurrencyLevel) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		// 세그먼트 수는 2의 거듭제곱으로 맞춰 비트 마스크로 선택
+		int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, maximumSize)));
+		int perSegment = Math.max(1, maximumSize / segmentCount);
+
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment<>(perSegment, evictions);
+		}
+		this.segmentMask = segmentCount - 1;
+	}
+
+	/**
+	 * 만료되지 않은 값을 반환, 없거나 만료되었으면 null
+	 */
+	public V get(K key, long nowMillis) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			Entry<V> entry = segment.get(key);
+			if (entry == null) {
+				value = null;
+			} else if (entry.expiresAtMillis <= nowMillis) {
+				segment.remove(key);
+				value = null;
+			} else {
+				value = entry.value;
+			}
+		}
+		(value == null ? misses : hits).increment();
+		return value;
+	}
+
+	public void put(K key, V value, long expiresAtMillis) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.put(key, new Entry<>(value, expiresAtMillis));
+		}
+	}
+
+	/**
+	 * 만료되지 않은 값이 있으면 그 값, 없으면 factory로 만든 값을 넣고 반환 (세그먼트 잠금 안에서 한 번에 처리)
+	 * 어느 쪽이든 만료 시각은 expiresAtMillis로 갱신
+	 */
+	public V getOrCreate(K key, Supplier<? extends V> factory, long nowMillis, long expiresAtMillis) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		boolean hit;
+		synchronized (segment) {
+			Entry<V> entry = segment.get(key);
+			hit = entry != null && entry.expiresAtMillis > nowMillis;
+			value = hit ? entry.value : factory.get();
+			segment.put(key, new Entry<>(value, expiresAtMillis));
+		}
+		(hit ? hits : misses).increment();
+		return value;
+	}
+
+	public void invalidate(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.remove(key);
+		}
+	}
+
+	public void invalidateAll() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	public long size() {
+		long size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return segments[h & segmentMask];
+	}
+
+	private record Entry<V>(V value, long expiresAtMillis) {
+	}
+
+	// accessOrder = true 인 LinkedHashMap, 반드시 세그먼트 모니터를 잡고 접근
+	private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+		private final int capacity;
+		private final LongAdder evictions;
+
+		Segment(int capacity, LongAdder evictions) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
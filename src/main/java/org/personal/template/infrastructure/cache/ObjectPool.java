@@ -0,0 +1,52 @@
+package org.personal.template.infrastructure.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 스레드에 묶이지 않는 소형 객체 풀 (Mac, MessageDigest처럼 thread-safe 하지 않고 생성 비용이 있는 객체용)
+ * - ThreadLocal 캐시는 요청마다 새 스레드를 쓰는 가상 스레드 환경에서 재사용되지 않으므로 대신 사용
+ * - 락 없이 슬롯 배열을 CAS로 비우고 채움, 빈 풀이면 새로 만들고 반납할 자리가 없으면 버림
+ */
+public final class ObjectPool<T> {
+
+	private final AtomicReferenceArray<T> slots;
+	private final Supplier<T> factory;
+
+	public ObjectPool(int size, Supplier<T> factory) {
+		this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+		this.factory = factory;
+	}
+
+	/**
+	 * 코어 수의 2배 슬롯
+	 */
+	public static <T> ObjectPool<T> forProcessors(Supplier<T> factory) {
+		return new ObjectPool<>(Runtime.getRuntime().availableProcessors() * 2, factory);
+	}
+
+	public T acquire() {
+		int length = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(length);
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+			T value = slots.get(index);
+			if (value != null && slots.compareAndSet(index, value, null)) {
+				return value;
+			}
+		}
+		return factory.get();
+	}
+
+	public void release(T value) {
+		int length = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(length);
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+			if (slots.get(index) == null && slots.compareAndSet(index, null, value)) {
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package org.personal.template.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 일정 시간이 지나면 오래된 키를 잊는 Bloom filter (현재/이전 두 세대)
+ * - add는 현재 세대에만 기록, 조회는 두 세대를 모두 확인
+ * - rotationMillis마다 현재 -> 이전으로 밀려나므로, 추가된 키는 최소 rotationMillis 동안 유지됨
+ * - false positive는 있을 수 있지만 유지 기간 안의 false negative는 없음 (정확한 확인은 호출 측 책임)
+ * - 비트 배열은 CAS로만 갱신하므로 조회/추가 모두 잠금 없음
+ */
+public class RotatingBloomFilter {
+
+	private final int bitMask;
+	private final int hashCount;
+	private final long rotationMillis;
+	// 필터마다 비밀 키를 둔 해시 (String.hashCode가 같은 키끼리 같은 비트를 켜지 않게)
+	private final SipHash hasher = SipHash.random();
+
+	private volatile Generation generation;
+
+	/**
+	 * @param expectedKeys 한 세대에 들어갈 것으로 예상하는 키 수
+	 * @param bitsPerKey 키당 비트 수 (10이면 false positive 약 1%)
+	 */
+	public RotatingBloomFilter(int expectedKeys, int bitsPerKey, long rotationMillis, long nowMillis) {
+		if (expectedKeys <= 0 || bitsPerKey <= 0 || rotationMillis <= 0) {
+			throw new IllegalArgumentException("expectedKeys, bitsPerKey, rotationMillis must be positive");
+		}
+		// 비트 수는 2의 거듭제곱으로 맞춰 비트 마스크로 위치 선택 (최소 64비트)
+		long bits = Math.max(64L, (long)expectedKeys * bitsPerKey);
+		int bitCount = (int)Math.min(1L << 30, Long.highestOneBit(bits - 1) << 1);
+		this.bitMask = bitCount - 1;
+		// 최적 해시 수 = bitsPerKey * ln2
+		this.hashCount = Math.max(1, (int)Math.round(bitsPerKey * Math.log(2)));
+		this.rotationMillis = rotationMillis;
+		this.generation = new Generation(new AtomicLongArray(bitCount >>> 6), new AtomicLongArray(bitCount >>> 6),
+			nowMillis);
+	}
+
+	public void add(String key, long nowMillis) {
+		AtomicLongArray bits = rotateIfNeeded(nowMillis).current;
+		long hash = hash64(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for (int i = 0; i < hashCount; i++) {
+			int bit = (h1 + i * h2) & bitMask;
+			int word = bit >>> 6;
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String key, long nowMillis) {
+		Generation g = rotateIfNeeded(nowMillis);
+		long hash = hash64(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		return contains(g.current, h1, h2) || contains(g.previous, h1, h2);
+	}
+
+	private boolean contains(AtomicLongArray bits, int h1, int h2) {
+		for (int i = 0; i < hashCount; i++) {
+			int bit = (h1 + i * h2) & bitMask;
+			if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Generation rotateIfNeeded(long nowMillis) {
+		Generation g = generation;
+		if (nowMillis - g.startedAtMillis < rotationMillis) {
+			return g;
+		}
+		synchronized (this) {
+			g = generation;
+			if (nowMillis - g.startedAtMillis >= rotationMillis) {
+				// 두 세대 이상 지났으면 이전 세대도 비움
+				AtomicLongArray previous = nowMillis - g.startedAtMillis >= 2 * rotationMillis
+					? new AtomicLongArray(g.current.length()) : g.current;
+				g = new Generation(new AtomicLongArray(g.current.length()), previous, nowMillis);
+				generation = g;
+			}
+			return g;
+		}
+	}
+
+	// 하위/상위 32비트를 두 해시로 사용 (h2는 홀수)
+	private long hash64(String key) {
+		return hasher.hash(key) | (1L << 32);
+	}
+
+	private record Generation(AtomicLongArray current, AtomicLongArray previous, long startedAtMillis) {
+	}
+}
@@ -0,0 +1,80 @@
+package org.personal.template.infrastructure.cache;
+
+import java.security.SecureRandom;
+
+/**
+ * 비밀 키를 가진 SipHash-2-4 (외부 입력을 키로 쓰는 해시 테이블/스케치용)
+ * - String.hashCode는 충돌 문자열을 쉽게 만들 수 있어, 공개 API로 들어온 키가 한 슬롯/카운터에 몰리게 할 수 있음
+ * - 키를 모르면 충돌을 미리 계산할 수 없으므로 인스턴스마다 random()으로 만든 키 사용
+ * - 입력은 문자열의 UTF-16LE 바이트 (문자 4개씩 64비트 워드로 처리, 바이트 배열을 만들지 않음)
+ */
+public final class SipHash {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final long k0;
+	private final long k1;
+
+	public SipHash(long k0, long k1) {
+		this.k0 = k0;
+		this.k1 = k1;
+	}
+
+	public static SipHash random() {
+		return new SipHash(RANDOM.nextLong(), RANDOM.nextLong());
+	}
+
+	public long hash(CharSequence key) {
+		long v0 = k0 ^ 0x736F6D6570736575L;
+		long v1 = k1 ^ 0x646F72616E646F6DL;
+		long v2 = k0 ^ 0x6C7967656E657261L;
+		long v3 = k1 ^ 0x7465646279746573L;
+
+		int length = key.length();
+		int end = length & ~3;
+		// 문자 4개씩 한 워드, 마지막 워드는 남은 문자 + 최상위 바이트에 전체 바이트 길이
+		for (int i = 0; i <= end; i += 4) {
+			long m;
+			if (i < end) {
+				m = key.charAt(i)
+					| (long)key.charAt(i + 1) << 16
+					| (long)key.charAt(i + 2) << 32
+					| (long)key.charAt(i + 3) << 48;
+			} else {
+				m = (long)(length << 1) << 56;
+				for (int j = end; j < length; j++) {
+					m |= (long)key.charAt(j) << ((j - end) << 4);
+				}
+			}
+			v3 ^= m;
+			for (int round = 0; round < 2; round++) {
+				v0 += v1;
+				v1 = Long.rotateLeft(v1, 13) ^ v0;
+				v0 = Long.rotateLeft(v0, 32);
+				v2 += v3;
+				v3 = Long.rotateLeft(v3, 16) ^ v2;
+				v0 += v3;
+				v3 = Long.rotateLeft(v3, 21) ^ v0;
+				v2 += v1;
+				v1 = Long.rotateLeft(v1, 17) ^ v2;
+				v2 = Long.rotateLeft(v2, 32);
+			}
+			v0 ^= m;
+		}
+
+		v2 ^= 0xFF;
+		for (int round = 0; round < 4; round++) {
+			v0 += v1;
+			v1 = Long.rotateLeft(v1, 13) ^ v0;
+			v0 = Long.rotateLeft(v0, 32);
+			v2 += v3;
+			v3 = Long.rotateLeft(v3, 16) ^ v2;
+			v0 += v3;
+			v3 = Long.rotateLeft(v3, 21) ^ v0;
+			v2 += v1;
+			v1 = Long.rotateLeft(v1, 17) ^ v2;
+			v2 = Long.rotateLeft(v2, 32);
+		}
+		return v0 ^ v1 ^ v2 ^ v3;
+	}
+}
@@ -0,0 +1,111 @@
+package org.personal.template.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 키별 최근 windowMillis 동안의 발생 횟수를 고정 메모리로 추정하는 count-min sketch (현재/이전 두 세대)
+ * - 추정치 = 현재 세대 건수 + 이전 세대 건수 x (현재 세대에서 아직 지나지 않은 비율) (슬라이딩 윈도우 근사)
+ * - 키 수와 무관하게 메모리는 DEPTH x width 개의 int, 해시 충돌로 과대 추정은 있어도 과소 추정은 없음
+ * - 카운터는 원자적 증가만 사용하므로 기록/조회 모두 잠금 없음 (세대 교체만 동기화, windowMillis마다 한 번)
+ */
+public class SlidingWindowSketch {
+
+	private static final int DEPTH = 4;
+
+	private final int width;
+	private final int widthMask;
+	private final long windowMillis;
+	// 스케치마다 비밀 키를 둔 해시, 충돌 키를 미리 만들 수 없으므로 남의 IP 카운터를 부풀릴 수 없음
+	private final SipHash hasher = SipHash.random();
+
+	private volatile Generation generation;
+
+	/**
+	 * @param width 행당 카운터 수 (2의 거듭제곱으로 올림), 추적할 활성 키 수보다 충분히 크게
+	 */
+	public SlidingWindowSketch(int width, long windowMillis, long nowMillis) {
+		if (width <= 0 || windowMillis <= 0) {
+			throw new IllegalArgumentException("width, windowMillis must be positive");
+		}
+		this.width = Math.max(64, Integer.highestOneBit(Math.min(width, 1 << 24) - 1) << 1);
+		this.widthMask = this.width - 1;
+		this.windowMillis = windowMillis;
+		this.generation = new Generation(new AtomicIntegerArray(DEPTH * this.width),
+			new AtomicIntegerArray(DEPTH * this.width), nowMillis);
+	}
+
+	/**
+	 * 한 번 기록하고 기록 후의 추정치 반환
+	 */
+	public int add(String key, long nowMillis) {
+		Generation g = rotateIfNeeded(nowMillis);
+		long hash = hash64(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		int current = Integer.MAX_VALUE;
+		int previous = Integer.MAX_VALUE;
+		for (int i = 0; i < DEPTH; i++) {
+			int index = index(i, h1, h2);
+			current = Math.min(current, g.current.incrementAndGet(index));
+			previous = Math.min(previous, g.previous.get(index));
+		}
+		return estimate(g, current, previous, nowMillis);
+	}
+
+	public int estimate(String key, long nowMillis) {
+		Generation g = rotateIfNeeded(nowMillis);
+		long hash = hash64(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		int current = Integer.MAX_VALUE;
+		int previous = Integer.MAX_VALUE;
+		for (int i = 0; i < DEPTH; i++) {
+			int index = index(i, h1, h2);
+			current = Math.min(current, g.current.get(index));
+			previous = Math.min(previous, g.previous.get(index));
+		}
+		return estimate(g, current, previous, nowMillis);
+	}
+
+	/**
+	 * 현재 세대가 끝날 때까지 남은 시간 (Retry-After 계산용)
+	 */
+	public long millisUntilRotation(long nowMillis) {
+		return Math.max(0, generation.startedAtMillis + windowMillis - nowMillis);
+	}
+
+	private int index(int row, int h1, int h2) {
+		return row * width + ((h1 + row * h2) & widthMask);
+	}
+
+	private int estimate(Generation g, int current, int previous, long nowMillis) {
+		long elapsed = Math.min(windowMillis, Math.max(0, nowMillis - g.startedAtMillis));
+		return current + (int)(previous * (windowMillis - elapsed) / windowMillis);
+	}
+
+	private Generation rotateIfNeeded(long nowMillis) {
+		Generation g = generation;
+		if (nowMillis - g.startedAtMillis < windowMillis) {
+			return g;
+		}
+		synchronized (this) {
+			g = generation;
+			if (nowMillis - g.startedAtMillis >= windowMillis) {
+				// 두 세대 이상 지났으면 이전 세대도 비움
+				AtomicIntegerArray previous = nowMillis - g.startedAtMillis >= 2 * windowMillis
+					? new AtomicIntegerArray(g.current.length()) : g.current;
+				g = new Generation(new AtomicIntegerArray(g.current.length()), previous, nowMillis);
+				generation = g;
+			}
+			return g;
+		}
+	}
+
+	// 64비트 해시 하나에서 행마다 다른 위치 (h1 + row x h2, h2는 홀수)
+	private long hash64(String key) {
+		return hasher.hash(key) | (1L << 32);
+	}
+
+	private record Generation(AtomicIntegerArray current, AtomicIntegerArray previous, long startedAtMillis) {
+	}
+}
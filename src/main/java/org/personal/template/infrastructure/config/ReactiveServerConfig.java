@@ -0,0 +1,22 @@
+package org.personal.template.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * reactive 프로필의 내장 서버를 Netty로 고정
+ * - 서블릿 모드용 spring-boot-starter-web(Tomcat)이 함께 클래스패스에 있고, Boot의 reactive 서버 자동 설정은
+ *   Tomcat을 Netty보다 먼저 고르므로, 팩토리를 직접 등록하지 않으면 WebFlux가 Tomcat 위에서 실행됨
+ * - server.port, server.netty.* 설정은 WebServerFactoryCustomizer로 그대로 적용됨
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+	@Bean
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+}
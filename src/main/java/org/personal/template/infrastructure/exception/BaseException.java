@@ -57,4 +57,18 @@ public class BaseException extends RuntimeException {
 		super(cause);
 		this.errorCode = errorCode;
 	}
+
+	// 스택 트레이스/suppressed 없이 만드는 생성자 (원인도 고정되어 여러 스레드가 같은 인스턴스를 던져도 안전)
+	protected BaseException(Code errorCode, String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+		this.errorCode = errorCode;
+	}
+
+	/**
+	 * 제어 흐름용 예외 (잘못된 토큰, 폐기된 토큰처럼 자주 발생하고 응답 코드만 필요한 경우)
+	 * 스택 트레이스를 채우지 않으므로 생성 비용이 일반 예외보다 훨씬 작음
+	 */
+	public static BaseException stackless(Code errorCode, String message) {
+		return new BaseException(errorCode, message, false);
+	}
 }
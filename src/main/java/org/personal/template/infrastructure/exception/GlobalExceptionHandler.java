@@ -2,13 +2,18 @@ package org.personal.template.infrastructure.exception;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
+import java.util.List;
+
 import org.personal.template.infrastructure.response.ApiResponseData;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,11 +40,31 @@ public class GlobalExceptionHandler {
 				ApiResponseData.failure(e.getErrorCode().getCode(), e.getErrorCode().getMessage()));
 	}
 
+	@ExceptionHandler(RetryLaterException.class)
+	public ResponseEntity<ApiResponseData<String>> handleRetryLaterException(RetryLaterException e) {
+		return ResponseEntity.status(e.getErrorCode().getStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(
+				ApiResponseData.failure(e.getErrorCode().getCode(), e.getErrorCode().getMessage()));
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ApiResponseData<Object>> handleMethodArgumentNotValidException(
 		MethodArgumentNotValidException e) {
+		return ResponseEntity.status(BAD_REQUEST)
+			.body(ApiResponseData.failure(0, joinMessages(e.getBindingResult().getFieldErrors())));
+	}
+
+	// WebFlux(reactive 프로필)에서 @Valid 실패 시 발생
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ApiResponseData<Object>> handleWebExchangeBindException(WebExchangeBindException e) {
+		return ResponseEntity.status(BAD_REQUEST)
+			.body(ApiResponseData.failure(0, joinMessages(e.getFieldErrors())));
+	}
+
+	private static String joinMessages(List<FieldError> fieldErrors) {
 		StringBuilder sb = new StringBuilder();
-		e.getBindingResult().getFieldErrors()
+		fieldErrors
 			.stream().map(DefaultMessageSourceResolvable::getDefaultMessage)
 			.forEach(message -> sb.append(message).append("\n"));
 
@@ -47,7 +72,6 @@ public class GlobalExceptionHandler {
 			sb.deleteCharAt(sb.length() - 1);  // 마지막 문자가 개행 문자라면 삭제
 		}
 
-		String errorMessages = sb.toString();
-		return ResponseEntity.status(BAD_REQUEST).body(ApiResponseData.failure(0, errorMessages));
+		return sb.toString();
 	}
 }
@@ -0,0 +1,20 @@
+package org.personal.template.infrastructure.exception;
+
+import org.personal.template.infrastructure.response.Code;
+
+import lombok.Getter;
+
+/**
+ * 과부하 등으로 요청을 즉시 거절할 때 사용
+ * GlobalExceptionHandler가 errorCode의 HTTP 상태와 Retry-After 헤더로 응답
+ */
+@Getter
+public class RetryLaterException extends BaseException {
+
+	private final long retryAfterSeconds;
+
+	public RetryLaterException(Code errorCode, String message, long retryAfterSeconds) {
+		super(errorCode, message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
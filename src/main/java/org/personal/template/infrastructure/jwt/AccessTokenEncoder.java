@@ -0,0 +1,170 @@
+package org.personal.template.infrastructure.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.personal.template.infrastructure.cache.ObjectPool;
+import org.personal.template.infrastructure.security.Role;
+
+/**
+ * 액세스 토큰 전용 HS256 JWT 인코더
+ * - 헤더는 고정값이므로 미리 인코딩해 두고, 페이로드는 username/email/auth/sub/iat/exp 고정 형태로 직접 작성
+ * - Mac은 thread-safe 하지 않으므로 풀에서 빌려 쓰고 반납 (가상 스레드에서도 재사용되도록 ThreadLocal 대신 풀 사용)
+ * - 결과 토큰은 jjwt 파서로 그대로 검증 가능
+ * - verifySignature: 같은 키로 서명만 먼저 확인 (예외/문자열 복사 없이, 위조 토큰을 jjwt 파싱 전에 거절)
+ */
+public final class AccessTokenEncoder {
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+	private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+	// {"alg":"HS256"}
+	static final String HEADER_SEGMENT = URL_ENCODER.encodeToString(
+		"{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	// HMAC-SHA256 출력 길이
+	private static final int SIGNATURE_BYTES = 32;
+
+	// base64url 문자 -> 6비트 값 (BearerTokenScanner가 문자 범위를 먼저 확인)
+	private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+	static {
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (int i = 0; i < alphabet.length(); i++) {
+			BASE64_URL_VALUES[alphabet.charAt(i)] = (byte)i;
+		}
+	}
+
+	private final ObjectPool<Signer> signers;
+
+	public AccessTokenEncoder(Key key) {
+		SecretKeySpec macKey = new SecretKeySpec(key.getEncoded(), MAC_ALGORITHM);
+		// 생성 시점에 키/알고리즘 오류를 드러내기 위해 한 번 초기화
+		newMac(macKey);
+		this.signers = ObjectPool.forProcessors(() -> new Signer(newMac(macKey),
+			new byte[BearerTokenScanner.MAX_TOKEN_LENGTH], new byte[SIGNATURE_BYTES], new byte[SIGNATURE_BYTES]));
+	}
+
+	/**
+	 * 서명된 compact JWT 반환 (Bearer prefix 없음)
+	 */
+	public String encode(String email, String username, Role role, long issuedAtSeconds, long expiresAtSeconds) {
+		StringBuilder json = new StringBuilder(256);
+		json.append("{\"").append(JWTUtil.AUTHORIZATION_KEY).append("\":");
+		appendString(json, role.name());
+		json.append(",\"").append(JWTUtil.EMAIL_KEY).append("\":");
+		appendString(json, email);
+		json.append(",\"").append(JWTUtil.USERNAME_KEY).append("\":");
+		appendString(json, username);
+		json.append(",\"sub\":");
+		appendString(json, email);
+		json.append(",\"iat\":").append(issuedAtSeconds);
+		json.append(",\"exp\":").append(expiresAtSeconds);
+		json.append('}');
+
+		String payloadSegment = URL_ENCODER.encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+
+		json.setLength(0);
+		json.append(HEADER_SEGMENT).append('.').append(payloadSegment);
+		Signer signer = signers.acquire();
+		byte[] signature;
+		try {
+			signature = signer.mac().doFinal(json.toString().getBytes(StandardCharsets.US_ASCII));
+		} finally {
+			signers.release(signer);
+		}
+		json.append('.').append(URL_ENCODER.encodeToString(signature));
+		return json.toString();
+	}
+
+	/**
+	 * source[start, secondDot)(헤더.페이로드)의 서명이 secondDot 뒤 43자 서명과 일치하는지 확인
+	 * BearerTokenScanner를 통과한 구간만 넘겨야 함 (ASCII, 길이 제한, 서명 길이 보장)
+	 */
+	boolean verifySignature(CharSequence source, int start, int secondDot) {
+		Signer signer = signers.acquire();
+		try {
+			byte[] input = signer.input();
+			int length = secondDot - start;
+			for (int i = 0; i < length; i++) {
+				input[i] = (byte)source.charAt(start + i);
+			}
+			Mac mac = signer.mac();
+			mac.update(input, 0, length);
+			mac.doFinal(signer.expected(), 0);
+
+			return decodeSignature(source, secondDot + 1, signer.actual())
+				&& MessageDigest.isEqual(signer.expected(), signer.actual());
+		} catch (ShortBufferException e) {
+			throw new IllegalStateException("HS256 서명 버퍼 크기 오류", e);
+		} finally {
+			signers.release(signer);
+		}
+	}
+
+	// 패딩 없는 43자 base64url -> 32바이트, 마지막 문자의 남는 2비트가 0이 아니면(비정규 인코딩) false
+	private static boolean decodeSignature(CharSequence source, int from, byte[] out) {
+		int buffer = 0;
+		int bits = 0;
+		int written = 0;
+		int to = from + BearerTokenScanner.SIGNATURE_LENGTH;
+		for (int i = from; i < to; i++) {
+			buffer = ((buffer << 6) | BASE64_URL_VALUES[source.charAt(i)]) & 0xFFFF;
+			bits += 6;
+			if (bits >= 8) {
+				bits -= 8;
+				out[written++] = (byte)(buffer >> bits);
+			}
+		}
+		return written == SIGNATURE_BYTES && (buffer & ((1 << bits) - 1)) == 0;
+	}
+
+	private static void appendString(StringBuilder json, String value) {
+		if (value == null) {
+			json.append("null");
+			return;
+		}
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\n' -> json.append("\\n");
+				case '\r' -> json.append("\\r");
+				case '\t' -> json.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+					} else {
+						json.append(c);
+					}
+				}
+			}
+		}
+		json.append('"');
+	}
+
+	private static Mac newMac(SecretKeySpec key) {
+		try {
+			Mac mac = Mac.getInstance(MAC_ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new IllegalStateException("HS256 서명 키 초기화 실패", e);
+		}
+	}
+
+	// Mac과 서명 확인용 버퍼를 함께 풀에 보관 (요청마다 배열을 새로 만들지 않음)
+	private record Signer(Mac mac, byte[] input, byte[] expected, byte[] actual) {
+	}
+}
@@ -0,0 +1,130 @@
+package org.personal.template.infrastructure.jwt;
+
+/**
+ * Authorization 헤더/compact JWT 사전 검사 (문자열 복사, Base64 디코딩, 예외 없이 인덱스만 계산)
+ * - 이 서버가 발급하는 형태만 통과: 고정 헤더 세그먼트({"alg":"HS256"}), 비어 있지 않은 페이로드, 43자 HS256 서명
+ * - 세 세그먼트 모두 base64url 문자만 허용, 전체 길이는 MAX_TOKEN_LENGTH 이하
+ * - 결과는 (시작, 첫 번째 '.', 두 번째 '.') 위치를 21비트씩 묶은 long, 실패는 음수 상수
+ * 스캐너가 보내는 형식이 깨진 헤더는 서명 검증/파싱 전에 여기서 걸러짐
+ */
+final class BearerTokenScanner {
+
+	// 정상 토큰은 300자 내외, 여유를 두되 비정상적으로 긴 헤더는 바로 거절
+	static final int MAX_TOKEN_LENGTH = 2048;
+
+	// Authorization 헤더가 없거나 Bearer 형식이 아님 (JWT 인증 대상 아님)
+	static final long NO_TOKEN = -1L;
+	// "Bearer " 뒤가 비어 있음
+	static final long EMPTY = -2L;
+	// 형식 오류 (길이 초과, 허용되지 않는 문자, 세그먼트 수/헤더/서명 길이 불일치)
+	static final long MALFORMED = -3L;
+
+	// HMAC-SHA256 32바이트의 패딩 없는 base64url 길이
+	static final int SIGNATURE_LENGTH = 43;
+	private static final String HEADER_SEGMENT = AccessTokenEncoder.HEADER_SEGMENT;
+	private static final int BEARER_LENGTH = JWTUtil.BEARER_PREFIX.length();
+
+	private static final int INDEX_BITS = 21;
+	private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+	// base64url 문자표 (A-Z a-z 0-9 - _)
+	private static final boolean[] BASE64_URL = new boolean[128];
+
+	static {
+		for (char c = 'A'; c <= 'Z'; c++) {
+			BASE64_URL[c] = true;
+		}
+		for (char c = 'a'; c <= 'z'; c++) {
+			BASE64_URL[c] = true;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			BASE64_URL[c] = true;
+		}
+		BASE64_URL['-'] = true;
+		BASE64_URL['_'] = true;
+	}
+
+	private BearerTokenScanner() {
+	}
+
+	/**
+	 * "Bearer <jwt>" 헤더 검사
+	 */
+	static long scanHeader(CharSequence header) {
+		if (header == null || header.length() < BEARER_LENGTH || !startsWithBearer(header)) {
+			return NO_TOKEN;
+		}
+		return scanCompact(header, BEARER_LENGTH, header.length());
+	}
+
+	/**
+	 * source[start, end) 구간의 compact JWT 검사
+	 */
+	static long scanCompact(CharSequence source, int start, int end) {
+		int length = end - start;
+		if (length <= 0) {
+			return EMPTY;
+		}
+		if (length > MAX_TOKEN_LENGTH) {
+			return MALFORMED;
+		}
+
+		// 1) 헤더 세그먼트는 고정값과 그대로 비교
+		int headerLength = HEADER_SEGMENT.length();
+		if (length < headerLength + 1 + 1 + 1 + SIGNATURE_LENGTH) {
+			return MALFORMED;
+		}
+		for (int i = 0; i < headerLength; i++) {
+			if (source.charAt(start + i) != HEADER_SEGMENT.charAt(i)) {
+				return MALFORMED;
+			}
+		}
+		int firstDot = start + headerLength;
+		if (source.charAt(firstDot) != '.') {
+			return MALFORMED;
+		}
+
+		// 2) 서명 세그먼트는 끝에서 고정 길이
+		int secondDot = end - SIGNATURE_LENGTH - 1;
+		if (secondDot <= firstDot + 1 || source.charAt(secondDot) != '.') {
+			return MALFORMED;
+		}
+		if (!isBase64Url(source, firstDot + 1, secondDot) || !isBase64Url(source, secondDot + 1, end)) {
+			return MALFORMED;
+		}
+		return ((long)start << (INDEX_BITS * 2)) | ((long)firstDot << INDEX_BITS) | secondDot;
+	}
+
+	static int start(long scan) {
+		return (int)((scan >>> (INDEX_BITS * 2)) & INDEX_MASK);
+	}
+
+	static int firstDot(long scan) {
+		return (int)((scan >>> INDEX_BITS) & INDEX_MASK);
+	}
+
+	static int secondDot(long scan) {
+		return (int)(scan & INDEX_MASK);
+	}
+
+	private static boolean startsWithBearer(CharSequence header) {
+		String prefix = JWTUtil.BEARER_PREFIX;
+		for (int i = 0; i < BEARER_LENGTH; i++) {
+			if (header.charAt(i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 구간 안에 '.'이 더 있으면 여기서 걸러져 세그먼트 수도 함께 검사됨
+	private static boolean isBase64Url(CharSequence source, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char c = source.charAt(i);
+			if (c >= 128 || !BASE64_URL[c]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -3,14 +3,15 @@ package org.personal.template.infrastructure.jwt;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
 import org.personal.template.infrastructure.response.Code;
 import org.personal.template.infrastructure.security.Role;
+import org.personal.template.infrastructure.tracing.RequestTrace;
+import org.personal.template.infrastructure.tracing.Stage;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
@@ -18,11 +19,13 @@ import org.springframework.util.StringUtils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -41,38 +44,54 @@ public class JWTUtil {
 	public static final String USERNAME_KEY = "username";
 	// email key
 	public static final String EMAIL_KEY = "email";
-	// token exp
-	private final long TOKEN_TIME = 60 * 60 * 1000L; // 60min
+	// token exp (토큰 폐기 목록도 이 시간만큼만 보관)
+	public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60min
+	// 요청 한 번의 토큰 검증 결과를 담는 요청 속성
+	private static final String TOKEN_VERIFICATION_ATTRIBUTE = JWTUtil.class.getName() + ".verification";
 
 	@Value("${jwt.secret.key}")
 	private String secretKey;
 
 	private Key key;
 
-	private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+	// init()에서 한 번만 생성, 불변이므로 모든 요청 스레드가 공유
+	private JwtParser jwtParser;
+
+	// HS256 고정 형태 토큰 인코더 (헤더 미리 인코딩, Mac은 ObjectPool에서 빌려 재사용)
+	private AccessTokenEncoder accessTokenEncoder;
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	// 발급/검증 시간 (직접 생성한 JWTUtil은 기록하지 않음)
+	private AuthMetrics authMetrics = AuthMetrics.NONE;
+
+	@Autowired(required = false)
+	public void setAuthMetrics(AuthMetrics authMetrics) {
+		this.authMetrics = authMetrics;
+	}
 
 	@PostConstruct
 	public void init() {
 		byte[] bytes = Base64.getDecoder().decode(secretKey);
 		key = Keys.hmacShaKeyFor(bytes);
+		jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+		accessTokenEncoder = new AccessTokenEncoder(key);
 	}
 
 	public String createAccessToken(String email, String username, Role role) {
-		Date now = new Date();
-		Date expiration = new Date(now.getTime() + TOKEN_TIME);
-
-		Map<String, Object> claims = new HashMap<>();
-		claims.put(USERNAME_KEY, username);
-		claims.put(EMAIL_KEY, email);
-		claims.put(AUTHORIZATION_KEY, role.name());
+		long started = System.nanoTime();
+		long now = System.currentTimeMillis();
 
-		return BEARER_PREFIX + Jwts.builder()
-			.setClaims(claims)                // 커스텀 클레임 설정
-			.setSubject(email)                // 토큰 제목 (subject)
-			.setIssuedAt(now)                 // 토큰 발행 시간
-			.setExpiration(expiration)        // 토큰 만료 시간
-			.signWith(key, signatureAlgorithm)
-			.compact();
+		// 클레임: auth, email, username, sub(email), iat, exp (초 단위)
+		String token = BEARER_PREFIX + accessTokenEncoder.encode(
+			email,
+			username,
+			role,
+			now / 1000,
+			(now + TOKEN_TIME) / 1000
+		);
+		authMetrics.recordTokenCreate(System.nanoTime() - started);
+		return token;
 	}
 
 	// HTTP 헤더에서 토큰을 추출
@@ -80,63 +99,162 @@ public class JWTUtil {
 		return request.getHeaders().getOrDefault(headerName, Collections.emptyList());
 	}
 
-	// 토큰의 유효성을 확인
+	// 토큰의 유효성을 확인 (실패 시 BaseException)
 	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
-		} catch (SecurityException | MalformedJwtException e) {
-			throw new BaseException(Code.AUTH001, "유효하지 않은 JWT 서명");
-		} catch (ExpiredJwtException e) {
-			throw new BaseException(Code.AUTH002, "만료된 JWT 토큰");
-		} catch (UnsupportedJwtException e) {
-			throw new BaseException(Code.AUTH003, "지원하지 않는 JWT 토큰");
-		} catch (IllegalArgumentException e) {
-			throw new BaseException(Code.AUTH004, "JWT 토큰이 잘못되었습니다");
-		}
+		verify(token);
+		return true;
 	}
 
 	/**
-	 * 토큰에서 이메일 추출
+	 * 예외 없이 토큰 유효성 확인 (validateToken의 결과 타입 버전)
 	 */
-	public String getEmail(String token) {
-		Claims claims = getClaims(token);
-		return claims.get(EMAIL_KEY, String.class);
+	public TokenCheck checkToken(String token) {
+		return check(token).check();
 	}
 
 	/**
-	 * 토큰에서 사용자명 추출
+	 * 토큰을 한 번만 파싱/서명 검증하여 필요한 클레임을 모두 반환
+	 * 같은 토큰이 반복되면 캐시된 결과를 반환하여 파싱과 서명 검증을 생략
 	 */
-	public String getUsername(String token) {
-		Claims claims = getClaims(token);
-		return claims.get(USERNAME_KEY, String.class);
+	public VerifiedToken verify(String token) {
+		return check(token).orElseThrow();
 	}
 
 	/**
-	 * 토큰에서 권한 정보 추출
+	 * Authorization 헤더 값을 그대로 받아 검증 (Bearer 토큰이 아니면 null)
+	 * 형식 검사는 헤더 문자열 위의 인덱스로만 하고, 토큰 문자열은 캐시 미스일 때만 만듦
 	 */
-	public String getRole(String token) {
-		Claims claims = getClaims(token);
-		return claims.get(AUTHORIZATION_KEY, String.class);
+	public VerifiedToken verifyAuthorization(CharSequence header) {
+		return checkAuthorization(header).orElseThrow();
 	}
 
 	/**
-	 * 토큰에서 모든 클레임 추출
+	 * 요청의 Authorization 헤더 검증, 결과는 요청 속성에 두고 같은 요청의 다음 필터는 그대로 재사용
+	 * (RateLimitFilter가 먼저 검증하면 GlobalSecurityContextFilter가 다시 다이제스트/서명 검사하지 않음)
 	 */
-	public Claims getClaims(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(key)
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
+	public TokenVerification checkRequest(HttpServletRequest request) {
+		if (request.getAttribute(TOKEN_VERIFICATION_ATTRIBUTE) instanceof TokenVerification verification) {
+			return verification;
+		}
+		TokenVerification verification = checkAuthorization(request.getHeader(AUTHORIZATION_HEADER));
+		request.setAttribute(TOKEN_VERIFICATION_ATTRIBUTE, verification);
+		return verification;
 	}
 
-	public Boolean isExpired(String token) {
+	/**
+	 * verifyAuthorization의 예외 없는 버전 (헤더가 없으면 ABSENT)
+	 * 실패 결과는 미리 만들어 둔 값이므로 잘못된 토큰이 몰려도 예외/객체 생성 비용이 없음
+	 */
+	public TokenVerification checkAuthorization(CharSequence header) {
+		long started = System.nanoTime();
+		long scan = BearerTokenScanner.scanHeader(header);
+		if (scan == BearerTokenScanner.NO_TOKEN) {
+			// 토큰 없는 요청은 검증 시간 분포에 넣지 않음
+			return TokenCheck.ABSENT.getResult();
+		}
+		TokenVerification verification = scan == BearerTokenScanner.EMPTY
+			? TokenCheck.EMPTY.getResult()
+			: check(header, scan);
+		authMetrics.recordTokenVerify(verification.check(), System.nanoTime() - started);
+		return verification;
+	}
+
+	private TokenVerification check(String token) {
+		long started = System.nanoTime();
+		TokenVerification verification;
+		if (token == null) {
+			verification = TokenCheck.INVALID.getResult();
+		} else {
+			long scan = BearerTokenScanner.scanCompact(token, 0, token.length());
+			verification = scan == BearerTokenScanner.EMPTY
+				? TokenCheck.INVALID.getResult()
+				: check(token, scan);
+		}
+		authMetrics.recordTokenVerify(verification.check(), System.nanoTime() - started);
+		return verification;
+	}
+
+	private TokenVerification check(CharSequence source, long scan) {
+		if (scan == BearerTokenScanner.MALFORMED) {
+			return TokenCheck.MALFORMED.getResult();
+		}
+
+		int start = BearerTokenScanner.start(scan);
+		VerifiedTokenCache.TokenDigest digest = null;
+		if (verifiedTokenCache.isEnabled()) {
+			digest = VerifiedTokenCache.digest(source, start, source.length());
+			VerifiedToken cached = verifiedTokenCache.get(digest);
+			if (cached != null) {
+				return TokenVerification.valid(cached);
+			}
+		}
+
+		// 위조/변조 토큰은 jjwt가 예외를 만들기 전에 직접 서명만 확인하여 거절
+		int signatureSpan = RequestTrace.start(Stage.SIGNATURE_VERIFY);
+		boolean signed = accessTokenEncoder.verifySignature(source, start, BearerTokenScanner.secondDot(scan));
+		RequestTrace.end(signatureSpan);
+		if (!signed) {
+			return TokenCheck.BAD_SIGNATURE.getResult();
+		}
+
+		String token = start == 0 && source instanceof String string
+			? string : source.subSequence(start, source.length()).toString();
+		Claims claims;
+		int parseSpan = RequestTrace.start(Stage.TOKEN_PARSE);
 		try {
-			return getClaims(token).getExpiration().before(new Date());
+			claims = getClaims(token);
+		} catch (SecurityException | MalformedJwtException e) {
+			return TokenCheck.BAD_SIGNATURE.getResult();
 		} catch (ExpiredJwtException e) {
-			return true;
+			return TokenCheck.EXPIRED.getResult();
+		} catch (UnsupportedJwtException e) {
+			return TokenCheck.UNSUPPORTED.getResult();
+		} catch (JwtException | IllegalArgumentException e) {
+			return TokenCheck.INVALID.getResult();
+		} finally {
+			RequestTrace.end(parseSpan);
+		}
+
+		TokenCheck claimsCheck = checkClaims(claims);
+		if (claimsCheck != TokenCheck.OK) {
+			return claimsCheck.getResult();
+		}
+		VerifiedToken verifiedToken = toVerifiedToken(claims);
+		if (digest != null) {
+			verifiedTokenCache.put(digest, verifiedToken);
 		}
+		return TokenVerification.valid(verifiedToken);
+	}
+
+	/**
+	 * 토큰에서 모든 클레임 추출 (캐시를 거치지 않는 원본 파싱)
+	 */
+	public Claims getClaims(String token) {
+		return jwtParser.parseClaimsJws(token).getBody();
+	}
+
+	private static TokenCheck checkClaims(Claims claims) {
+		if (claims.get(EMAIL_KEY, String.class) == null) {
+			return TokenCheck.MISSING_EMAIL;
+		}
+		if (Role.fromAuthority(claims.get(AUTHORIZATION_KEY, String.class)) == null) {
+			return TokenCheck.MISSING_AUTHORITY;
+		}
+		if (claims.getIssuedAt() == null || claims.getExpiration() == null) {
+			return TokenCheck.MISSING_TIMESTAMPS;
+		}
+		return TokenCheck.OK;
+	}
+
+	// checkClaims를 통과한 클레임만 넘김
+	private static VerifiedToken toVerifiedToken(Claims claims) {
+		return new VerifiedToken(
+			claims.get(EMAIL_KEY, String.class),
+			claims.get(USERNAME_KEY, String.class),
+			Role.fromAuthority(claims.get(AUTHORIZATION_KEY, String.class)),
+			claims.getIssuedAt().toInstant(),
+			claims.getExpiration().toInstant()
+		);
 	}
 
 	/**
@@ -153,7 +271,17 @@ public class JWTUtil {
 	 * Header에사 JWT 가져오기
 	 */
 	public String getTokenFromRequest(HttpServletRequest request) {
-		String header = request.getHeader(AUTHORIZATION_HEADER);
+		return extractBearerToken(request.getHeader(AUTHORIZATION_HEADER));
+	}
+
+	/**
+	 * Header에서 JWT 가져오기 (WebFlux)
+	 */
+	public String getTokenFromRequest(ServerHttpRequest request) {
+		return extractBearerToken(request.getHeaders().getFirst(AUTHORIZATION_HEADER));
+	}
+
+	private String extractBearerToken(String header) {
 		if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
 			String token = header.substring(7);
 			if (!StringUtils.hasText(token)) {
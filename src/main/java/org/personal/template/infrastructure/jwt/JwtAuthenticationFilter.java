@@ -4,10 +4,17 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.personal.template.infrastructure.exception.RetryLaterException;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
 import org.personal.template.infrastructure.response.ApiResponseData;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.LoginAttemptLimiter;
 import org.personal.template.infrastructure.security.Role;
 import org.personal.template.infrastructure.security.UserDetailsImpl;
 import org.personal.template.presentation.dto.LoginRequestDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -25,10 +32,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+	// 실패 시 시도 제한에 기록할 이메일 (attemptAuthentication -> unsuccessfulAuthentication)
+	private static final String LOGIN_EMAIL_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".email";
+
 	private final JWTUtil jwtUtil;private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ApiResponseSerializer apiResponseSerializer;
+	private final AuthEventLogger authEventLogger;
+	private final LoginAttemptLimiter loginAttemptLimiter;
 
-	public JwtAuthenticationFilter(JWTUtil jwtUtil) {
+	public JwtAuthenticationFilter(JWTUtil jwtUtil, ApiResponseSerializer apiResponseSerializer,
+		AuthEventLogger authEventLogger, LoginAttemptLimiter loginAttemptLimiter) {
 		this.jwtUtil = jwtUtil;
+		this.apiResponseSerializer = apiResponseSerializer;
+		this.authEventLogger = authEventLogger;
+		this.loginAttemptLimiter = loginAttemptLimiter;
 		setFilterProcessesUrl("/api/user/login"); // 로그인 URL 설정
 	}
 
@@ -42,11 +59,19 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws
 		AuthenticationException {
-		log.info("로그인 시도: Content-Type = {}", request.getContentType());
 		try {
-			LoginRequestDTO requestDto = new ObjectMapper().readValue(request.getInputStream(), LoginRequestDTO.class);
+			LoginRequestDTO requestDto = objectMapper.readValue(request.getInputStream(), LoginRequestDTO.class);
+
+			// 요청 DTO(비밀번호 포함)는 기록하지 않음
+			authEventLogger.loginAttempt(requestDto.getEmail());
+			request.setAttribute(LOGIN_EMAIL_ATTRIBUTE, requestDto.getEmail());
 
-			log.info("로그인 요청 데이터: {}", requestDto);
+			// 시도 제한은 BCrypt 검증 전에 확인
+			try {
+				loginAttemptLimiter.acquire(requestDto.getEmail(), request.getRemoteAddr());
+			} catch (RetryLaterException e) {
+				throw new AuthenticationServiceException(e.getMessage(), e);
+			}
 
 			return getAuthenticationManager().authenticate(
 				new UsernamePasswordAuthenticationToken(
@@ -73,7 +98,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	@Override
 	protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
 		Authentication authResult) throws IOException, ServletException {
-		log.info("로그인 성공 및 JWT 생성");
 		UserDetailsImpl userDetails = (UserDetailsImpl) authResult.getPrincipal();
 
 		// 사용자 정보 추출
@@ -82,6 +106,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 		Role role = userDetails.getUser().getRole();
 
 		String token = jwtUtil.createAccessToken(email, username, role);
+		authEventLogger.loginSucceeded(email);
+		loginAttemptLimiter.recordSuccess(email);
 		response.addHeader(JWTUtil.AUTHORIZATION_HEADER, token);
 
 		Map<String, Object> userMap = new HashMap<>();
@@ -108,13 +134,33 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	@Override
 	protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
 		AuthenticationException failed) throws IOException, ServletException {
-		log.info("로그인 실패");
+		if (failed.getCause() instanceof RetryLaterException retryLater) {
+			// 시도 제한: 429 + Retry-After
+			Code code = retryLater.getErrorCode();
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryLater.getRetryAfterSeconds()));
+			writeBody(response, code.getStatus().value(), apiResponseSerializer.failure(code));
+			return;
+		}
+
+		String email = (String)request.getAttribute(LOGIN_EMAIL_ATTRIBUTE);
+		authEventLogger.loginFailed(email, failed.getMessage());
+		// 자격 증명 실패(없는 이메일 포함)만 실패로 세고, 서비스 오류로 끝난 시도는 예약만 반납
+		if (failed instanceof AuthenticationServiceException) {
+			loginAttemptLimiter.release(email);
+		} else {
+			loginAttemptLimiter.recordFailure(email);
+		}
 
-		response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+		// 미리 직렬화한 응답 틀에 실패 사유만 끼워 넣어 바로 출력
+		writeBody(response, HttpServletResponse.SC_UNAUTHORIZED,
+			apiResponseSerializer.loginFailure(failed.getMessage()));
+	}
+
+	private static void writeBody(HttpServletResponse response, int status, byte[] body) throws IOException {
+		response.setStatus(status);
 		response.setContentType("application/json");
 		response.setCharacterEncoding("UTF-8");
-
-		ApiResponseData<String> responseData = ApiResponseData.failure(401, "로그인 실패: " + failed.getMessage());
-		response.getWriter().write(objectMapper.writeValueAsString(responseData));
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
 	}
 }
@@ -0,0 +1,50 @@
+package org.personal.template.infrastructure.jwt;
+
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+
+import lombok.Getter;
+
+/**
+ * 토큰 검사 결과 (예외 없이 검증 결과를 돌려주기 위한 값)
+ * - 실패 항목마다 응답 코드/메시지, 스택 트레이스 없는 예외, 실패 결과(TokenVerification)를 미리 만들어 공유
+ * - 잘못된 토큰이 몰려도 실패 경로에서는 객체를 새로 만들지 않음
+ */
+@Getter
+public enum TokenCheck {
+
+	OK(null, null),
+	// Authorization 헤더가 없거나 Bearer 형식이 아님 (JWT 인증 대상 아님)
+	ABSENT(null, null),
+	EMPTY(Code.AUTH005, "JWT 토큰이 비어있습니다"),
+	// 형식 오류 (서명 검증 전에 거절, jjwt의 MalformedJwtException과 같은 코드)
+	MALFORMED(Code.AUTH001, "유효하지 않은 JWT 서명"),
+	BAD_SIGNATURE(Code.AUTH001, "유효하지 않은 JWT 서명"),
+	EXPIRED(Code.AUTH002, "만료된 JWT 토큰"),
+	UNSUPPORTED(Code.AUTH003, "지원하지 않는 JWT 토큰"),
+	INVALID(Code.AUTH004, "JWT 토큰이 잘못되었습니다"),
+	MISSING_EMAIL(Code.AUTH004, "토큰에 이메일 정보가 없습니다"),
+	MISSING_AUTHORITY(Code.AUTH006, "토큰에 권한 정보가 없습니다"),
+	MISSING_TIMESTAMPS(Code.AUTH006, "토큰에 발행/만료 시간이 없습니다");
+
+	private final Code code;
+	private final String message;
+	private final BaseException exception;
+	private final TokenVerification result;
+
+	TokenCheck(Code code, String message) {
+		this.code = code;
+		this.message = message;
+		this.exception = code == null ? null : BaseException.stackless(code, message);
+		this.result = new TokenVerification(this, null);
+	}
+
+	public boolean isValid() {
+		return this == OK;
+	}
+
+	// 검증 실패 (토큰이 있었지만 받아들일 수 없음)
+	public boolean isFailure() {
+		return code != null;
+	}
+}
@@ -0,0 +1,107 @@
+package org.personal.template.infrastructure.jwt;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.UserChangeListener;
+import org.personal.template.infrastructure.cache.RotatingBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 토큰 폐기 목록 (claims 인증 모드에서 저장소 조회 대신 사용)
+ * - 사용자 삭제, email/username/role 변경 시 해당 email로 그 시각 이전에 발급된 토큰을 폐기
+ *   (비밀번호 재해시처럼 클레임과 무관한 저장은 폐기하지 않음)
+ * - 대부분의 요청은 Bloom filter에서 바로 "폐기 없음"으로 끝나고, 걸린 경우에만 정확한 맵(email -> 폐기 시각) 확인
+ * - 토큰 유효 시간(JWTUtil.TOKEN_TIME)이 지난 항목은 그 전에 발급된 토큰이 모두 만료되었으므로 정리
+ * - iat가 초 단위이므로 폐기와 같은 초에 새로 발급된 토큰도 다음 초까지는 거절됨
+ * - 프로세스 메모리에만 보관 (인스턴스가 여러 개이면 각자 자기 저장소의 변경만 반영)
+ */
+@Component
+public class TokenRevocationList implements UserChangeListener {
+
+	private final RotatingBloomFilter filter;
+	private final ConcurrentHashMap<String, Long> revokedAtByEmail = new ConcurrentHashMap<>();
+	// 이 시각(ms) 이전에 발급된 토큰은 모두 폐기 (deleteAll)
+	private final AtomicLong revokedAllAtMillis = new AtomicLong(Long.MIN_VALUE);
+	private final AtomicLong nextPurgeAtMillis;
+
+	public TokenRevocationList(@Value("${jwt.revocation.expected-size:10000}") int expectedSize) {
+		long now = System.currentTimeMillis();
+		this.filter = new RotatingBloomFilter(expectedSize, 10, JWTUtil.TOKEN_TIME, now);
+		this.nextPurgeAtMillis = new AtomicLong(now + JWTUtil.TOKEN_TIME);
+	}
+
+	/**
+	 * 토큰이 발급된 뒤 해당 사용자에 대한 폐기가 있었는지 확인
+	 */
+	public boolean isRevoked(VerifiedToken token) {
+		long issuedAtMillis = token.getIssuedAt().toEpochMilli();
+		if (issuedAtMillis <= revokedAllAtMillis.get()) {
+			return true;
+		}
+		long now = System.currentTimeMillis();
+		purgeIfNeeded(now);
+		if (!filter.mightContain(token.getEmail(), now)) {
+			return false;
+		}
+		Long revokedAt = revokedAtByEmail.get(token.getEmail());
+		return revokedAt != null && issuedAtMillis <= revokedAt;
+	}
+
+	/**
+	 * 지금까지 해당 email로 발급된 토큰 폐기
+	 */
+	public void revoke(String email) {
+		if (email == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		// 맵에 먼저 기록한 뒤 filter에 추가 (filter가 true를 돌려줄 때는 맵에도 있음)
+		revokedAtByEmail.merge(email, now, Math::max);
+		filter.add(email, now);
+	}
+
+	public void revokeAll() {
+		revokedAllAtMillis.accumulateAndGet(System.currentTimeMillis(), Math::max);
+	}
+
+	public int size() {
+		return revokedAtByEmail.size();
+	}
+
+	@Override
+	public void userSaved(User user, User previous) {
+		if (previous == null) {
+			return;
+		}
+		// 토큰에 담긴 클레임(email, username, role)이 바뀐 경우만 폐기
+		if (!Objects.equals(user.getEmail(), previous.getEmail())
+			|| !Objects.equals(user.getUsername(), previous.getUsername())
+			|| user.getRole() != previous.getRole()) {
+			revoke(previous.getEmail());
+		}
+	}
+
+	@Override
+	public void userDeleted(long uuid, String email) {
+		revoke(email);
+	}
+
+	@Override
+	public void allUsersDeleted() {
+		revokeAll();
+	}
+
+	// 토큰 유효 시간보다 오래된 폐기 항목 정리 (filter는 스스로 세대를 교체)
+	private void purgeIfNeeded(long now) {
+		long nextPurgeAt = nextPurgeAtMillis.get();
+		if (now < nextPurgeAt || !nextPurgeAtMillis.compareAndSet(nextPurgeAt, now + JWTUtil.TOKEN_TIME)) {
+			return;
+		}
+		long threshold = now - JWTUtil.TOKEN_TIME;
+		revokedAtByEmail.values().removeIf(revokedAt -> revokedAt < threshold);
+	}
+}
@@ -0,0 +1,26 @@
+package org.personal.template.infrastructure.jwt;
+
+/**
+ * JWTUtil.check* 결과: 검사 결과와, 성공했을 때만 검증된 토큰
+ * 실패 결과는 TokenCheck마다 하나씩 미리 만들어 두고 재사용
+ */
+public record TokenVerification(TokenCheck check, VerifiedToken token) {
+
+	static TokenVerification valid(VerifiedToken token) {
+		return new TokenVerification(TokenCheck.OK, token);
+	}
+
+	public boolean isValid() {
+		return check == TokenCheck.OK;
+	}
+
+	/**
+	 * 검증된 토큰 반환, 실패면 미리 만들어 둔 스택 트레이스 없는 BaseException (ABSENT이면 null)
+	 */
+	public VerifiedToken orElseThrow() {
+		if (check.isFailure()) {
+			throw check.getException();
+		}
+		return token;
+	}
+}
@@ -0,0 +1,29 @@
+package org.personal.template.infrastructure.jwt;
+
+import java.time.Instant;
+
+import org.personal.template.infrastructure.security.Role;
+
+import lombok.Value;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 클레임 (불변)
+ * JWTUtil.verify 한 번의 파싱으로 필요한 모든 클레임을 꺼내 사용
+ */
+@Value
+public class VerifiedToken {
+
+	String email;
+
+	String username;
+
+	Role role;
+
+	Instant issuedAt;
+
+	Instant expiresAt;
+
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+}
@@ -0,0 +1,145 @@
+package org.personal.template.infrastructure.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.personal.template.infrastructure.cache.ExpiringLruCache;
+import org.personal.template.infrastructure.cache.ObjectPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 서명 검증이 끝난 토큰(VerifiedToken) 캐시
+ * - 키는 원본 토큰 문자열의 SHA-256 다이제스트 (토큰 원문은 보관하지 않음)
+ * - Authorization 헤더의 토큰 구간을 그대로 다이제스트하므로 조회 시 토큰 문자열을 따로 만들지 않음
+ * - 토큰의 exp 시각까지만 유지되며, 이후 조회 시 미스 처리되어 다시 파싱/검증됨
+ */
+@Component
+public class VerifiedTokenCache {
+
+	// 다이제스트 입력용 버퍼 크기 (더 긴 입력은 나눠서 넣음)
+	private static final int BUFFER_SIZE = BearerTokenScanner.MAX_TOKEN_LENGTH;
+
+	// 가상 스레드에서도 재사용되도록 ThreadLocal 대신 풀 사용
+	private static final ObjectPool<Sha256> SHA_256 = ObjectPool.forProcessors(() -> {
+		try {
+			return new Sha256(MessageDigest.getInstance("SHA-256"), new byte[BUFFER_SIZE]);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final boolean enabled;
+	private final ExpiringLruCache<TokenDigest, VerifiedToken> cache;
+
+	public VerifiedTokenCache(
+		@Value("${jwt.cache.enabled:true}") boolean enabled,
+		@Value("${jwt.cache.maximum-size:10000}") int maximumSize,
+		@Value("${jwt.cache.concurrency-level:16}") int concurrencyLevel) {
+		this.enabled = enabled;
+		this.cache = new ExpiringLruCache<>(maximumSize, concurrencyLevel);
+	}
+
+	/**
+	 * 캐시된 검증 결과 반환, 없거나 만료되었으면 null
+	 */
+	public VerifiedToken get(String token) {
+		if (!enabled || !StringUtils.hasText(token)) {
+			return null;
+		}
+		return get(digest(token, 0, token.length()));
+	}
+
+	VerifiedToken get(TokenDigest digest) {
+		return enabled ? cache.get(digest, System.currentTimeMillis()) : null;
+	}
+
+	/**
+	 * 검증 결과를 토큰 만료 시각까지 캐시
+	 */
+	public void put(String token, VerifiedToken verifiedToken) {
+		if (!enabled || !StringUtils.hasText(token)) {
+			return;
+		}
+		put(digest(token, 0, token.length()), verifiedToken);
+	}
+
+	void put(TokenDigest digest, VerifiedToken verifiedToken) {
+		if (enabled) {
+			cache.put(digest, verifiedToken, verifiedToken.getExpiresAt().toEpochMilli());
+		}
+	}
+
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public long hitCount() {
+		return cache.hitCount();
+	}
+
+	public long missCount() {
+		return cache.missCount();
+	}
+
+	public long evictionCount() {
+		return cache.evictionCount();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * source[start, end) 구간의 다이제스트 (ASCII는 풀의 버퍼로 바로 복사, 그 외 문자가 있으면 UTF-8 인코딩)
+	 */
+	static TokenDigest digest(CharSequence source, int start, int end) {
+		Sha256 sha256 = SHA_256.acquire();
+		byte[] hash;
+		try {
+			MessageDigest md = sha256.md();
+			byte[] buffer = sha256.buffer();
+			int filled = 0;
+			for (int i = start; i < end; i++) {
+				char c = source.charAt(i);
+				if (c >= 0x80) {
+					md.reset();
+					md.update(source.subSequence(start, end).toString().getBytes(StandardCharsets.UTF_8));
+					filled = 0;
+					break;
+				}
+				buffer[filled++] = (byte)c;
+				if (filled == buffer.length) {
+					md.update(buffer, 0, filled);
+					filled = 0;
+				}
+			}
+			md.update(buffer, 0, filled);
+			hash = md.digest();
+		} finally {
+			SHA_256.release(sha256);
+		}
+		return new TokenDigest(readLong(hash, 0), readLong(hash, 8), readLong(hash, 16), readLong(hash, 24));
+	}
+
+	private static long readLong(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xFF);
+		}
+		return value;
+	}
+
+	// SHA-256 256비트를 long 4개로 보관
+	record TokenDigest(long h0, long h1, long h2, long h3) {
+	}
+
+	private record Sha256(MessageDigest md, byte[] buffer) {
+	}
+}
@@ -0,0 +1,170 @@
+package org.personal.template.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.jwt.TokenCheck;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 발생하는 인증 이벤트(로그인 시도/성공/실패, 토큰/주체 거절) 전용 로거
+ * - key=value 한 줄 형식, 이메일은 마스킹하고 토큰/비밀번호/User 객체는 기록하지 않음
+ * - 이벤트 종류별로 초당 logging.auth.max-events-per-second 건까지만 기록,
+ *   넘친 건수는 세어 두었다가 다음에 기록되는 같은 종류 이벤트에 suppressed=N으로 덧붙임
+ * - 레벨이 꺼져 있으면 제한 계산/문자열 조립 없이 바로 반환
+ * 실제 출력은 logback-spring.xml의 AsyncAppender가 별도 스레드에서 처리 (토큰 마스킹은 RedactingMessageConverter)
+ */
+@Slf4j(topic = "auth")
+@Component
+public class AuthEventLogger {
+
+	enum Event {
+		LOGIN_ATTEMPT, LOGIN_SUCCESS, LOGIN_FAILURE, LOGIN_THROTTLED, TOKEN_REJECTED, PRINCIPAL_REJECTED
+	}
+
+	// 한 번 기록됨, 이전 초과분 없음
+	static final long NOT_SUPPRESSED = 0L;
+	// 이번 초 한도를 넘어 기록하지 않음
+	static final long SUPPRESSED = -1L;
+
+	private static final int COUNT_BITS = 20;
+	private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+	private final int maxEventsPerSecond;
+	private final Window[] windows = new Window[Event.values().length];
+
+	public AuthEventLogger(@Value("${logging.auth.max-events-per-second:20}") int maxEventsPerSecond) {
+		if (maxEventsPerSecond <= 0 || maxEventsPerSecond > COUNT_MASK) {
+			throw new IllegalArgumentException("logging.auth.max-events-per-second must be in 1.." + COUNT_MASK);
+		}
+		this.maxEventsPerSecond = maxEventsPerSecond;
+		for (int i = 0; i < windows.length; i++) {
+			windows[i] = new Window();
+		}
+	}
+
+	public void loginAttempt(String email) {
+		if (!log.isDebugEnabled()) {
+			return;
+		}
+		long suppressed = acquire(Event.LOGIN_ATTEMPT, System.currentTimeMillis());
+		if (suppressed != SUPPRESSED) {
+			log.debug("event=login_attempt email={} suppressed={}", maskEmail(email), suppressed);
+		}
+	}
+
+	public void loginSucceeded(String email) {
+		if (!log.isInfoEnabled()) {
+			return;
+		}
+		long suppressed = acquire(Event.LOGIN_SUCCESS, System.currentTimeMillis());
+		if (suppressed != SUPPRESSED) {
+			log.info("event=login_success email={} suppressed={}", maskEmail(email), suppressed);
+		}
+	}
+
+	/**
+	 * @param email 알 수 없으면 null
+	 */
+	public void loginFailed(String email, String reason) {
+		if (!log.isInfoEnabled()) {
+			return;
+		}
+		long suppressed = acquire(Event.LOGIN_FAILURE, System.currentTimeMillis());
+		if (suppressed != SUPPRESSED) {
+			log.info("event=login_failure email={} reason=\"{}\" suppressed={}", maskEmail(email), reason, suppressed);
+		}
+	}
+
+	/**
+	 * 시도 제한(LoginAttemptLimiter)으로 해시 전에 거절
+	 * @param clientIp 알 수 없으면 null
+	 */
+	public void loginThrottled(String email, String clientIp, long retryAfterSeconds) {
+		if (!log.isWarnEnabled()) {
+			return;
+		}
+		long suppressed = acquire(Event.LOGIN_THROTTLED, System.currentTimeMillis());
+		if (suppressed != SUPPRESSED) {
+			log.warn("event=login_throttled email={} ip={} retry_after={} suppressed={}",
+				maskEmail(email), clientIp == null ? "-" : clientIp, retryAfterSeconds, suppressed);
+		}
+	}
+
+	public void tokenRejected(TokenCheck check) {
+		if (!log.isInfoEnabled()) {
+			return;
+		}
+		long suppressed = acquire(Event.TOKEN_REJECTED, System.currentTimeMillis());
+		if (suppressed != SUPPRESSED) {
+			log.info("event=token_rejected check={} code={} suppressed={}",
+				check, check.getCode().getCode(), suppressed);
+		}
+	}
+
+	/**
+	 * 토큰은 유효하지만 사용자 없음/폐기 등으로 주체를 만들 수 없음 (메시지에 이메일이 있을 수 있어 코드만 기록)
+	 */
+	public void principalRejected(BaseException e) {
+		if (!log.isInfoEnabled()) {
+			return;
+		}
+		long suppressed = acquire(Event.PRINCIPAL_REJECTED, System.currentTimeMillis());
+		if (suppressed != SUPPRESSED) {
+			log.info("event=principal_rejected code={} suppressed={}", e.getErrorCode().getCode(), suppressed);
+		}
+	}
+
+	/**
+	 * 기록 허용 여부: SUPPRESSED이면 기록하지 않음, 아니면 직전까지 버려진 건수(0 이상)
+	 */
+	long acquire(Event event, long nowMillis) {
+		return windows[event.ordinal()].acquire(nowMillis / 1000, maxEventsPerSecond);
+	}
+
+	/**
+	 * user@example.com -> u***@example.com
+	 */
+	public static String maskEmail(String email) {
+		if (email == null) {
+			return "-";
+		}
+		int at = email.indexOf('@');
+		if (at <= 0) {
+			return "***";
+		}
+		return email.charAt(0) + "***" + email.substring(at);
+	}
+
+	/**
+	 * 초 단위 고정 구간 카운터, (초 << COUNT_BITS | 건수)를 CAS로 갱신하여 잠금 없음
+	 */
+	private static final class Window {
+
+		private final AtomicLong state = new AtomicLong();
+		private final LongAdder suppressed = new LongAdder();
+
+		long acquire(long nowSecond, int limit) {
+			while (true) {
+				long current = state.get();
+				long second = current >>> COUNT_BITS;
+				long next;
+				if (second != nowSecond) {
+					next = (nowSecond << COUNT_BITS) | 1;
+				} else if ((current & COUNT_MASK) >= limit) {
+					suppressed.increment();
+					return SUPPRESSED;
+				} else {
+					next = current + 1;
+				}
+				if (state.compareAndSet(current, next)) {
+					return suppressed.sum() == 0 ? NOT_SUPPRESSED : suppressed.sumThenReset();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package org.personal.template.infrastructure.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 로그 메시지(%m, %msg)에 섞인 JWT를 앞 8자와 길이만 남기고 가림
+ * - 우리 코드뿐 아니라 라이브러리 로그(헤더 덤프 등)에 토큰이 찍혀도 그대로 남지 않도록 출력 단계에서 처리
+ * - JWT는 항상 '{"'의 base64url인 "eyJ"로 시작하므로 이 문자열이 없는 메시지는 그대로 반환
+ * - AsyncAppender 뒤에서 실행되므로 요청 스레드 비용이 아님
+ */
+public class RedactingMessageConverter extends MessageConverter {
+
+	private static final String JWT_START = "eyJ";
+	private static final int VISIBLE_CHARS = 8;
+
+	@Override
+	public String convert(ILoggingEvent event) {
+		return redact(super.convert(event));
+	}
+
+	static String redact(String message) {
+		if (message == null) {
+			return null;
+		}
+		int start = message.indexOf(JWT_START);
+		if (start < 0) {
+			return message;
+		}
+
+		StringBuilder redacted = new StringBuilder(message.length());
+		int copied = 0;
+		while (start >= 0) {
+			int end = start;
+			int dots = 0;
+			while (end < message.length() && isTokenChar(message.charAt(end))) {
+				if (message.charAt(end) == '.') {
+					dots++;
+				}
+				end++;
+			}
+			// 헤더.페이로드 이상이어야 토큰으로 봄
+			if (dots > 0) {
+				redacted.append(message, copied, start)
+					.append(message, start, Math.min(end, start + VISIBLE_CHARS))
+					.append("...(").append(end - start).append(" chars)");
+				copied = end;
+			}
+			start = message.indexOf(JWT_START, Math.max(end, start + JWT_START.length()));
+		}
+		return redacted.append(message, copied, message.length()).toString();
+	}
+
+	private static boolean isTokenChar(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+			|| c == '-' || c == '_' || c == '.';
+	}
+}
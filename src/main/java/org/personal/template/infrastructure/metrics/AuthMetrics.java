@@ -0,0 +1,100 @@
+package org.personal.template.infrastructure.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.personal.template.infrastructure.jwt.TokenCheck;
+import org.personal.template.infrastructure.response.Code;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * 인증/가입 경로 메트릭 (/actuator/prometheus)
+ * - jwt.create: 토큰 발급 시간
+ * - jwt.verify{result}: 토큰 검증 시간, 결과(TokenCheck)별
+ * - security.filter.outcomes{code}: 인증 필터 결과 (SUCCESS, AUTH00x/SIGN00x 거절, 토큰 없음은 NONE)
+ * - user.registration.conflicts{field}: 가입 중복 (email, username, 동시 가입으로 save()에서 막힌 concurrent)
+ * 태그 조합이 고정되어 있으므로 모든 미터를 생성 시점에 등록해 두고 요청 경로에서는 조회 없이 배열로 접근
+ * 히스토그램/백분위 설정은 application.properties의 management.metrics.distribution.*
+ */
+@Component
+public class AuthMetrics {
+
+	// 메트릭 없이 쓰는 곳(직접 생성한 JWTUtil 등)의 기본값, 하위 레지스트리가 없는 CompositeMeterRegistry는 아무것도 기록하지 않음
+	public static final AuthMetrics NONE = new AuthMetrics(new CompositeMeterRegistry());
+
+	public enum ConflictField {
+		EMAIL, USERNAME, CONCURRENT
+	}
+
+	private static final String NO_CODE = "NONE";
+
+	private final Timer tokenCreate;
+	// TokenCheck.ordinal() -> 타이머
+	private final Timer[] tokenVerify;
+	// Code.ordinal() -> 카운터, 마지막 칸은 NONE
+	private final Counter[] filterOutcomes;
+	// ConflictField.ordinal() -> 카운터
+	private final Counter[] registrationConflicts;
+
+	public AuthMetrics(MeterRegistry registry) {
+		this.tokenCreate = Timer.builder("jwt.create")
+			.description("액세스 토큰 발급 시간")
+			.register(registry);
+
+		TokenCheck[] checks = TokenCheck.values();
+		this.tokenVerify = new Timer[checks.length];
+		for (TokenCheck check : checks) {
+			tokenVerify[check.ordinal()] = Timer.builder("jwt.verify")
+				.description("Authorization 헤더/토큰 검증 시간")
+				.tag("result", check.name())
+				.register(registry);
+		}
+
+		Code[] codes = Code.values();
+		this.filterOutcomes = new Counter[codes.length + 1];
+		for (Code code : codes) {
+			filterOutcomes[code.ordinal()] = filterOutcome(registry, code.name());
+		}
+		filterOutcomes[codes.length] = filterOutcome(registry, NO_CODE);
+
+		ConflictField[] fields = ConflictField.values();
+		this.registrationConflicts = new Counter[fields.length];
+		for (ConflictField field : fields) {
+			registrationConflicts[field.ordinal()] = Counter.builder("user.registration.conflicts")
+				.description("이미 등록된 email/username으로 거절된 가입")
+				.tag("field", field.name().toLowerCase(Locale.ROOT))
+				.register(registry);
+		}
+	}
+
+	public void recordTokenCreate(long nanos) {
+		tokenCreate.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordTokenVerify(TokenCheck check, long nanos) {
+		tokenVerify[check.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param code 인증 필터 결과 코드 (토큰/레거시 헤더가 없어 인증하지 않았으면 null)
+	 */
+	public void recordFilterOutcome(Code code) {
+		filterOutcomes[code == null ? filterOutcomes.length - 1 : code.ordinal()].increment();
+	}
+
+	public void recordRegistrationConflict(ConflictField field) {
+		registrationConflicts[field.ordinal()].increment();
+	}
+
+	private static Counter filterOutcome(MeterRegistry registry, String code) {
+		return Counter.builder("security.filter.outcomes")
+			.description("인증 필터 처리 결과")
+			.tag("code", code)
+			.register(registry);
+	}
+}
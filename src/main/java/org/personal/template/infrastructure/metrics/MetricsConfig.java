@@ -0,0 +1,34 @@
+package org.personal.template.infrastructure.metrics;
+
+import org.personal.template.domain.repository.UserRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메트릭 설정 (노출: management.endpoints.web.exposure.include, 히스토그램: management.metrics.distribution.*)
+ */
+@Configuration
+public class MetricsConfig {
+
+	/**
+	 * 활성 UserRepository 빈을 TimedUserRepository로 감쌈
+	 * 변경 알림 등록/복구는 초기화 단계에서 원본 빈에 이미 끝났고, 종료 콜백(@PreDestroy)도 원본 빈 기준으로 실행됨
+	 * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static, 레지스트리는 실제로 감쌀 때 조회
+	 */
+	@Bean
+	public static BeanPostProcessor timedUserRepositoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof UserRepository repository && !(bean instanceof TimedUserRepository)) {
+					return new TimedUserRepository(repository, meterRegistry.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,59 @@
+package org.personal.template.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt 해시/검증 시간 측정 (password.encode, password.matches{result})
+ * UserService와 로그인 필터(DaoAuthenticationProvider) 모두 이 빈을 거치므로 한 곳에서 측정됨
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final Timer encode;
+	private final Timer matched;
+	private final Timer mismatched;
+
+	public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry) {
+		this.delegate = delegate;
+		this.encode = Timer.builder("password.encode")
+			.description("비밀번호 해시 시간")
+			.register(registry);
+		this.matched = matches(registry, "match");
+		this.mismatched = matches(registry, "mismatch");
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		long start = System.nanoTime();
+		try {
+			return delegate.encode(rawPassword);
+		} finally {
+			encode.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		long start = System.nanoTime();
+		boolean result = delegate.matches(rawPassword, encodedPassword);
+		(result ? matched : mismatched).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return result;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private static Timer matches(MeterRegistry registry, String result) {
+		return Timer.builder("password.matches")
+			.description("비밀번호 검증 시간")
+			.tag("result", result)
+			.register(registry);
+	}
+}
@@ -0,0 +1,226 @@
+package org.personal.template.infrastructure.metrics;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * UserRepository 호출 시간 측정 (user.repository{operation})
+ * - MetricsConfig가 저장소 빈(memory/compact/mapped 중 활성 엔진)을 이 클래스로 감쌈
+ * - 리플렉션 프록시 대신 메서드마다 직접 위임하여 호출당 추가 할당 없음
+ * - scanFrom은 Iterator 생성까지만 측정 (순회 비용은 호출 측)
+ */
+public class TimedUserRepository implements UserRepository {
+
+	private final UserRepository delegate;
+
+	private final Timer findByUsername;
+	private final Timer findByEmail;
+	private final Timer save;
+	private final Timer saveAll;
+	private final Timer replacePassword;
+	private final Timer findById;
+	private final Timer existsById;
+	private final Timer findAll;
+	private final Timer scanFrom;
+	private final Timer findAllById;
+	private final Timer count;
+	private final Timer deleteById;
+	private final Timer delete;
+	private final Timer deleteAllById;
+	// deleteAll(Iterable), deleteAll() 공용
+	private final Timer deleteAll;
+
+	public TimedUserRepository(UserRepository delegate, MeterRegistry registry) {
+		this.delegate = delegate;
+		this.findByUsername = timer(registry, "findByUsername");
+		this.findByEmail = timer(registry, "findByEmail");
+		this.save = timer(registry, "save");
+		this.saveAll = timer(registry, "saveAll");
+		this.replacePassword = timer(registry, "replacePassword");
+		this.findById = timer(registry, "findById");
+		this.existsById = timer(registry, "existsById");
+		this.findAll = timer(registry, "findAll");
+		this.scanFrom = timer(registry, "scanFrom");
+		this.findAllById = timer(registry, "findAllById");
+		this.count = timer(registry, "count");
+		this.deleteById = timer(registry, "deleteById");
+		this.delete = timer(registry, "delete");
+		this.deleteAllById = timer(registry, "deleteAllById");
+		this.deleteAll = timer(registry, "deleteAll");
+	}
+
+	@Override
+	public User findByUsername(String username) {
+		long start = System.nanoTime();
+		try {
+			return delegate.findByUsername(username);
+		} finally {
+			findByUsername.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public Optional<User> findByEmail(String email) {
+		long start = System.nanoTime();
+		try {
+			return delegate.findByEmail(email);
+		} finally {
+			findByEmail.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public <S extends User> S save(S entity) {
+		long start = System.nanoTime();
+		try {
+			return delegate.save(entity);
+		} finally {
+			save.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public <S extends User> List<S> saveAll(Iterable<S> entities) {
+		long start = System.nanoTime();
+		try {
+			return delegate.saveAll(entities);
+		} finally {
+			saveAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public boolean replacePassword(long uuid, String expectedPassword, String newPassword) {
+		long start = System.nanoTime();
+		try {
+			return delegate.replacePassword(uuid, expectedPassword, newPassword);
+		} finally {
+			replacePassword.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public Optional<User> findById(Long id) {
+		long start = System.nanoTime();
+		try {
+			return delegate.findById(id);
+		} finally {
+			findById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public boolean existsById(Long id) {
+		long start = System.nanoTime();
+		try {
+			return delegate.existsById(id);
+		} finally {
+			existsById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public List<User> findAll() {
+		long start = System.nanoTime();
+		try {
+			return delegate.findAll();
+		} finally {
+			findAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public Iterator<User> scanFrom(Long afterUuid) {
+		long start = System.nanoTime();
+		try {
+			return delegate.scanFrom(afterUuid);
+		} finally {
+			scanFrom.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public List<User> findAllById(Iterable<Long> ids) {
+		long start = System.nanoTime();
+		try {
+			return delegate.findAllById(ids);
+		} finally {
+			findAllById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public long count() {
+		long start = System.nanoTime();
+		try {
+			return delegate.count();
+		} finally {
+			count.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void deleteById(Long id) {
+		long start = System.nanoTime();
+		try {
+			delegate.deleteById(id);
+		} finally {
+			deleteById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void delete(User entity) {
+		long start = System.nanoTime();
+		try {
+			delegate.delete(entity);
+		} finally {
+			delete.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void deleteAllById(Iterable<? extends Long> ids) {
+		long start = System.nanoTime();
+		try {
+			delegate.deleteAllById(ids);
+		} finally {
+			deleteAllById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends User> entities) {
+		long start = System.nanoTime();
+		try {
+			delegate.deleteAll(entities);
+		} finally {
+			deleteAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void deleteAll() {
+		long start = System.nanoTime();
+		try {
+			delegate.deleteAll();
+		} finally {
+			deleteAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static Timer timer(MeterRegistry registry, String operation) {
+		return Timer.builder("user.repository")
+			.description("사용자 저장소 호출 시간")
+			.tag("operation", operation)
+			.register(registry);
+	}
+}
@@ -0,0 +1,171 @@
+package org.personal.template.infrastructure.ratelimit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.personal.template.infrastructure.cache.ExpiringLruCache;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.TokenVerification;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.response.Code;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 수 제한 (보안 필터 체인 맨 앞, GlobalSecurityContextFilter/로그인 필터보다 먼저 실행)
+ * - 경로 패턴별 전체 버킷: 규칙 형식 "패턴=초당 허용:버스트", 앞의 규칙부터 확인하여 처음 일치한 규칙 사용
+ * - 경로는 디코딩/세미콜론 제거한 애플리케이션 내 경로로 비교 (/api/%75ser/** 같은 인코딩 우회 방지)
+ * - 주체별 버킷: 검증된 토큰의 email마다 하나, 그 외(토큰 없음/형식 오류/위조/만료)는 원격 IP마다 하나
+ *   (규칙에 일치하는 요청에만 적용) 토큰을 여러 개 발급받거나 바꿔 보내도 주체 버킷은 하나
+ *   검증은 JWTUtil.checkRequest 한 번 (VerifiedTokenCache 우선, 미스일 때만 서명 검증), 결과는 요청 속성으로
+ *   뒤의 GlobalSecurityContextFilter에 넘기고 인증 실패 응답도 그쪽이 담당
+ * - 주체 버킷은 크기 제한 LRU에 보관하고, 가득 찰 만큼 쉬면 새 버킷과 같으므로 그때 만료시킴
+ * - 초과 시 429 + Retry-After, 본문은 시작 시점에 미리 직렬화한 바이트 그대로
+ * 빈으로 등록하지 않고 GlobalSecurityConfig에서 만들어 보안 필터 체인에만 추가
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final boolean enabled;
+	private final JWTUtil jwtUtil;
+	private final List<Route> routes;
+	private final double principalPermitsPerSecond;
+	private final int principalBurst;
+	private final long principalIdleMillis;
+	private final ExpiringLruCache<String, TokenBucket> principals;
+	private final byte[] rejectedBody;
+
+	public RateLimitFilter(boolean enabled, String[] routes, double principalPermitsPerSecond, int principalBurst,
+		int principalMaximumSize, JWTUtil jwtUtil, ApiResponseSerializer apiResponseSerializer) {
+		this.enabled = enabled;
+		this.jwtUtil = jwtUtil;
+		this.routes = parseRoutes(routes);
+		this.principalPermitsPerSecond = principalPermitsPerSecond;
+		this.principalBurst = principalBurst;
+		this.principalIdleMillis = Math.max(1L,
+			TimeUnit.NANOSECONDS.toMillis(new TokenBucket(principalPermitsPerSecond, principalBurst).fullRefillNanos()));
+		this.principals = new ExpiringLruCache<>(principalMaximumSize, 16);
+		this.rejectedBody = apiResponseSerializer.failure(Code.TOO_MANY_REQUESTS);
+		if (enabled) {
+			log.info("Rate limit: routes={}, principal={}/s burst={}", this.routes, principalPermitsPerSecond,
+				principalBurst);
+		}
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		Route route = enabled ? match(UrlPathHelper.defaultInstance.getPathWithinApplication(request)) : null;
+		if (route == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		// 주체 버킷을 먼저 확인하여 한 주체의 과다 요청이 경로 전체 버킷을 소모하지 않게 함
+		long now = System.nanoTime();
+		long wait = principalBucket(principalKey(request)).tryAcquire(now);
+		if (wait == TokenBucket.ALLOWED) {
+			wait = route.bucket().tryAcquire(now);
+		}
+		if (wait != TokenBucket.ALLOWED) {
+			reject(response, wait);
+			return;
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private Route match(String path) {
+		PathContainer container = null;
+		for (Route route : routes) {
+			if (container == null) {
+				container = PathContainer.parsePath(path);
+			}
+			if (route.pattern().matches(container)) {
+				return route;
+			}
+		}
+		return null;
+	}
+
+	private TokenBucket principalBucket(String key) {
+		long nowMillis = System.currentTimeMillis();
+		// 조회/생성을 한 번에 처리하여 같은 주체의 첫 요청이 몰려도 버킷은 하나, 사용할 때마다 만료 시각을 뒤로 미룸
+		return principals.getOrCreate(key, this::newPrincipalBucket, nowMillis, nowMillis + principalIdleMillis);
+	}
+
+	private TokenBucket newPrincipalBucket() {
+		return new TokenBucket(principalPermitsPerSecond, principalBurst);
+	}
+
+	private String principalKey(HttpServletRequest request) {
+		if (request.getHeader(JWTUtil.AUTHORIZATION_HEADER) != null) {
+			// 검증 결과는 요청 속성에 남아 GlobalSecurityContextFilter가 그대로 재사용
+			TokenVerification verification = jwtUtil.checkRequest(request);
+			if (verification.isValid()) {
+				return "u:" + verification.token().getEmail();
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+		response.setStatus(Code.TOO_MANY_REQUESTS.getStatus().value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.setContentType("application/json;charset=UTF-8");
+		response.setContentLength(rejectedBody.length);
+		response.getOutputStream().write(rejectedBody);
+		response.getOutputStream().flush();
+	}
+
+	/**
+	 * "/api/user/**=200:400" -> 패턴, 초당 200개 보충, 최대 400개 연속 허용
+	 */
+	static List<Route> parseRoutes(String[] specs) {
+		List<Route> routes = new ArrayList<>();
+		if (specs == null) {
+			return routes;
+		}
+		for (String spec : specs) {
+			String trimmed = spec.trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+			int equals = trimmed.lastIndexOf('=');
+			int colon = trimmed.lastIndexOf(':');
+			if (equals <= 0 || colon < equals) {
+				throw new IllegalArgumentException("rate-limit route must be pattern=permitsPerSecond:burst: " + spec);
+			}
+			String pattern = trimmed.substring(0, equals).trim();
+			try {
+				double permitsPerSecond = Double.parseDouble(trimmed.substring(equals + 1, colon).trim());
+				int burst = Integer.parseInt(trimmed.substring(colon + 1).trim());
+				routes.add(new Route(pattern, PathPatternParser.defaultInstance.parse(pattern),
+					new TokenBucket(permitsPerSecond, burst)));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("rate-limit route must be pattern=permitsPerSecond:burst: " + spec, e);
+			}
+		}
+		return routes;
+	}
+
+	record Route(String spec, PathPattern pattern, TokenBucket bucket) {
+
+		@Override
+		public String toString() {
+			return spec;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package org.personal.template.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA: 다음 요청이 허용되는 이론적 도착 시각 하나만 CAS로 갱신)
+ * - 별도 보충 스레드/타이머 없이, 호출 시점까지 경과한 시간만큼 보충된 버킷과 동일하게 동작
+ * - permitsPerSecond 속도로 보충, 비어 있던 시간이 길어도 최대 burst개까지만 연속 허용
+ */
+public class TokenBucket {
+
+	public static final long ALLOWED = 0L;
+
+	private final long intervalNanos;
+	private final long toleranceNanos;
+	// 처음에는 과거 어느 시각보다도 이르게 두어 가득 찬 상태로 시작
+	private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+	public TokenBucket(double permitsPerSecond, int burst) {
+		if (!(permitsPerSecond > 0) || burst <= 0) {
+			throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+		}
+		this.intervalNanos = Math.max(1L, Math.round(1_000_000_000L / permitsPerSecond));
+		this.toleranceNanos = intervalNanos * burst;
+	}
+
+	/**
+	 * 토큰 하나 사용
+	 * @return 허용이면 ALLOWED(0), 아니면 다음 토큰까지 남은 나노초
+	 */
+	public long tryAcquire(long nowNanos) {
+		while (true) {
+			long arrival = theoreticalArrival.get();
+			long next = Math.max(arrival, nowNanos) + intervalNanos;
+			long wait = next - nowNanos - toleranceNanos;
+			if (wait > 0) {
+				return wait;
+			}
+			if (theoreticalArrival.compareAndSet(arrival, next)) {
+				return ALLOWED;
+			}
+		}
+	}
+
+	/**
+	 * 빈 버킷이 가득 찰 때까지 걸리는 시간 (이 시간 동안 쓰지 않은 버킷은 새 버킷과 같음)
+	 */
+	public long fullRefillNanos() {
+		return toleranceNanos;
+	}
+}
@@ -0,0 +1,142 @@
+package org.personal.template.infrastructure.response;
+
+import java.nio.charset.StandardCharsets;
+
+import org.personal.template.infrastructure.exception.BaseException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 필터 단계(컨트롤러 밖)에서 ApiResponseData를 직접 쓸 때 공유하는 직렬화기
+ * - 스프링의 ObjectMapper로 ObjectWriter를 한 번만 만들어 재사용 (요청마다 new ObjectMapper() 하지 않음)
+ * - 인증/로그인 실패 응답은 Code별로 시작 시점에 미리 직렬화한 UTF-8 바이트 틀을 두고,
+ *   요청마다 달라지는 문자열(details, 로그인 실패 사유)만 이스케이프해서 끼워 넣음
+ * - 틀은 같은 ObjectMapper로 만들기 때문에 필드 순서/형식이 일반 직렬화 결과와 같음
+ * 반환된 배열은 공유될 수 있으므로 수정하지 않고 그대로 응답에 씀
+ */
+@Component
+public class ApiResponseSerializer {
+
+	// 인증 필터 실패 응답의 code/message (HTTP 상태는 401)
+	private static final int AUTH_FAILURE_CODE = 403;
+	private static final String AUTH_FAILURE_MESSAGE = "fail";
+
+	private static final int LOGIN_FAILURE_CODE = 401;
+	private static final String LOGIN_FAILURE_PREFIX = "로그인 실패: ";
+
+	// 틀을 만들 때 가변 문자열 자리에 넣는 표시 (JSON 이스케이프 대상 문자가 없어야 함)
+	private static final String PLACEHOLDER = "__VARIABLE__";
+
+	private final ObjectWriter writer;
+
+	// Code.ordinal() -> {"code":<code>,"message":<code message>,"data":null}
+	private final byte[][] failures;
+	// Code.ordinal() -> 인증 실패 응답 틀
+	private final Template[] authFailures;
+	private final Template loginFailure;
+
+	public ApiResponseSerializer(ObjectMapper objectMapper) {
+		this.writer = objectMapper.writerFor(ApiResponseData.class);
+
+		Code[] codes = Code.values();
+		this.failures = new byte[codes.length][];
+		this.authFailures = new Template[codes.length];
+		for (Code code : codes) {
+			failures[code.ordinal()] = serialize(ApiResponseData.failure(code.getCode(), code.getMessage()));
+			authFailures[code.ordinal()] = template(
+				authFailureBody(code, PLACEHOLDER),
+				authFailureBody(code, null));
+		}
+		this.loginFailure = template(
+			ApiResponseData.failure(LOGIN_FAILURE_CODE, LOGIN_FAILURE_PREFIX + PLACEHOLDER),
+			ApiResponseData.failure(LOGIN_FAILURE_CODE, LOGIN_FAILURE_PREFIX + null));
+	}
+
+	public byte[] serialize(ApiResponseData<?> body) {
+		try {
+			return writer.writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("응답 직렬화 실패", e);
+		}
+	}
+
+	/**
+	 * 가변 값이 없는 실패 응답 본문 (미리 직렬화한 배열 그대로)
+	 */
+	public byte[] failure(Code code) {
+		return failures[code.ordinal()];
+	}
+
+	/**
+	 * 인증 필터에서 토큰/사용자 확인에 실패했을 때의 응답 본문
+	 * {"code":403,"message":"fail","data":{"code":..., "message":..., "details":...}}
+	 */
+	public byte[] authFailure(BaseException e) {
+		return authFailure(e.getErrorCode(), e.getMessage());
+	}
+
+	public byte[] authFailure(Code code, String details) {
+		return authFailures[code.ordinal()].fill(details);
+	}
+
+	/**
+	 * 로그인 필터 실패 응답 본문 {"code":401,"message":"로그인 실패: <reason>","data":null}
+	 */
+	public byte[] loginFailure(String reason) {
+		return loginFailure.fill(reason);
+	}
+
+	private static ApiResponseData<ErrorData> authFailureBody(Code code, String details) {
+		ErrorData errorData = new ErrorData(code.getCode(), code.getMessage(), details);
+		return new ApiResponseData<>(AUTH_FAILURE_CODE, AUTH_FAILURE_MESSAGE, errorData);
+	}
+
+	private Template template(ApiResponseData<?> withPlaceholder, ApiResponseData<?> withNull) {
+		byte[] bytes = serialize(withPlaceholder);
+		byte[] marker = PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+		int at = indexOf(bytes, marker);
+		if (at < 0) {
+			throw new IllegalStateException("응답 틀에서 가변 문자열 위치를 찾을 수 없습니다");
+		}
+		byte[] prefix = new byte[at];
+		byte[] suffix = new byte[bytes.length - at - marker.length];
+		System.arraycopy(bytes, 0, prefix, 0, prefix.length);
+		System.arraycopy(bytes, at + marker.length, suffix, 0, suffix.length);
+		return new Template(prefix, suffix, serialize(withNull));
+	}
+
+	private static int indexOf(byte[] bytes, byte[] marker) {
+		outer:
+		for (int i = 0; i <= bytes.length - marker.length; i++) {
+			for (int j = 0; j < marker.length; j++) {
+				if (bytes[i + j] != marker[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * 미리 직렬화한 앞/뒤 바이트 + 가변 문자열 자리 (null이면 미리 만든 전체 본문 그대로)
+	 */
+	private record Template(byte[] prefix, byte[] suffix, byte[] withNull) {
+
+		byte[] fill(String value) {
+			if (value == null) {
+				return withNull;
+			}
+			byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+			byte[] body = new byte[prefix.length + escaped.length + suffix.length];
+			System.arraycopy(prefix, 0, body, 0, prefix.length);
+			System.arraycopy(escaped, 0, body, prefix.length, escaped.length);
+			System.arraycopy(suffix, 0, body, prefix.length + escaped.length, suffix.length);
+			return body;
+		}
+	}
+}
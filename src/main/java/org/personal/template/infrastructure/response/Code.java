@@ -19,11 +19,17 @@ public enum Code {
 	CREATED(HttpStatus.CREATED, 201, "성공적으로 생성되었습니다."),
 	ALREADY_EXISTS(HttpStatus.OK, 202, "이미 존재하는 리소스입니다."),
 
+	/**
+	 * 400번대
+	 */
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 429, "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+
 	/**
 	 * 500번대
 	 */
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 500, "예기치 못한 서버 오류가 발생했습니다."),
 	INTERNAL_SERVER_MINIO_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 500, "Minio 서버 오류가 발생했습니다."),
+	SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, 503, "요청이 많아 잠시 후 다시 시도해주세요."),
 
 	AUTH001(HttpStatus.UNAUTHORIZED,1001, "유효하지 않은 JWT 서명"),
 	AUTH002(HttpStatus.UNAUTHORIZED,1002, "만료된 JWT 토큰"),
@@ -31,6 +37,7 @@ public enum Code {
 	AUTH004(HttpStatus.UNAUTHORIZED,1004, "Claim 누락"),
 	AUTH005(HttpStatus.UNAUTHORIZED,1005, "JWT 토큰 없음"),
 	AUTH006(HttpStatus.UNAUTHORIZED,1006, "Claim 누락"),
+	AUTH007(HttpStatus.UNAUTHORIZED,1007, "폐기된 JWT 토큰"),
 
 	SIGN001(HttpStatus.BAD_REQUEST,2001,"일치하는 이메일 없음"),
 	SIGN002(HttpStatus.BAD_REQUEST,2002,"비밀번호 불일치"),
@@ -38,6 +45,7 @@ public enum Code {
 	SIGN004(HttpStatus.BAD_REQUEST,2004,"이미 등록된 사용자 이름"),
 	SIGN005(HttpStatus.BAD_REQUEST,2005,"유효하지 않은 회원가입 정보"),
 	SIGN006(HttpStatus.BAD_REQUEST,2006,"유효하지 않은 관리자 코드"),
+	SIGN007(HttpStatus.TOO_MANY_REQUESTS,2007,"로그인 시도 횟수 초과"),
 
 
 	;
@@ -0,0 +1,56 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 하드웨어에서 목표 해시 시간에 맞는 BCrypt cost(strength) 산출
+ * cost가 1 오를 때마다 해시 시간이 2배가 되므로, 최소 cost에서 측정한 시간으로 외삽
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+	private static final String SAMPLE_PASSWORD = "calibration-password";
+	private static final int SAMPLES = 3;
+
+	private BCryptStrengthCalibrator() {
+	}
+
+	/**
+	 * targetMillis를 넘지 않는 가장 큰 cost 반환 (minStrength ~ maxStrength 범위)
+	 * 최소 cost에서도 목표를 넘으면 minStrength 반환 (보안 하한 유지)
+	 */
+	public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+		long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+		long elapsedNanos = measure(minStrength);
+
+		int strength = minStrength;
+		long expectedNanos = elapsedNanos;
+		while (strength < maxStrength && expectedNanos * 2 <= targetNanos) {
+			expectedNanos *= 2;
+			strength++;
+		}
+
+		log.info("BCrypt strength calibrated: strength={}, measured={}ms at {}, expected={}ms, target={}ms",
+			strength, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), minStrength,
+			TimeUnit.NANOSECONDS.toMillis(expectedNanos), targetMillis);
+		return strength;
+	}
+
+	// 워밍업 1회 후 가장 빠른 측정값 사용 (GC, JIT 영향 최소화)
+	private static long measure(int strength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+		encoder.encode(SAMPLE_PASSWORD);
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < SAMPLES; i++) {
+			long start = System.nanoTime();
+			encoder.encode(SAMPLE_PASSWORD);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+}
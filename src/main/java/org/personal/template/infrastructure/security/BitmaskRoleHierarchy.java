@@ -0,0 +1,47 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Role 비트 마스크 기반 RoleHierarchy (URL 규칙 hasRole, @Secured 검사에서 사용)
+ * - 역할 권한만 있으면 미리 만들어 둔 Role 목록을 그대로 반환 (할당 없음)
+ * - 역할이 아닌 권한이 섞여 있을 때만 새 목록을 만들어 함께 반환
+ */
+@Component
+public class BitmaskRoleHierarchy implements RoleHierarchy {
+
+	@Override
+	public Collection<? extends GrantedAuthority> getReachableGrantedAuthorities(
+		Collection<? extends GrantedAuthority> authorities) {
+		if (authorities == null || authorities.isEmpty()) {
+			return List.of();
+		}
+
+		int mask = 0;
+		List<GrantedAuthority> others = null;
+		for (GrantedAuthority authority : authorities) {
+			Role role = authority instanceof Role r ? r : Role.fromAuthority(authority.getAuthority());
+			if (role != null) {
+				mask |= role.reachableMask();
+			} else {
+				if (others == null) {
+					others = new ArrayList<>(2);
+				}
+				others.add(authority);
+			}
+		}
+
+		List<GrantedAuthority> roles = Role.authoritiesOf(mask);
+		if (others == null) {
+			return roles;
+		}
+		others.addAll(roles);
+		return others;
+	}
+}
@@ -2,23 +2,33 @@ package org.personal.template.infrastructure.security;
 
 import org.personal.template.infrastructure.jwt.JWTUtil;
 import org.personal.template.infrastructure.jwt.JwtAuthenticationFilter;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.ratelimit.RateLimitFilter;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 서블릿(Tomcat) 모드 보안 설정, reactive 프로필에서는 ReactiveSecurityConfig 사용
+ */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true)
 @RequiredArgsConstructor
@@ -27,11 +37,9 @@ public class GlobalSecurityConfig {
 	private final JWTUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
 	private final GlobalSecurityContextFilter globalSecurityContextFilter;
-
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
+	private final ApiResponseSerializer apiResponseSerializer;
+	private final AuthEventLogger authEventLogger;
+	private final LoginAttemptLimiter loginAttemptLimiter;
 
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -40,14 +48,27 @@ public class GlobalSecurityConfig {
 
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, apiResponseSerializer, authEventLogger,
+			loginAttemptLimiter);
 		filter.setAuthenticationManager(authenticationManager(null));
 		filter.setFilterProcessesUrl("/api/login"); // 로그인 URL 설정
 		return filter;
 	}
 
 	@Bean
-	public SecurityFilterChain globalSecurityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain globalSecurityFilterChain(HttpSecurity http,
+		@Value("${rate-limit.enabled:true}") boolean rateLimitEnabled,
+		@Value("${rate-limit.routes:}") String[] rateLimitRoutes,
+		@Value("${rate-limit.principal.permits-per-second:20}") double principalPermitsPerSecond,
+		@Value("${rate-limit.principal.burst:40}") int principalBurst,
+		@Value("${rate-limit.principal.maximum-size:100000}") int principalMaximumSize,
+		Environment environment) throws Exception {
+		// 메트릭은 관리 포트가 분리되어 서비스 포트에 매핑되지 않을 때만 인증 없이 허용, 같은 포트면 ADMIN만
+		boolean separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
+		// 요청 수 제한 필터는 빈으로 만들지 않음 (Filter 빈은 서블릿 필터로도 자동 등록됨)
+		RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimitEnabled, rateLimitRoutes,
+			principalPermitsPerSecond, principalBurst, principalMaximumSize, jwtUtil, apiResponseSerializer);
+
 		http
 			.csrf(csrf -> csrf.disable())
 			.formLogin(formLogin -> formLogin.disable())  // 로그인 페이지 비활성화
@@ -66,17 +87,30 @@ public class GlobalSecurityConfig {
 			)
 
 			// URL 권한 설정
-			.authorizeHttpRequests(auth -> auth
-				// Swagger UI 접근 허용
-				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/docs/**").permitAll()
+			.authorizeHttpRequests(auth -> {
+				// 스트리밍 응답의 async 재디스패치는 최초 요청에서 이미 인가됨
+				auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+					// Swagger UI 접근 허용
+					.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/docs/**").permitAll()
+					// 헬스 체크 (노출 범위는 management.endpoints.web.exposure.include)
+					.requestMatchers("/actuator/health", "/livez", "/readyz").permitAll();
+				// 메트릭 수집
+				if (separateManagementPort) {
+					auth.requestMatchers("/actuator/prometheus").permitAll();
+				} else {
+					auth.requestMatchers("/actuator/prometheus").hasRole("ADMIN");
+				}
 				// 로그인 및 회원가입 접근 허용
-				.requestMatchers("/api/user/login", "/api/user/register", "/api/user/register/admin").permitAll()
-				.requestMatchers("/api/admin/**").hasRole("ADMIN")
-				.anyRequest().authenticated())
+				auth.requestMatchers("/api/user/login", "/api/user/register", "/api/user/register/admin").permitAll()
+					.requestMatchers("/api/admin/**").hasRole("ADMIN")
+					.anyRequest().authenticated();
+			})
 
 			.sessionManagement(session -> session
 				.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+			// 같은 위치에 추가한 필터는 추가한 순서대로 실행: 요청 수 제한 -> 로그인 -> 토큰 인증
+			.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
 			.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
 			.addFilterBefore(globalSecurityContextFilter, UsernamePasswordAuthenticationFilter.class);
 
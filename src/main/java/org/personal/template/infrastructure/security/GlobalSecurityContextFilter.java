@@ -1,25 +1,26 @@
 package org.personal.template.infrastructure.security;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import org.personal.template.domain.entity.User;
 import org.personal.template.domain.repository.UserRepository;
 import org.personal.template.infrastructure.exception.BaseException;
 import org.personal.template.infrastructure.jwt.JWTUtil;
-import org.personal.template.infrastructure.response.ApiResponseData;
+import org.personal.template.infrastructure.jwt.TokenVerification;
+import org.personal.template.infrastructure.jwt.VerifiedToken;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
 import org.personal.template.infrastructure.response.Code;
-import org.personal.template.infrastructure.response.ErrorData;
+import org.personal.template.infrastructure.tracing.RequestTrace;
+import org.personal.template.infrastructure.tracing.Stage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,39 +30,44 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j(topic = "JWT 검증 및 인가")
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class GlobalSecurityContextFilter extends OncePerRequestFilter {
 
 	private final JWTUtil jwtUtil;
 	private final UserRepository userRepository;
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final PrincipalResolver principalResolver;
+	private final ApiResponseSerializer apiResponseSerializer;
+	private final AuthEventLogger authEventLogger;
+	private final AuthMetrics authMetrics;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
 
+		// 토큰 확인 ~ 인증 정보 설정 구간 (다음 필터로 넘기기 전이나 에러 응답 시 닫음)
+		int span = RequestTrace.NOT_RECORDING;
 		try {
 			if (shouldNotFilter(request)) {
 				filterChain.doFilter(request, response);
 				return;
 			}
+			span = RequestTrace.start(Stage.SECURITY_CONTEXT);
 
 			// 1) JWT 토큰 우선 처리
-			String tokenValue = jwtUtil.getTokenFromRequest(request);
-			if (StringUtils.hasText(tokenValue)) {
-				log.info("Extracted Token: {}", tokenValue);
-				if (!jwtUtil.validateToken(tokenValue)) {
-					throw new BaseException(Code.AUTH005, "Token validation failed");
-				}
-
-				// 클레임에서 이메일 추출 후 사용자 조회
-				String email = jwtUtil.getEmail(tokenValue);
-				if (email == null) {
-					throw new BaseException(Code.AUTH004, "토큰에 이메일 정보가 없습니다");
-				}
-
-				// 사용자가 존재하는지 확인
-				setAuthentication(email);
+			// 헤더 문자열 위에서 형식/서명 검사 후 한 번의 파싱으로 클레임 추출 (실패는 예외 없이 결과 값으로)
+			// RateLimitFilter에서 이미 검증했으면 그 결과 재사용
+			TokenVerification verification = jwtUtil.checkRequest(request);
+			if (verification.check().isFailure()) {
+				RequestTrace.end(span);
+				authEventLogger.tokenRejected(verification.check());
+				authMetrics.recordFilterOutcome(verification.check().getCode());
+				writeError(response, verification.check().getException());
+				return;
+			}
+			if (verification.isValid()) {
+				// 사용자 주체 결정 (lookup: 캐시/저장소 확인, claims: 클레임 + 폐기 목록)
+				setAuthentication(verification.token());
 			}
 			// 2) JWT 헤더가 없으면 레거시 헤더 인증 시도
 			else {
@@ -87,54 +93,42 @@ public class GlobalSecurityContextFilter extends OncePerRequestFilter {
 				}
 			}
 
+			authMetrics.recordFilterOutcome(
+				SecurityContextHolder.getContext().getAuthentication() != null ? Code.SUCCESS : null);
+			RequestTrace.end(span);
 			filterChain.doFilter(request, response);
 		} catch (BaseException e) {
-			// JWT 검증 중 에러 발생 시 JSON 에러 응답
-			response.setContentType("application/json;charset=UTF-8");
-			response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-			ErrorData errorData = new ErrorData(
-				e.getErrorCode().getCode(),
-				e.getErrorCode().getMessage(),
-				e.getMessage()
-			);
-			ApiResponseData<ErrorData> errorResponse =
-				new ApiResponseData<>(403, "fail", errorData);
-
-			String json = new ObjectMapper().writeValueAsString(errorResponse);
-			response.getWriter().write(json);
-			response.getWriter().flush();
+			// 사용자 확인/폐기 토큰 등 인증 중 에러 발생 시 JSON 에러 응답
+			RequestTrace.end(span);
+			authEventLogger.principalRejected(e);
+			authMetrics.recordFilterOutcome(e.getErrorCode());
+			writeError(response, e);
 		}
 	}
 
-	private void setAuthentication(String email) {
-		try {
-			// 1) DB에서 User 엔티티 조회
-			Optional<User> userOpt = userRepository.findByEmail(email);
-
-			if (userOpt.isEmpty()) {
-				log.error("User not found for email: {}", email);
-				throw new BaseException(Code.SIGN001, "해당 이메일의 사용자를 찾을 수 없습니다: " + email);
-			}
-
-			User user = userOpt.get();
-			log.info("User found: {}", user.getUsername());
+	private void writeError(HttpServletResponse response, BaseException e) throws IOException {
+		byte[] body = apiResponseSerializer.authFailure(e);
+		response.setContentType("application/json;charset=UTF-8");
+		response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+		response.getOutputStream().flush();
+	}
 
-			// 2) User -> UserDetailsImpl 변환
-			UserDetailsImpl userDetails = new UserDetailsImpl(user);
+	private void setAuthentication(VerifiedToken verifiedToken) {
+		// 1) 권한 목록까지 미리 계산된 UserDetailsImpl (실패 시 BaseException, 기록은 AuthEventLogger)
+		int span = RequestTrace.start(Stage.PRINCIPAL_LOOKUP);
+		UserDetailsImpl userDetails = principalResolver.resolve(verifiedToken);
+		RequestTrace.end(span);
 
-			// 3) Authentication 객체에 authorities로 getAuthorities() 사용
-			Authentication auth = new UsernamePasswordAuthenticationToken(
-				userDetails,
-				null,
-				userDetails.getAuthorities()
-			);
+		// 2) Authentication 객체에 authorities로 getAuthorities() 사용
+		Authentication auth = new UsernamePasswordAuthenticationToken(
+			userDetails,
+			null,
+			userDetails.getAuthorities()
+		);
 
-			SecurityContextHolder.getContext().setAuthentication(auth);
-		} catch (Exception e) {
-			log.error("Error setting authentication: {}", e.getMessage(), e);
-			throw e;
-		}
+		SecurityContextHolder.getContext().setAuthentication(auth);
 	}
 
 	@Override
@@ -0,0 +1,300 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.personal.template.infrastructure.cache.SlidingWindowSketch;
+import org.personal.template.infrastructure.exception.RetryLaterException;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.response.Code;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도 제한 (BCrypt 검증 전에 확인하여 공격 트래픽이 해시 풀을 차지하지 못하게 함)
+ * - 이메일별: window 안에서 max-failures번 실패하면 base-backoff부터 실패할 때마다 2배씩 잠금 (최대 max-backoff),
+ *   성공하면 초기화. 고정 크기 테이블(슬롯 2개 중 선택)에 CAS로 기록하여 메모리가 사용자 수와 무관
+ * - 시도는 acquire에서 예약하고 결과가 나오면 정산하므로, 동시에 진행 중인 시도도 남은 실패 허용 횟수를 넘지 못함
+ *   (병렬로 여러 비밀번호를 보내도 잠금 전에 해시되는 시도는 max-failures개까지)
+ * - IP별: 최근 window 동안의 시도 수를 SlidingWindowSketch로 추정, 초과하면 거절 (거절된 시도도 세므로 계속 두드리면 계속 막힘)
+ * - 거절 시 RetryLaterException(SIGN007, 429 + Retry-After)
+ * 클라이언트 IP는 프록시 뒤라면 server.forward-headers-strategy 설정 후의 원격 주소를 사용
+ */
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+	// 해시 대기 + 검증 시간보다 충분히 긴 값, 이보다 오래된 예약은 정리되지 않은 것으로 보고 무시
+	private static final long RESERVATION_TIMEOUT_MILLIS = 30_000;
+
+	private final boolean enabled;
+	private final int maxFailures;
+	private final long failureWindowMillis;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final int maxAttemptsPerIp;
+
+	private final AtomicReferenceArray<FailureState> failures;
+	private final int failureMask;
+	private final SlidingWindowSketch ipAttempts;
+	private final AuthEventLogger authEventLogger;
+
+	public LoginAttemptLimiter(
+		@Value("${security.login-throttle.enabled:true}") boolean enabled,
+		@Value("${security.login-throttle.email.max-failures:5}") int maxFailures,
+		@Value("${security.login-throttle.email.window-seconds:900}") long failureWindowSeconds,
+		@Value("${security.login-throttle.email.base-backoff-seconds:1}") long baseBackoffSeconds,
+		@Value("${security.login-throttle.email.max-backoff-seconds:900}") long maxBackoffSeconds,
+		@Value("${security.login-throttle.email.table-size:65536}") int tableSize,
+		@Value("${security.login-throttle.ip.max-attempts:60}") int maxAttemptsPerIp,
+		@Value("${security.login-throttle.ip.window-seconds:60}") long ipWindowSeconds,
+		@Value("${security.login-throttle.ip.sketch-width:16384}") int sketchWidth,
+		AuthEventLogger authEventLogger) {
+		if (maxFailures <= 0 || maxAttemptsPerIp <= 0 || tableSize <= 0) {
+			throw new IllegalArgumentException(
+				"security.login-throttle max-failures, max-attempts, table-size must be positive");
+		}
+		this.enabled = enabled;
+		this.maxFailures = maxFailures;
+		this.failureWindowMillis = failureWindowSeconds * 1000;
+		this.baseBackoffMillis = baseBackoffSeconds * 1000;
+		this.maxBackoffMillis = maxBackoffSeconds * 1000;
+		this.maxAttemptsPerIp = maxAttemptsPerIp;
+
+		int slots = Math.max(2, Integer.highestOneBit(Math.min(tableSize, 1 << 24) - 1) << 1);
+		this.failures = new AtomicReferenceArray<>(slots);
+		this.failureMask = slots - 1;
+		this.ipAttempts = new SlidingWindowSketch(sketchWidth, ipWindowSeconds * 1000, System.currentTimeMillis());
+		this.authEventLogger = authEventLogger;
+		if (enabled) {
+			log.info("Login throttle: email maxFailures={}/{}s, ip maxAttempts={}/{}s",
+				maxFailures, failureWindowSeconds, maxAttemptsPerIp, ipWindowSeconds);
+		}
+	}
+
+	/**
+	 * 해시 전에 호출, 제한에 걸리면 RetryLaterException
+	 * 허용되면 이메일별 시도 하나를 예약하므로 호출 측은 결과에 따라 recordSuccess/recordFailure,
+	 * 해시까지 가지 못했으면(해시 풀 포화 등) release로 정리
+	 * @param clientIp 알 수 없으면 null (이메일 제한만 적용)
+	 */
+	public void acquire(String email, String clientIp) {
+		long retryAfterSeconds = check(email, clientIp, System.currentTimeMillis());
+		if (retryAfterSeconds > 0) {
+			authEventLogger.loginThrottled(email, clientIp, retryAfterSeconds);
+			throw new RetryLaterException(Code.SIGN007, "로그인 시도가 너무 많습니다", retryAfterSeconds);
+		}
+	}
+
+	public void recordFailure(String email) {
+		if (enabled && email != null) {
+			recordFailure(email, System.currentTimeMillis());
+		}
+	}
+
+	public void recordSuccess(String email) {
+		if (!enabled || email == null) {
+			return;
+		}
+		int hash = spread(email.hashCode());
+		clear(hash & failureMask, email);
+		clear(secondSlot(hash), email);
+	}
+
+	/**
+	 * 예약한 시도를 결과 없이 반납 (실패로 세지 않음)
+	 */
+	public void release(String email) {
+		if (enabled && email != null) {
+			release(email, System.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * 허용이면 0 (이메일 시도 예약), 아니면 Retry-After 초
+	 */
+	long check(String email, String clientIp, long nowMillis) {
+		if (!enabled) {
+			return 0;
+		}
+		if (email != null) {
+			long waitMillis = reserve(email, nowMillis);
+			if (waitMillis > 0) {
+				return toSeconds(waitMillis);
+			}
+		}
+		if (clientIp != null && ipAttempts.add(clientIp, nowMillis) > maxAttemptsPerIp) {
+			if (email != null) {
+				release(email, nowMillis);
+			}
+			return toSeconds(ipAttempts.millisUntilRotation(nowMillis));
+		}
+		return 0;
+	}
+
+	/**
+	 * 이메일 시도 예약: 잠금 중이 아니고, 진행 중인 시도가 남은 실패 허용 횟수보다 적을 때만 허용
+	 * (한도에 닿은 뒤 잠금이 풀리면 한 번에 하나씩만 허용)
+	 * @return 예약했으면 0, 아니면 기다릴 밀리초
+	 */
+	private long reserve(String email, long nowMillis) {
+		int hash = spread(email.hashCode());
+		int first = hash & failureMask;
+		int second = secondSlot(hash);
+		while (true) {
+			int slot = slotOf(email, first, second);
+			if (slot < 0) {
+				// 새 이메일: 빈 슬롯 > 만료된 슬롯 > 실패 수가 적은 슬롯 순으로 교체
+				FailureState firstState = failures.get(first);
+				FailureState secondState = failures.get(second);
+				slot = evictionScore(firstState, nowMillis) <= evictionScore(secondState, nowMillis) ? first : second;
+				FailureState next = new FailureState(email, 0, nowMillis, 0, 1, nowMillis);
+				if (failures.compareAndSet(slot, slot == first ? firstState : secondState, next)) {
+					return 0;
+				}
+				continue;
+			}
+
+			FailureState current = failures.get(slot);
+			if (current == null || !current.email.equals(email)) {
+				continue;
+			}
+			if (current.lockedUntilMillis > nowMillis) {
+				return current.lockedUntilMillis - nowMillis;
+			}
+			boolean windowExpired = nowMillis - current.windowStartMillis > failureWindowMillis;
+			int failureCount = windowExpired ? 0 : current.failures;
+			int pending = pending(current, nowMillis);
+			if (pending >= Math.max(1, maxFailures - failureCount)) {
+				return Math.max(1, baseBackoffMillis);
+			}
+			FailureState next = new FailureState(email, failureCount,
+				windowExpired ? nowMillis : current.windowStartMillis, current.lockedUntilMillis, pending + 1, nowMillis);
+			if (failures.compareAndSet(slot, current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	void recordFailure(String email, long nowMillis) {
+		int hash = spread(email.hashCode());
+		int first = hash & failureMask;
+		int second = secondSlot(hash);
+		while (true) {
+			int slot = slotOf(email, first, second);
+			if (slot < 0) {
+				// 예약 없이 기록되거나 그사이 교체된 이메일: 새 슬롯에 실패 1회로 기록
+				FailureState firstState = failures.get(first);
+				FailureState secondState = failures.get(second);
+				slot = evictionScore(firstState, nowMillis) <= evictionScore(secondState, nowMillis) ? first : second;
+				FailureState next = new FailureState(email, 1, nowMillis, lockedUntil(1, nowMillis), 0, 0);
+				if (failures.compareAndSet(slot, slot == first ? firstState : secondState, next)) {
+					return;
+				}
+				continue;
+			}
+
+			FailureState current = failures.get(slot);
+			if (current == null || !current.email.equals(email)) {
+				continue;
+			}
+			int pending = Math.max(0, pending(current, nowMillis) - 1);
+			FailureState next = nowMillis - current.windowStartMillis > failureWindowMillis
+				? new FailureState(email, 1, nowMillis, lockedUntil(1, nowMillis), pending, current.reservedAtMillis)
+				: new FailureState(email, current.failures + 1, current.windowStartMillis,
+					lockedUntil(current.failures + 1, nowMillis), pending, current.reservedAtMillis);
+			if (failures.compareAndSet(slot, current, next)) {
+				return;
+			}
+		}
+	}
+
+	void release(String email, long nowMillis) {
+		int hash = spread(email.hashCode());
+		int first = hash & failureMask;
+		int second = secondSlot(hash);
+		while (true) {
+			int slot = slotOf(email, first, second);
+			if (slot < 0) {
+				return;
+			}
+			FailureState current = failures.get(slot);
+			if (current == null || !current.email.equals(email)) {
+				continue;
+			}
+			int pending = pending(current, nowMillis);
+			if (pending == 0) {
+				return;
+			}
+			FailureState next = new FailureState(email, current.failures, current.windowStartMillis,
+				current.lockedUntilMillis, pending - 1, current.reservedAtMillis);
+			if (failures.compareAndSet(slot, current, next)) {
+				return;
+			}
+		}
+	}
+
+	// 이메일이 기록된 슬롯 (없으면 -1)
+	private int slotOf(String email, int first, int second) {
+		FailureState state = failures.get(first);
+		if (state != null && state.email.equals(email)) {
+			return first;
+		}
+		state = failures.get(second);
+		return state != null && state.email.equals(email) ? second : -1;
+	}
+
+	private void clear(int slot, String email) {
+		FailureState state = failures.get(slot);
+		if (state != null && state.email.equals(email)) {
+			failures.compareAndSet(slot, state, null);
+		}
+	}
+
+	// 결과가 기록되지 않은 채 오래된 예약(정리되지 않고 끝난 시도)은 세지 않음
+	private static int pending(FailureState state, long nowMillis) {
+		return nowMillis - state.reservedAtMillis > RESERVATION_TIMEOUT_MILLIS ? 0 : state.pending;
+	}
+
+	private long lockedUntil(int failureCount, long nowMillis) {
+		if (failureCount < maxFailures) {
+			return 0;
+		}
+		int doublings = Math.min(failureCount - maxFailures, 30);
+		return nowMillis + Math.min(maxBackoffMillis, baseBackoffMillis << doublings);
+	}
+
+	// 낮을수록 먼저 교체 (빈 슬롯 0, 만료 1, 그 외 실패 수 + 진행 중인 시도 수 + 1)
+	private long evictionScore(FailureState state, long nowMillis) {
+		if (state == null) {
+			return 0;
+		}
+		int pending = pending(state, nowMillis);
+		if (pending == 0 && state.lockedUntilMillis <= nowMillis
+			&& nowMillis - state.windowStartMillis > failureWindowMillis) {
+			return 1;
+		}
+		return state.failures + pending + 1L;
+	}
+
+	private int secondSlot(int hash) {
+		return (hash >>> 16 | hash << 16) * 0x9E3779B9 & failureMask;
+	}
+
+	private static int spread(int h) {
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static long toSeconds(long millis) {
+		return Math.max(1, (millis + 999) / 1000);
+	}
+
+	/**
+	 * @param pending 예약 후 결과가 기록되지 않은 시도 수 (reservedAtMillis는 마지막 예약 시각)
+	 */
+	private record FailureState(String email, int failures, long windowStartMillis, long lockedUntilMillis,
+		int pending, long reservedAtMillis) {
+	}
+}
@@ -0,0 +1,31 @@
+package org.personal.template.infrastructure.security;
+
+import org.personal.template.infrastructure.metrics.TimedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서블릿/reactive 모드 공용 PasswordEncoder (해시/검증 시간은 TimedPasswordEncoder로 측정)
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+	@Bean
+	public PasswordEncoder passwordEncoder(
+		@Value("${security.password-hashing.strength:0}") int strength,
+		@Value("${security.password-hashing.target-millis:100}") long targetMillis,
+		@Value("${security.password-hashing.min-strength:10}") int minStrength,
+		@Value("${security.password-hashing.max-strength:16}") int maxStrength,
+		MeterRegistry meterRegistry) {
+		// strength를 직접 지정하지 않으면(0) 기동 시 목표 시간에 맞춰 cost 보정
+		int cost = strength > 0
+			? strength
+			: BCryptStrengthCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+		return new TimedPasswordEncoder(new BCryptPasswordEncoder(cost), meterRegistry);
+	}
+}
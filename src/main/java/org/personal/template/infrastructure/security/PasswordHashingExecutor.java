@@ -0,0 +1,105 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.personal.template.infrastructure.exception.RetryLaterException;
+import org.personal.template.infrastructure.response.Code;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해시/검증 전용 스레드 풀
+ * - 스레드 수와 대기열 크기를 제한하여 로그인 폭주 시에도 CPU를 다른 요청과 나눠 쓰도록 함
+ * - 대기열이 가득 차면 기다리지 않고 즉시 RetryLaterException(503, Retry-After)으로 거절
+ * - BCrypt는 CPU 작업이므로 가상 스레드 모드(virtual 프로필)에서도 플랫폼 스레드 풀을 그대로 사용
+ * - 포화 감시용 메트릭: password.hashing.active/queued/queue.remaining, password.hashing.rejected
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements MeterBinder {
+
+	private final ThreadPoolExecutor executor;
+	private final long retryAfterSeconds;
+	private final LongAdder rejected = new LongAdder();
+
+	public PasswordHashingExecutor(
+		@Value("${security.password-hashing.pool-size:0}") int poolSize,
+		@Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+		@Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+		// 0 이하이면 코어 수의 절반 사용 (최소 1)
+		int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		AtomicInteger threadNumber = new AtomicInteger(1);
+
+		this.executor = new ThreadPoolExecutor(
+			threads, threads,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hash-" + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			},
+			// 거절 건수는 submit()과 reactive Scheduler 경로 모두 여기서 집계
+			(runnable, pool) -> {
+				rejected.increment();
+				throw new RejectedExecutionException("Password hashing pool is saturated");
+			});
+		this.retryAfterSeconds = retryAfterSeconds;
+		log.info("Password hashing pool: threads={}, queueCapacity={}", threads, queueCapacity);
+	}
+
+	/**
+	 * 해시 풀에서 작업 실행, 포화 상태이면 즉시 RetryLaterException
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, executor);
+		} catch (RejectedExecutionException e) {
+			throw new RetryLaterException(Code.SERVICE_UNAVAILABLE, "비밀번호 처리 요청이 많습니다", retryAfterSeconds);
+		}
+	}
+
+	public Executor executor() {
+		return executor;
+	}
+
+	public long retryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+			.description("해시 작업 중인 스레드 수")
+			.register(registry);
+		Gauge.builder("password.hashing.queued", executor, e -> e.getQueue().size())
+			.description("해시 풀 대기열 길이")
+			.register(registry);
+		Gauge.builder("password.hashing.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+			.description("해시 풀 대기열 남은 자리")
+			.register(registry);
+		FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum)
+			.description("해시 풀 포화로 거절된 요청 (503)")
+			.register(registry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,112 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.UserChangeListener;
+import org.personal.template.infrastructure.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증된 사용자(email -> UserDetailsImpl) 캐시
+ * - 토큰 검증 후 매 요청의 저장소 조회와 UserDetailsImpl/권한 목록 생성을 생략
+ * - 저장소의 save/delete 알림(UserChangeListener)으로 즉시 무효화, 알림이 누락되어도 TTL 후 다시 조회
+ * - 캐시 값은 저장소 User와 분리된 복사본이므로 요청 간에 공유해도 안전
+ */
+@Component
+public class PrincipalCache implements UserChangeListener {
+
+	private final boolean enabled;
+	private final long ttlMillis;
+	private final ExpiringLruCache<String, UserDetailsImpl> cache;
+
+	// 무효화마다 증가, 저장소 조회 도중 무효화가 있었으면 조회 결과를 캐시에 남기지 않음
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public PrincipalCache(
+		@Value("${security.principal-cache.enabled:true}") boolean enabled,
+		@Value("${security.principal-cache.maximum-size:10000}") int maximumSize,
+		@Value("${security.principal-cache.concurrency-level:16}") int concurrencyLevel,
+		@Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.enabled = enabled;
+		this.ttlMillis = ttlSeconds * 1000L;
+		this.cache = new ExpiringLruCache<>(maximumSize, concurrencyLevel);
+	}
+
+	/**
+	 * 캐시된 사용자 반환, 없으면 loader(저장소 조회)로 읽어 캐시 (사용자가 없으면 null)
+	 */
+	public UserDetailsImpl get(String email, Function<String, Optional<User>> loader) {
+		if (!enabled) {
+			return loader.apply(email).map(UserDetailsImpl::new).orElse(null);
+		}
+
+		long now = System.currentTimeMillis();
+		UserDetailsImpl cached = cache.get(email, now);
+		if (cached != null) {
+			return cached;
+		}
+
+		long generation = invalidations.get();
+		Optional<User> user = loader.apply(email);
+		if (user.isEmpty()) {
+			return null;
+		}
+
+		UserDetailsImpl principal = UserDetailsImpl.snapshotOf(user.get());
+		if (invalidations.get() == generation) {
+			cache.put(email, principal, now + ttlMillis);
+			// put 직전에 무효화가 끼어들었으면 방금 넣은 값을 되돌림
+			if (invalidations.get() != generation) {
+				cache.invalidate(email);
+			}
+		}
+		return principal;
+	}
+
+	public void invalidate(String email) {
+		if (email == null) {
+			return;
+		}
+		invalidations.incrementAndGet();
+		cache.invalidate(email);
+	}
+
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		cache.invalidateAll();
+	}
+
+	@Override
+	public void userSaved(User user, User previous) {
+		invalidate(user.getEmail());
+		if (previous != null && !user.getEmail().equals(previous.getEmail())) {
+			invalidate(previous.getEmail());
+		}
+	}
+
+	@Override
+	public void userDeleted(long uuid, String email) {
+		invalidate(email);
+	}
+
+	@Override
+	public void allUsersDeleted() {
+		invalidateAll();
+	}
+
+	public long hitCount() {
+		return cache.hitCount();
+	}
+
+	public long missCount() {
+		return cache.missCount();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+}
@@ -0,0 +1,68 @@
+package org.personal.template.infrastructure.security;
+
+import java.util.Locale;
+
+import org.personal.template.domain.repository.UserRepository;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.jwt.TokenRevocationList;
+import org.personal.template.infrastructure.jwt.VerifiedToken;
+import org.personal.template.infrastructure.response.Code;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증된 토큰으로부터 인증 주체(UserDetailsImpl) 결정 (security.authentication.mode)
+ * - lookup(기본): PrincipalCache를 거쳐 저장소에서 사용자를 확인, 삭제/권한 변경이 바로 반영됨
+ * - claims: 서명된 클레임(email, username, auth)만으로 주체를 만들고 저장소는 조회하지 않음
+ *   삭제/클레임 변경은 TokenRevocationList로 거절, 주체의 uuid는 비어 있음
+ */
+@Slf4j
+@Component
+public class PrincipalResolver {
+
+	private final UserRepository userRepository;
+	private final PrincipalCache principalCache;
+	private final TokenRevocationList tokenRevocationList;
+	private final boolean claimsOnly;
+
+	// 폐기된 토큰은 응답 코드만 필요하므로 스택 트레이스 없는 예외 하나를 공유
+	private static final BaseException REVOKED = BaseException.stackless(Code.AUTH007, "폐기된 JWT 토큰");
+
+	public PrincipalResolver(UserRepository userRepository, PrincipalCache principalCache,
+		TokenRevocationList tokenRevocationList,
+		@Value("${security.authentication.mode:lookup}") String mode) {
+		this.userRepository = userRepository;
+		this.principalCache = principalCache;
+		this.tokenRevocationList = tokenRevocationList;
+		this.claimsOnly = switch (mode.trim().toLowerCase(Locale.ROOT)) {
+			case "lookup" -> false;
+			case "claims" -> true;
+			default -> throw new IllegalArgumentException("security.authentication.mode must be lookup or claims: " + mode);
+		};
+		log.info("Authentication mode: {}", claimsOnly ? "claims" : "lookup");
+	}
+
+	/**
+	 * 토큰의 사용자 주체 반환 (사용자가 없거나 폐기된 토큰이면 BaseException)
+	 */
+	public UserDetailsImpl resolve(VerifiedToken token) {
+		if (claimsOnly) {
+			if (tokenRevocationList.isRevoked(token)) {
+				throw REVOKED;
+			}
+			return UserDetailsImpl.fromClaims(token);
+		}
+
+		UserDetailsImpl userDetails = principalCache.get(token.getEmail(), userRepository::findByEmail);
+		if (userDetails == null) {
+			throw BaseException.stackless(Code.SIGN001, "해당 이메일의 사용자를 찾을 수 없습니다: " + token.getEmail());
+		}
+		return userDetails;
+	}
+
+	public boolean isClaimsOnly() {
+		return claimsOnly;
+	}
+}
@@ -1,7 +1,122 @@
 package org.personal.template.infrastructure.security;
 
-public enum Role {
-	ROLE_ADMIN,
-	ROLE_MANAGER,
-	ROLE_USER,
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 사용자 역할 (상수 자체가 GrantedAuthority, getAuthority() = name())
+ * - 계층: ADMIN ⊇ MANAGER ⊇ USER, 각 역할은 포함하는 역할들의 비트 마스크를 가짐
+ * - authorities()는 자신과 하위 역할로 구성된 불변 목록을 미리 만들어 공유 (요청마다 할당 없음)
+ * - 저장소/로그는 ordinal로 역할을 기록하므로 상수 순서를 바꾸면 안 됨
+ */
+public enum Role implements GrantedAuthority {
+	ROLE_ADMIN("ROLE_MANAGER"),
+	ROLE_MANAGER("ROLE_USER"),
+	ROLE_USER(null),
+	;
+
+	private static final Role[] VALUES = values();
+	// 비트 마스크 -> 해당 역할들로 구성된 불변 목록 (권한이 높은 역할부터)
+	private static final List<GrantedAuthority>[] AUTHORITIES_BY_MASK;
+
+	static {
+		// 하위 역할부터 포함 관계를 누적 (선언 순서상 하위 역할이 뒤에 있음)
+		for (int i = VALUES.length - 1; i >= 0; i--) {
+			Role role = VALUES[i];
+			role.reachableMask = role.bit();
+			if (role.inherits != null) {
+				role.reachableMask |= valueOf(role.inherits).reachableMask;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		List<GrantedAuthority>[] byMask = new List[1 << VALUES.length];
+		for (int mask = 0; mask < byMask.length; mask++) {
+			List<GrantedAuthority> authorities = new ArrayList<>(VALUES.length);
+			for (Role role : VALUES) {
+				if ((mask & role.bit()) != 0) {
+					authorities.add(role);
+				}
+			}
+			byMask[mask] = List.copyOf(authorities);
+		}
+		AUTHORITIES_BY_MASK = byMask;
+	}
+
+	// 바로 아래 역할 이름 (enum 생성자에서는 뒤에 선언된 상수를 참조할 수 없음)
+	private final String inherits;
+	private int reachableMask;
+
+	Role(String inherits) {
+		this.inherits = inherits;
+	}
+
+	@Override
+	public String getAuthority() {
+		return name();
+	}
+
+	public int bit() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * 자신과 하위 역할의 비트 합
+	 */
+	public int reachableMask() {
+		return reachableMask;
+	}
+
+	/**
+	 * 이 역할이 other의 권한을 포함하는지 (ADMIN.includes(USER) == true)
+	 */
+	public boolean includes(Role other) {
+		return (reachableMask & other.bit()) != 0;
+	}
+
+	/**
+	 * 자신과 하위 역할로 구성된 공유 불변 권한 목록
+	 */
+	public List<GrantedAuthority> authorities() {
+		return AUTHORITIES_BY_MASK[reachableMask];
+	}
+
+	/**
+	 * 비트 마스크에 해당하는 공유 불변 권한 목록
+	 */
+	public static List<GrantedAuthority> authoritiesOf(int mask) {
+		return AUTHORITIES_BY_MASK[mask & (AUTHORITIES_BY_MASK.length - 1)];
+	}
+
+	/**
+	 * 권한 이름으로 역할 조회 (역할이 아니면 null)
+	 */
+	public static Role fromAuthority(String authority) {
+		if (authority == null) {
+			return null;
+		}
+		for (Role role : VALUES) {
+			if (role.name().equals(authority)) {
+				return role;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 권한 목록이 도달할 수 있는 모든 역할의 비트 합 (역할이 아닌 권한은 무시)
+	 */
+	public static int reachableMaskOf(Collection<? extends GrantedAuthority> authorities) {
+		int mask = 0;
+		for (GrantedAuthority authority : authorities) {
+			Role role = authority instanceof Role r ? r : fromAuthority(authority.getAuthority());
+			if (role != null) {
+				mask |= role.reachableMask;
+			}
+		}
+		return mask;
+	}
 }
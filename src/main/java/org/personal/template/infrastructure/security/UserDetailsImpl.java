@@ -1,11 +1,11 @@
 package org.personal.template.infrastructure.security;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
 import org.personal.template.domain.entity.User;
+import org.personal.template.infrastructure.jwt.VerifiedToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import lombok.Getter;
@@ -15,13 +15,40 @@ public class UserDetailsImpl implements UserDetails {
 
 	private final User user;
 
+	// Role이 미리 만들어 둔 공유 목록 (자신과 하위 역할), 요청마다 할당하지 않음
+	private final List<GrantedAuthority> authorities;
+
 	public UserDetailsImpl(User user) {
 		this.user = user;
+		this.authorities = user.getRole().authorities();
+	}
+
+	/**
+	 * 캐시 보관용: 저장소의 User와 분리된 복사본으로 생성 (비밀번호 해시는 복사하지 않음)
+	 */
+	public static UserDetailsImpl snapshotOf(User user) {
+		User copy = new User();
+		copy.setUuid(user.getUuid());
+		copy.setEmail(user.getEmail());
+		copy.setUsername(user.getUsername());
+		copy.setRole(user.getRole());
+		return new UserDetailsImpl(copy);
+	}
+
+	/**
+	 * claims 인증 모드용: 서명 검증된 토큰의 클레임으로 생성 (uuid 없음)
+	 */
+	public static UserDetailsImpl fromClaims(VerifiedToken token) {
+		User user = new User();
+		user.setEmail(token.getEmail());
+		user.setUsername(token.getUsername());
+		user.setRole(token.getRole());
+		return new UserDetailsImpl(user);
 	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		return Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()));
+		return authorities;
 	}
 
 	@Override
@@ -1,9 +1,8 @@
 package org.personal.template.infrastructure.security;
 
-import org.personal.template.infrastructure.response.Code;
 import org.personal.template.domain.entity.User;
 import org.personal.template.domain.repository.UserRepository;
-import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,10 +23,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-		log.info("loadUserByUsername called with email: {}", email);
+		// 로그인마다 호출되므로 DEBUG, User 객체(비밀번호 해시 포함)는 기록하지 않음
+		log.debug("loadUserByUsername: email={}", AuthEventLogger.maskEmail(email));
+		// UsernameNotFoundException이어야 DaoAuthenticationProvider가 자격 증명 실패(BadCredentials)로 처리하고
+		// 로그인 필터가 시도 제한 실패로 셈 (다른 예외는 InternalAuthenticationServiceException으로 감싸져 서비스 오류가 됨)
 		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BaseException(Code.SIGN001, "일치하는 이메일 없음"));
-		log.info("User found: {}", user);
+			.orElseThrow(() -> new UsernameNotFoundException("일치하는 이메일 없음"));
 		return new UserDetailsImpl(user);
 	}
 }
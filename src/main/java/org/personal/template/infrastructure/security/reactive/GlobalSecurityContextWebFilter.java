@@ -0,0 +1,118 @@
+package org.personal.template.infrastructure.security.reactive;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.UserRepository;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.TokenVerification;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.PrincipalResolver;
+import org.personal.template.infrastructure.security.UserDetailsImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * GlobalSecurityContextFilter의 WebFlux 버전
+ * - JWT(또는 레거시 X-USER-* 헤더)로 사용자를 확인하고 ReactiveSecurityContextHolder에 인증 정보 설정
+ * - 토큰 검증과 주체 결정(PrincipalResolver)은 CPU/메모리 작업뿐이므로 이벤트 루프에서 바로 처리
+ * - 보안 필터 체인에만 등록해야 하므로 빈으로 만들지 않음 (WebFilter 빈은 전역 체인에도 자동 등록됨)
+ */
+@Slf4j(topic = "JWT 검증 및 인가")
+@RequiredArgsConstructor
+public class GlobalSecurityContextWebFilter implements WebFilter {
+
+	private final JWTUtil jwtUtil;
+	private final UserRepository userRepository;
+	private final PrincipalResolver principalResolver;
+	private final ApiResponseSerializer apiResponseSerializer;
+	private final AuthEventLogger authEventLogger;
+	private final AuthMetrics authMetrics;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (shouldNotFilter(exchange.getRequest())) {
+			return chain.filter(exchange);
+		}
+
+		ServerHttpRequest request = exchange.getRequest();
+		// 1) JWT 토큰 우선 처리 (형식/서명 실패는 예외 없이 결과 값으로)
+		TokenVerification verification =
+			jwtUtil.checkAuthorization(request.getHeaders().getFirst(JWTUtil.AUTHORIZATION_HEADER));
+		if (verification.check().isFailure()) {
+			authEventLogger.tokenRejected(verification.check());
+			authMetrics.recordFilterOutcome(verification.check().getCode());
+			return writeError(exchange, verification.check().getException());
+		}
+
+		Authentication authentication;
+		try {
+			authentication = verification.isValid()
+				? toAuthentication(principalResolver.resolve(verification.token()))
+				: authenticateLegacy(request);
+		} catch (BaseException e) {
+			authEventLogger.principalRejected(e);
+			authMetrics.recordFilterOutcome(e.getErrorCode());
+			return writeError(exchange, e);
+		}
+
+		if (authentication == null) {
+			authMetrics.recordFilterOutcome(null);
+			return chain.filter(exchange);
+		}
+		authMetrics.recordFilterOutcome(Code.SUCCESS);
+		return chain.filter(exchange)
+			.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+	}
+
+	// 2) JWT 헤더가 없으면 레거시 헤더 인증 시도
+	private Authentication authenticateLegacy(ServerHttpRequest request) {
+		HttpHeaders headers = request.getHeaders();
+		String username = headers.getFirst("X-USER-NAME");
+		String role = headers.getFirst("X-USER-ROLE");
+		String userId = headers.getFirst("X-USER-ID");
+		if (username == null || role == null || userId == null) {
+			return null;
+		}
+		try {
+			Long.parseLong(userId);
+		} catch (NumberFormatException e) {
+			log.warn("Invalid X-USER-ID header: {}", userId);
+			return null;
+		}
+		User user = userRepository.findByUsername(username);
+		if (user == null) {
+			throw new BaseException(Code.SIGN001, "사용자를 찾을 수 없습니다");
+		}
+		return toAuthentication(new UserDetailsImpl(user));
+	}
+
+	private static Authentication toAuthentication(UserDetailsImpl userDetails) {
+		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+	}
+
+	private Mono<Void> writeError(ServerWebExchange exchange, BaseException e) {
+		return ReactiveResponses.writeJson(exchange.getResponse(), HttpStatus.UNAUTHORIZED,
+			apiResponseSerializer.authFailure(e));
+	}
+
+	private boolean shouldNotFilter(ServerHttpRequest request) {
+		String path = request.getPath().value();
+		return path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs") ||
+			path.startsWith("/api/user/login") ||
+			path.startsWith("/api/user/register");
+	}
+}
@@ -0,0 +1,159 @@
+package org.personal.template.infrastructure.security.reactive;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.personal.template.infrastructure.exception.RetryLaterException;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.response.ApiResponseData;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.LoginAttemptLimiter;
+import org.personal.template.infrastructure.security.Role;
+import org.personal.template.infrastructure.security.UserDetailsImpl;
+import org.personal.template.presentation.dto.LoginRequestDTO;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthenticationFilter의 WebFlux 버전 (POST /api/login)
+ * - 요청 본문(LoginRequestDTO)을 논블로킹으로 모아 읽고 ReactiveAuthenticationManager로 검증
+ * - 성공 시 Authorization 헤더와 본문에 토큰을 담아 응답, 세션/보안 컨텍스트는 저장하지 않음
+ * - 해시 풀이 포화 상태이면 503 + Retry-After, 시도 제한(LoginAttemptLimiter)에 걸리면 해시 없이 429 + Retry-After
+ */
+@Slf4j
+public class JwtAuthenticationWebFilter extends AuthenticationWebFilter {
+
+	// 실패 시 시도 제한에 기록할 이메일 (convert -> onAuthenticationFailure)
+	private static final String LOGIN_EMAIL_ATTRIBUTE = JwtAuthenticationWebFilter.class.getName() + ".email";
+
+	private final JWTUtil jwtUtil;
+	private final ObjectMapper objectMapper;
+	private final ApiResponseSerializer apiResponseSerializer;
+	private final AuthEventLogger authEventLogger;
+	private final LoginAttemptLimiter loginAttemptLimiter;
+	private final long retryAfterSeconds;
+
+	public JwtAuthenticationWebFilter(ReactiveAuthenticationManager authenticationManager, JWTUtil jwtUtil,
+		ObjectMapper objectMapper, ApiResponseSerializer apiResponseSerializer, AuthEventLogger authEventLogger,
+		LoginAttemptLimiter loginAttemptLimiter, long retryAfterSeconds) {
+		super(authenticationManager);
+		this.jwtUtil = jwtUtil;
+		this.objectMapper = objectMapper;
+		this.apiResponseSerializer = apiResponseSerializer;
+		this.authEventLogger = authEventLogger;
+		this.loginAttemptLimiter = loginAttemptLimiter;
+		this.retryAfterSeconds = retryAfterSeconds;
+
+		setRequiresAuthenticationMatcher(ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, "/api/login"));
+		setServerAuthenticationConverter(this::convert);
+		setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+		setAuthenticationSuccessHandler(this::onAuthenticationSuccess);
+		setAuthenticationFailureHandler(this::onAuthenticationFailure);
+	}
+
+	private Mono<Authentication> convert(ServerWebExchange exchange) {
+		return DataBufferUtils.join(exchange.getRequest().getBody())
+			.map(buffer -> {
+				try {
+					LoginRequestDTO requestDto = objectMapper.readValue(buffer.asInputStream(), LoginRequestDTO.class);
+					authEventLogger.loginAttempt(requestDto.getEmail());
+					exchange.getAttributes().put(LOGIN_EMAIL_ATTRIBUTE, requestDto.getEmail());
+					// 시도 제한은 해시 풀에 넘기기 전에 확인
+					loginAttemptLimiter.acquire(requestDto.getEmail(), clientIp(exchange));
+					return new UsernamePasswordAuthenticationToken(requestDto.getEmail(), requestDto.getPassword());
+				} catch (IOException e) {
+					log.error("요청 데이터 읽기 실패", e);
+					throw new AuthenticationServiceException("요청 데이터 읽기 실패", e);
+				} catch (RetryLaterException e) {
+					throw new AuthenticationServiceException(e.getMessage(), e);
+				} finally {
+					DataBufferUtils.release(buffer);
+				}
+			});
+	}
+
+	private static String clientIp(ServerWebExchange exchange) {
+		InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+		return remoteAddress != null ? remoteAddress.getHostString() : null;
+	}
+
+	/**
+	 * 로그인 성공시
+	 */
+	private Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+		UserDetailsImpl userDetails = (UserDetailsImpl)authentication.getPrincipal();
+
+		// 사용자 정보 추출
+		String email = userDetails.getUsername();
+		String username = userDetails.getUser().getUsername();
+		Role role = userDetails.getUser().getRole();
+
+		String token = jwtUtil.createAccessToken(email, username, role);
+		authEventLogger.loginSucceeded(email);
+		loginAttemptLimiter.recordSuccess(email);
+		ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+		response.getHeaders().add(JWTUtil.AUTHORIZATION_HEADER, token);
+
+		Map<String, Object> userMap = new HashMap<>();
+		userMap.put("email", email);
+		userMap.put("username", username);
+		userMap.put("role", role.name());
+		userMap.put("token", token.replace(JWTUtil.BEARER_PREFIX, ""));
+
+		return ReactiveResponses.writeJson(response, HttpStatus.OK,
+			ApiResponseData.success(userMap, "로그인 성공"), objectMapper);
+	}
+
+	/**
+	 * 로그인 실패시
+	 */
+	private Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException failed) {
+		ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+		String email = webFilterExchange.getExchange().getAttribute(LOGIN_EMAIL_ATTRIBUTE);
+		if (failed.getCause() instanceof RetryLaterException retryLater) {
+			Code code = retryLater.getErrorCode();
+			response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryLater.getRetryAfterSeconds()));
+			return ReactiveResponses.writeJson(response, code.getStatus(), apiResponseSerializer.failure(code));
+		}
+		if (failed.getCause() instanceof RejectedExecutionException) {
+			// 해시 풀에 넣지 못한 시도는 예약만 반납
+			loginAttemptLimiter.release(email);
+			Code code = Code.SERVICE_UNAVAILABLE;
+			response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			return ReactiveResponses.writeJson(response, code.getStatus(), apiResponseSerializer.failure(code));
+		}
+
+		authEventLogger.loginFailed(email, failed.getMessage());
+		// 자격 증명 실패(없는 이메일 포함)만 실패로 세고, 서비스 오류로 끝난 시도는 예약만 반납
+		if (failed instanceof AuthenticationServiceException) {
+			loginAttemptLimiter.release(email);
+		} else {
+			loginAttemptLimiter.recordFailure(email);
+		}
+		return ReactiveResponses.writeJson(response, HttpStatus.UNAUTHORIZED,
+			apiResponseSerializer.loginFailure(failed.getMessage()));
+	}
+}
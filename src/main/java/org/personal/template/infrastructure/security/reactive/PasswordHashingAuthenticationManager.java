@@ -0,0 +1,51 @@
+package org.personal.template.infrastructure.security.reactive;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.UserRepository;
+import org.personal.template.infrastructure.security.UserDetailsImpl;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 이메일/비밀번호 로그인용 ReactiveAuthenticationManager
+ * - BCrypt 검증은 해시 전용 풀(Scheduler)에서 실행하여 이벤트 루프를 막지 않음
+ * - 풀이 포화 상태이면 AuthenticationServiceException(원인 RejectedExecutionException)으로 실패
+ */
+@RequiredArgsConstructor
+public class PasswordHashingAuthenticationManager implements ReactiveAuthenticationManager {
+
+	private final UserRepository userRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final Scheduler passwordHashingScheduler;
+
+	@Override
+	public Mono<Authentication> authenticate(Authentication authentication) {
+		String email = authentication.getName();
+		String rawPassword = String.valueOf(authentication.getCredentials());
+
+		return Mono.defer(() -> Mono.justOrEmpty(userRepository.findByEmail(email)))
+			.switchIfEmpty(Mono.error(() -> new BadCredentialsException("일치하는 이메일 없음")))
+			.flatMap(user -> Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, user.getPassword()))
+				.subscribeOn(passwordHashingScheduler)
+				.onErrorMap(RejectedExecutionException.class,
+					e -> new AuthenticationServiceException("비밀번호 처리 요청이 많습니다", e))
+				.flatMap(matches -> matches
+					? Mono.just(toAuthentication(user))
+					: Mono.error(new BadCredentialsException("비밀번호 불일치"))));
+	}
+
+	private static Authentication toAuthentication(User user) {
+		UserDetailsImpl userDetails = new UserDetailsImpl(user);
+		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+	}
+}
@@ -0,0 +1,36 @@
+package org.personal.template.infrastructure.security.reactive;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFilter 단계에서 컨트롤러를 거치지 않고 JSON 응답을 직접 쓰기 위한 도우미
+ */
+final class ReactiveResponses {
+
+	private ReactiveResponses() {
+	}
+
+	static Mono<Void> writeJson(ServerHttpResponse response, HttpStatus status, Object body, ObjectMapper objectMapper) {
+		byte[] bytes;
+		try {
+			bytes = objectMapper.writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+		return writeJson(response, status, bytes);
+	}
+
+	// 이미 직렬화된 본문 (ApiResponseSerializer 등)
+	static Mono<Void> writeJson(ServerHttpResponse response, HttpStatus status, byte[] bytes) {
+		response.setStatusCode(status);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+	}
+}
@@ -0,0 +1,126 @@
+package org.personal.template.infrastructure.security.reactive;
+
+import org.personal.template.domain.repository.UserRepository;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.security.LoginAttemptLimiter;
+import org.personal.template.infrastructure.security.PasswordHashingExecutor;
+import org.personal.template.infrastructure.security.PrincipalResolver;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux(Netty) 모드 보안 설정 (reactive 프로필, spring.main.web-application-type=reactive)
+ * - URL 권한 규칙은 GlobalSecurityConfig와 동일
+ * - BCrypt 검증은 PasswordHashingExecutor의 제한된 풀을 감싼 Scheduler에서 실행
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+	private final JWTUtil jwtUtil;
+	private final UserRepository userRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final PrincipalResolver principalResolver;
+	private final ObjectMapper objectMapper;
+	private final ApiResponseSerializer apiResponseSerializer;
+	private final AuthEventLogger authEventLogger;
+	private final AuthMetrics authMetrics;
+	private final LoginAttemptLimiter loginAttemptLimiter;
+
+	/**
+	 * 해시 풀을 그대로 사용하므로 스레드 수/대기열 제한도 서블릿 모드와 같음
+	 * 대기열이 가득 차면 구독 시점에 RejectedExecutionException으로 실패
+	 */
+	@Bean
+	public Scheduler passwordHashingScheduler() {
+		return Schedulers.fromExecutor(passwordHashingExecutor.executor());
+	}
+
+	// 빈으로 등록하면 기본 인메모리 사용자(자동 생성 비밀번호) 설정이 생성되지 않음
+	@Bean
+	public ReactiveAuthenticationManager reactiveAuthenticationManager(Scheduler passwordHashingScheduler) {
+		return new PasswordHashingAuthenticationManager(userRepository, passwordEncoder, passwordHashingScheduler);
+	}
+
+	@Bean
+	public SecurityWebFilterChain reactiveSecurityFilterChain(ServerHttpSecurity http,
+		ReactiveAuthenticationManager reactiveAuthenticationManager, Environment environment) {
+		JwtAuthenticationWebFilter jwtAuthenticationWebFilter = new JwtAuthenticationWebFilter(
+			reactiveAuthenticationManager, jwtUtil, objectMapper, apiResponseSerializer, authEventLogger,
+			loginAttemptLimiter, passwordHashingExecutor.retryAfterSeconds());
+		GlobalSecurityContextWebFilter globalSecurityContextWebFilter =
+			new GlobalSecurityContextWebFilter(jwtUtil, userRepository, principalResolver, apiResponseSerializer,
+				authEventLogger, authMetrics);
+
+		// 메트릭은 관리 포트가 분리되어 서비스 포트에 매핑되지 않을 때만 인증 없이 허용, 같은 포트면 ADMIN만
+		boolean separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
+
+		http
+			.csrf(csrf -> csrf.disable())
+			.formLogin(formLogin -> formLogin.disable())  // 로그인 페이지 비활성화
+			.httpBasic(httpBasic -> httpBasic.disable())  // HTTP 기본 인증 비활성화
+			.logout(logout -> logout.disable())  // 로그아웃 기능 비활성화
+
+			.anonymous(an -> an.disable())
+
+			// 세션 대신 요청마다 토큰으로 인증 (STATELESS)
+			.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+			.exceptionHandling(exc -> exc
+				// 인증 없을 땐 401
+				.authenticationEntryPoint((exchange, ex) -> Mono.fromRunnable(() ->
+					exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED)))
+				// 권한 부족일 땐 403
+				.accessDeniedHandler((exchange, ex) -> Mono.fromRunnable(() ->
+					exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN)))
+			)
+
+			// URL 권한 설정
+			.authorizeExchange(auth -> {
+				// Swagger UI 접근 허용
+				auth.pathMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/docs/**").permitAll()
+					// 헬스 체크 (노출 범위는 management.endpoints.web.exposure.include)
+					.pathMatchers("/actuator/health", "/livez", "/readyz").permitAll();
+				// 메트릭 수집
+				if (separateManagementPort) {
+					auth.pathMatchers("/actuator/prometheus").permitAll();
+				} else {
+					auth.pathMatchers("/actuator/prometheus").hasRole("ADMIN");
+				}
+				// 로그인 및 회원가입 접근 허용
+				auth.pathMatchers("/api/login", "/api/user/login", "/api/user/register", "/api/user/register/admin")
+					.permitAll()
+					.pathMatchers("/api/admin/**").hasRole("ADMIN")
+					.anyExchange().authenticated();
+			})
+
+			.addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+			.addFilterAfter(globalSecurityContextWebFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+
+		return http.build();
+	}
+}
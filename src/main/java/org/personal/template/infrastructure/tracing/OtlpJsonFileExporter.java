@@ -0,0 +1,262 @@
+package org.personal.template.infrastructure.tracing;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샘플링된 요청 구간을 OTLP/JSON(ExportTraceServiceRequest) 한 줄씩 파일에 추가
+ * - OpenTelemetry Collector의 otlpjsonfile receiver가 그대로 읽을 수 있는 형식 (수집기 대용)
+ * - 요청 스레드는 대기열에 넣기만 하고, 가득 차면 버리고 건수만 셈 (요청을 막지 않음)
+ * - 파일은 첫 기록 시점에 생성, maxFileBytes를 넘으면 <path>.1로 옮기고 새 파일 시작
+ *   (이전 .1은 덮어쓰므로 디스크 사용량은 최대 약 2 * maxFileBytes)
+ */
+@Slf4j
+class OtlpJsonFileExporter implements AutoCloseable {
+
+	private static final String SCOPE_NAME = "org.personal.template.tracing";
+	private static final int SPAN_KIND_INTERNAL = 1;
+	private static final int SPAN_KIND_SERVER = 2;
+	private static final int STATUS_CODE_ERROR = 2;
+	private static final int MAX_BATCH_SIZE = 256;
+
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+		.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+		.build();
+
+	private final Path path;
+	private final Path rotatedPath;
+	private final String serviceName;
+	private final long maxFileBytes;
+	private final BlockingQueue<Trace> queue;
+	private final LongAdder dropped = new LongAdder();
+	private final Thread writer;
+	private volatile boolean running = true;
+
+	OtlpJsonFileExporter(Path path, String serviceName, int queueCapacity, long maxFileBytes) {
+		this.path = path;
+		this.rotatedPath = path.resolveSibling(path.getFileName() + ".1");
+		this.serviceName = serviceName;
+		this.maxFileBytes = maxFileBytes;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.writer = new Thread(this::writeLoop, "trace-exporter");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	void export(Trace trace) {
+		if (!queue.offer(trace)) {
+			dropped.increment();
+		}
+	}
+
+	long dropped() {
+		return dropped.sum();
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		try {
+			writer.join(TimeUnit.SECONDS.toMillis(1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void writeLoop() {
+		List<Trace> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		CountingOutputStream out = null;
+		try {
+			while (running || !queue.isEmpty()) {
+				Trace first = queue.poll(200, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+				try {
+					if (out == null) {
+						out = open();
+					}
+					for (Trace trace : batch) {
+						write(trace, serviceName, out);
+					}
+					out.flush();
+					if (out.size() >= maxFileBytes) {
+						closeQuietly(out);
+						out = null;
+						Files.move(path, rotatedPath, StandardCopyOption.REPLACE_EXISTING);
+					}
+				} catch (IOException e) {
+					log.warn("Trace export failed: path={}, traces={}", path, batch.size(), e);
+				}
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			closeQuietly(out);
+		}
+	}
+
+	private CountingOutputStream open() throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		// 재시작 시 이어 쓰는 파일은 기존 크기부터 셈
+		long existing = Files.exists(path) ? Files.size(path) : 0;
+		return new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)), existing);
+	}
+
+	private void closeQuietly(OutputStream out) {
+		if (out == null) {
+			return;
+		}
+		try {
+			out.close();
+		} catch (IOException e) {
+			log.warn("Trace export file close failed: {}", path, e);
+		}
+	}
+
+	/**
+	 * 요청 하나를 OTLP/JSON 한 줄로 기록 (span id는 여기서 생성)
+	 */
+	static void write(Trace trace, String serviceName, OutputStream out) throws IOException {
+		String traceId = String.format("%016x%016x", trace.traceIdHigh(), trace.traceIdLow());
+		String[] spanIds = new String[trace.size()];
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < spanIds.length; i++) {
+			spanIds[i] = String.format("%016x", random.nextLong(1, Long.MAX_VALUE));
+		}
+
+		try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+			json.writeStartObject();
+			json.writeArrayFieldStart("resourceSpans");
+			json.writeStartObject();
+
+			json.writeObjectFieldStart("resource");
+			json.writeArrayFieldStart("attributes");
+			stringAttribute(json, "service.name", serviceName);
+			json.writeEndArray();
+			json.writeEndObject();
+
+			json.writeArrayFieldStart("scopeSpans");
+			json.writeStartObject();
+			json.writeObjectFieldStart("scope");
+			json.writeStringField("name", SCOPE_NAME);
+			json.writeEndObject();
+			json.writeArrayFieldStart("spans");
+			for (int i = 0; i < trace.size(); i++) {
+				writeSpan(json, trace, i, traceId, spanIds);
+			}
+			json.writeEndArray();
+			json.writeEndObject();
+			json.writeEndArray();
+
+			json.writeEndObject();
+			json.writeEndArray();
+			json.writeEndObject();
+		}
+		out.write('\n');
+	}
+
+	private static void writeSpan(JsonGenerator json, Trace trace, int span, String traceId, String[] spanIds)
+		throws IOException {
+		int parent = trace.parents()[span];
+		boolean root = parent < 0;
+
+		json.writeStartObject();
+		json.writeStringField("traceId", traceId);
+		json.writeStringField("spanId", spanIds[span]);
+		if (!root) {
+			json.writeStringField("parentSpanId", spanIds[parent]);
+		}
+		json.writeStringField("name", trace.stages()[span].getSpanName());
+		json.writeNumberField("kind", root ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL);
+		// OTLP/JSON은 64비트 정수를 문자열로 표기
+		json.writeStringField("startTimeUnixNano", Long.toString(trace.unixNanos(trace.starts()[span])));
+		json.writeStringField("endTimeUnixNano", Long.toString(trace.unixNanos(trace.ends()[span])));
+		if (root) {
+			json.writeArrayFieldStart("attributes");
+			stringAttribute(json, "http.request.method", trace.method());
+			stringAttribute(json, "url.path", trace.path());
+			intAttribute(json, "http.response.status_code", trace.status());
+			if (trace.dropped() > 0) {
+				intAttribute(json, "tracing.dropped_spans", trace.dropped());
+			}
+			json.writeEndArray();
+			if (trace.status() >= 500) {
+				json.writeObjectFieldStart("status");
+				json.writeNumberField("code", STATUS_CODE_ERROR);
+				json.writeEndObject();
+			}
+		}
+		json.writeEndObject();
+	}
+
+	private static void stringAttribute(JsonGenerator json, String key, String value) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("key", key);
+		json.writeObjectFieldStart("value");
+		json.writeStringField("stringValue", value);
+		json.writeEndObject();
+		json.writeEndObject();
+	}
+
+	private static void intAttribute(JsonGenerator json, String key, long value) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("key", key);
+		json.writeObjectFieldStart("value");
+		json.writeStringField("intValue", Long.toString(value));
+		json.writeEndObject();
+		json.writeEndObject();
+	}
+
+	// 파일에 쓴 바이트 수 (회전 기준)
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		private long size;
+
+		CountingOutputStream(OutputStream out, long size) {
+			super(out);
+			this.size = size;
+		}
+
+		long size() {
+			return size;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			size++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			size += len;
+		}
+	}
+}
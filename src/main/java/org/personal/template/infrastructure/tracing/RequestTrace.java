@@ -0,0 +1,129 @@
+package org.personal.template.infrastructure.tracing;
+
+import java.util.Arrays;
+
+/**
+ * 현재 스레드에서 처리 중인 요청의 구간 기록 (SecurityContextHolder처럼 스레드에 묶인 정적 API)
+ * - 스레드마다 고정 크기 배열 버퍼를 한 번만 만들어 재사용하므로 구간 기록에 할당이 없음
+ * - 샘플링되지 않은 요청에서는 ThreadLocal 조회 + 분기 한 번으로 끝남 (NOT_RECORDING 반환)
+ * - 구간은 중첩 순서대로 열고 닫음, 닫히지 않은 안쪽 구간은 바깥 구간을 닫을 때 같은 시각으로 함께 닫힘
+ *   (예외로 빠져나간 경우에도 try/finally 없이 부모 구간 기준으로 정리됨)
+ * - 요청 스레드 밖(비동기 처리, reactive 이벤트 루프)에서는 기록하지 않음
+ */
+public final class RequestTrace {
+
+	public static final int NOT_RECORDING = -1;
+
+	// 요청당 최대 구간 수 (초과분은 버리고 건수만 기록)
+	static final int MAX_SPANS = 32;
+
+	private static final ThreadLocal<SpanBuffer> BUFFER = ThreadLocal.withInitial(SpanBuffer::new);
+
+	private RequestTrace() {
+	}
+
+	/**
+	 * 구간 시작, 반환값을 end()에 그대로 넘김 (기록 중이 아니면 NOT_RECORDING)
+	 */
+	public static int start(Stage stage) {
+		SpanBuffer buffer = BUFFER.get();
+		return buffer.recording ? buffer.start(stage, System.nanoTime()) : NOT_RECORDING;
+	}
+
+	public static void end(int span) {
+		if (span != NOT_RECORDING) {
+			BUFFER.get().end(span, System.nanoTime());
+		}
+	}
+
+	public static boolean isRecording() {
+		return BUFFER.get().recording;
+	}
+
+	/**
+	 * 현재 스레드에서 새 요청 기록 시작 (샘플링된 요청만)
+	 */
+	static void begin(long traceIdHigh, long traceIdLow) {
+		BUFFER.get().begin(traceIdHigh, traceIdLow, System.currentTimeMillis() * 1_000_000L, System.nanoTime());
+	}
+
+	/**
+	 * 기록 종료, 열린 구간을 모두 닫고 내보낼 사본 반환 (기록 중이 아니면 null)
+	 */
+	static Trace finish(String method, String path, int status) {
+		SpanBuffer buffer = BUFFER.get();
+		if (!buffer.recording) {
+			return null;
+		}
+		buffer.recording = false;
+		return buffer.snapshot(System.nanoTime(), method, path, status);
+	}
+
+	private static final class SpanBuffer {
+
+		private final Stage[] stages = new Stage[MAX_SPANS];
+		private final int[] parents = new int[MAX_SPANS];
+		private final long[] starts = new long[MAX_SPANS];
+		// 0 = 아직 열려 있음
+		private final long[] ends = new long[MAX_SPANS];
+
+		private boolean recording;
+		private long traceIdHigh;
+		private long traceIdLow;
+		private long epochNanos;
+		private long baseNanos;
+		private int size;
+		private int current;
+		private int dropped;
+
+		void begin(long traceIdHigh, long traceIdLow, long epochNanos, long baseNanos) {
+			this.recording = true;
+			this.traceIdHigh = traceIdHigh;
+			this.traceIdLow = traceIdLow;
+			this.epochNanos = epochNanos;
+			this.baseNanos = baseNanos;
+			this.size = 0;
+			this.current = NOT_RECORDING;
+			this.dropped = 0;
+		}
+
+		int start(Stage stage, long now) {
+			if (size == MAX_SPANS) {
+				dropped++;
+				return NOT_RECORDING;
+			}
+			int span = size++;
+			stages[span] = stage;
+			parents[span] = current;
+			starts[span] = now;
+			ends[span] = 0;
+			current = span;
+			return span;
+		}
+
+		void end(int span, long now) {
+			if (!recording || span >= size || ends[span] != 0) {
+				return;
+			}
+			// span보다 나중에 열린 구간은 모두 span 안쪽 구간
+			for (int i = span; i < size; i++) {
+				if (ends[i] == 0) {
+					ends[i] = now;
+				}
+			}
+			current = parents[span];
+		}
+
+		Trace snapshot(long now, String method, String path, int status) {
+			for (int i = 0; i < size; i++) {
+				if (ends[i] == 0) {
+					ends[i] = now;
+				}
+			}
+			return new Trace(traceIdHigh, traceIdLow, epochNanos, baseNanos,
+				Arrays.copyOf(stages, size), Arrays.copyOf(parents, size),
+				Arrays.copyOf(starts, size), Arrays.copyOf(ends, size),
+				dropped, method, path, status);
+		}
+	}
+}
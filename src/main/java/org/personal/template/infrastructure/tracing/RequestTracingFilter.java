@@ -0,0 +1,84 @@
+package org.personal.template.infrastructure.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 구간 추적 진입점 (보안 필터 체인보다 먼저 실행)
+ * - 기본은 꺼짐 (tracing.sample-rate=0, 내보내기 스레드/파일도 만들지 않음)
+ * - tracing.sample-rate 비율의 요청만 RequestTrace에 기록하고, 끝나면 OTLP/JSON 파일로 내보냄
+ * - 샘플링되지 않은 요청의 추가 비용은 난수 한 번과 구간마다 ThreadLocal 조회 한 번
+ * - 비동기 응답(CompletableFuture, StreamingResponseBody)은 요청 스레드가 반환될 때까지만 기록
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+	private final double sampleRate;
+	// sample-rate가 0이면 내보내기 스레드도 만들지 않음
+	private final OtlpJsonFileExporter exporter;
+
+	public RequestTracingFilter(
+		@Value("${tracing.sample-rate:0}") double sampleRate,
+		@Value("${tracing.export.path:./data/traces/spans.jsonl}") String exportPath,
+		@Value("${tracing.export.queue-capacity:1024}") int queueCapacity,
+		@Value("${tracing.export.max-file-bytes:104857600}") long maxFileBytes,
+		@Value("${spring.application.name:template}") String serviceName) {
+		this.sampleRate = sampleRate;
+		this.exporter = sampleRate > 0
+			? new OtlpJsonFileExporter(Path.of(exportPath), serviceName, queueCapacity, maxFileBytes)
+			: null;
+		if (exporter != null) {
+			log.info("Request tracing: sampleRate={}, export={}, maxFileBytes={}", sampleRate, exportPath, maxFileBytes);
+		}
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (exporter == null || random.nextDouble() >= sampleRate) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RequestTrace.begin(random.nextLong(), random.nextLong(1, Long.MAX_VALUE));
+		int span = RequestTrace.start(Stage.REQUEST);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			RequestTrace.end(span);
+			Trace trace = RequestTrace.finish(request.getMethod(), request.getRequestURI(), response.getStatus());
+			if (trace != null) {
+				exporter.export(trace);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		if (exporter != null) {
+			exporter.close();
+			if (exporter.dropped() > 0) {
+				log.warn("Request tracing dropped {} traces (export queue full)", exporter.dropped());
+			}
+		}
+	}
+}
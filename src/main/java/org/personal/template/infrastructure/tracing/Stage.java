@@ -0,0 +1,28 @@
+package org.personal.template.infrastructure.tracing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 구간 종류 (내보낼 때 span 이름)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Stage {
+	// 필터 체인 진입부터 응답 완료까지 (RequestTracingFilter)
+	REQUEST("http.request"),
+	// GlobalSecurityContextFilter 토큰 확인 ~ 인증 정보 설정
+	SECURITY_CONTEXT("security.context"),
+	// 헤더 문자열 위 HMAC 서명 확인 (AccessTokenEncoder)
+	SIGNATURE_VERIFY("jwt.signature"),
+	// jjwt 파싱/클레임 추출 (검증 캐시 미스일 때만)
+	TOKEN_PARSE("jwt.parse"),
+	// PrincipalResolver (캐시/저장소/폐기 목록)
+	PRINCIPAL_LOOKUP("principal.lookup"),
+	// 핸들러 호출 ~ 응답 본문 기록 완료
+	CONTROLLER("controller"),
+	// 응답 본문(ApiResponseData 등) 직렬화/기록
+	SERIALIZATION("response.serialize");
+
+	private final String spanName;
+}
@@ -0,0 +1,29 @@
+package org.personal.template.infrastructure.tracing;
+
+/**
+ * 내보내기용 요청 구간 사본 (배열 인덱스 = 구간, parents는 부모 인덱스, 루트는 -1)
+ * 시각은 System.nanoTime() 기준이며 unixNanos()로 epoch 나노초로 바꿈
+ */
+record Trace(
+	long traceIdHigh,
+	long traceIdLow,
+	long epochNanos,
+	long baseNanos,
+	Stage[] stages,
+	int[] parents,
+	long[] starts,
+	long[] ends,
+	int dropped,
+	String method,
+	String path,
+	int status
+) {
+
+	int size() {
+		return stages.length;
+	}
+
+	long unixNanos(long nanoTime) {
+		return epochNanos + (nanoTime - baseNanos);
+	}
+}
@@ -0,0 +1,58 @@
+package org.personal.template.infrastructure.tracing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 컨트롤러 구간 기록 (핸들러 호출부터 @ResponseBody 기록 완료까지)
+ * 응답 본문 직렬화 구간은 SerializationSpanAdvice가 이 구간 안쪽에 엶
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TracingWebMvcConfig implements WebMvcConfigurer {
+
+	private static final String SPAN_ATTRIBUTE = TracingWebMvcConfig.class.getName() + ".span";
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ControllerSpanInterceptor());
+	}
+
+	private static final class ControllerSpanInterceptor implements AsyncHandlerInterceptor {
+
+		@Override
+		public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+			int span = RequestTrace.start(Stage.CONTROLLER);
+			if (span != RequestTrace.NOT_RECORDING) {
+				request.setAttribute(SPAN_ATTRIBUTE, span);
+			}
+			return true;
+		}
+
+		@Override
+		public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+			end(request);
+		}
+
+		// 비동기 처리로 넘어가면 요청 스레드 쪽 구간은 여기서 끝
+		@Override
+		public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+			Object handler) {
+			end(request);
+		}
+
+		private static void end(HttpServletRequest request) {
+			if (request.getAttribute(SPAN_ATTRIBUTE) instanceof Integer span) {
+				request.removeAttribute(SPAN_ATTRIBUTE);
+				RequestTrace.end(span);
+			}
+		}
+	}
+}
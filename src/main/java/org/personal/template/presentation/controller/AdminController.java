@@ -1,17 +1,30 @@
 package org.personal.template.presentation.controller;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
+import org.personal.template.domain.entity.User;
 import org.personal.template.domain.repository.UserRepository;
 import org.personal.template.infrastructure.response.ApiResponseData;
+import org.personal.template.presentation.dto.UserPageResponseDTO;
+import org.personal.template.presentation.dto.UserResponseDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -21,24 +34,67 @@ import lombok.RequiredArgsConstructor;
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "Admin Management", description = "관리자 전용 API")
 @SecurityRequirement(name = "JWT")
 public class AdminController {
 
+	private static final int MAX_PAGE_SIZE = 1000;
+	// NDJSON 스트림에서 flush 하는 간격 (사용자 수)
+	private static final int STREAM_FLUSH_INTERVAL = 256;
+
 	private final UserRepository userRepository;
+	private final ObjectMapper objectMapper;
 
 	@GetMapping(path = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
 	@Secured("ROLE_ADMIN")
-	@Operation(summary = "모든 사용자 조회", description = "등록된 모든 사용자 목록 조회")
-	public ResponseEntity<?> getAllUsers() {
+	@Operation(summary = "사용자 목록 조회",
+		description = "uuid 순 keyset 페이지 조회, 응답의 nextCursor를 다음 요청의 cursor로 전달 (없으면 마지막 페이지)")
+	public ResponseEntity<?> getAllUsers(
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "100") int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
 		return ResponseEntity.ok()
 			.contentType(MediaType.APPLICATION_JSON)
 			.body(ApiResponseData.success(
-				userRepository.findAll(),
+				UserPageResponseDTO.from(userRepository.scanFrom(cursor), pageSize),
 				"전체 사용자 목록"
 			));
 	}
 
+	@GetMapping(path = "/users/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Secured("ROLE_ADMIN")
+	@Operation(summary = "전체 사용자 스트리밍 조회",
+		description = "uuid 순으로 사용자 한 명당 JSON 한 줄(NDJSON)을 응답 스트림에 바로 기록")
+	public ResponseEntity<StreamingResponseBody> streamUsers(@RequestParam(required = false) Long cursor) {
+		ObjectWriter writer = objectMapper.writerFor(UserResponseDTO.class)
+			.withRootValueSeparator("\n")
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+			.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+		StreamingResponseBody body = out -> {
+			Iterator<User> iterator = userRepository.scanFrom(cursor);
+			int written = 0;
+			try (SequenceWriter sequence = writer.writeValues(out)) {
+				while (iterator.hasNext()) {
+					sequence.write(UserResponseDTO.from(iterator.next()));
+					if (++written % STREAM_FLUSH_INTERVAL == 0) {
+						sequence.flush();
+					}
+				}
+			}
+			if (written > 0) {
+				out.write('\n');
+			}
+			out.flush();
+		};
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
+
 	@GetMapping(path = "/users/count", produces = MediaType.APPLICATION_JSON_VALUE)
 	@Secured("ROLE_ADMIN")
 	@Operation(
@@ -0,0 +1,79 @@
+package org.personal.template.presentation.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.personal.template.domain.repository.UserRepository;
+import org.personal.template.infrastructure.response.ApiResponseData;
+import org.personal.template.presentation.dto.UserPageResponseDTO;
+import org.personal.template.presentation.dto.UserResponseDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * AdminController의 WebFlux 버전 (reactive 프로필)
+ * - 관리자 권한은 ReactiveSecurityConfig의 /api/admin/** 규칙으로 검사
+ * - 저장소 scan은 메모리/mmap 조회뿐이므로 이벤트 루프에서 바로 처리
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Admin Management", description = "관리자 전용 API")
+@SecurityRequirement(name = "JWT")
+public class ReactiveAdminController {
+
+	private static final int MAX_PAGE_SIZE = 1000;
+
+	private final UserRepository userRepository;
+
+	@GetMapping(path = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "사용자 목록 조회",
+		description = "uuid 순 keyset 페이지 조회, 응답의 nextCursor를 다음 요청의 cursor로 전달 (없으면 마지막 페이지)")
+	public ResponseEntity<?> getAllUsers(
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "100") int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(ApiResponseData.success(
+				UserPageResponseDTO.from(userRepository.scanFrom(cursor), pageSize),
+				"전체 사용자 목록"
+			));
+	}
+
+	@GetMapping(path = "/users/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "전체 사용자 스트리밍 조회",
+		description = "uuid 순으로 사용자 한 명당 JSON 한 줄(NDJSON), 클라이언트가 요청한 만큼만 scan 진행")
+	public Flux<UserResponseDTO> streamUsers(@RequestParam(required = false) Long cursor) {
+		// 구독 시점에 scan 시작, 배압(request)에 맞춰 iterator를 조금씩 진행
+		return Flux.fromIterable(() -> userRepository.scanFrom(cursor))
+			.map(UserResponseDTO::from);
+	}
+
+	@GetMapping(path = "/users/count", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "사용자 수 조회", description = "등록된 총 사용자 수 조회 (관리자 전용)")
+	public ResponseEntity<?> getUserCount() {
+		long count = userRepository.count();
+
+		Map<String, Object> result = new HashMap<>();
+		result.put("totalUsers", count);
+		result.put("timestamp", System.currentTimeMillis());
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(ApiResponseData.success(result, "전체 사용자 수"));
+	}
+}
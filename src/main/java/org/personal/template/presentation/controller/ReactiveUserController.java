@@ -0,0 +1,67 @@
+package org.personal.template.presentation.controller;
+
+import java.net.InetSocketAddress;
+
+import org.personal.template.application.service.UserService;
+import org.personal.template.infrastructure.response.ApiResponseData;
+import org.personal.template.infrastructure.security.Role;
+import org.personal.template.presentation.dto.LoginRequestDTO;
+import org.personal.template.presentation.dto.RegisterAdminRequestDTO;
+import org.personal.template.presentation.dto.RegisterRequestDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserController의 WebFlux 버전 (reactive 프로필)
+ * BCrypt 작업은 UserService의 *Async 메서드가 해시 전용 풀에서 실행하고, 이벤트 루프는 완료만 기다림
+ */
+@RestController
+@RequestMapping("/api/user")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "회원", description = "회원 가입 및 로그인")
+public class ReactiveUserController {
+
+	private final UserService userService;
+
+	@PostMapping("/login")
+	@Operation(summary = "로그인", description = "JWT 토큰 기반")
+	public Mono<ResponseEntity<?>> login(@Valid @RequestBody LoginRequestDTO requestDTO,
+		ServerHttpRequest request) {
+		InetSocketAddress remoteAddress = request.getRemoteAddress();
+		String clientIp = remoteAddress != null ? remoteAddress.getHostString() : null;
+		return Mono.fromFuture(() -> userService.loginAsync(requestDTO, clientIp))
+			.map(result -> ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(ApiResponseData.success(result, "로그인 성공")));
+	}
+
+	@PostMapping("/register")
+	@Operation(summary = "일반 회원 가입", description = "")
+	public Mono<ResponseEntity<?>> registerUser(@Valid @RequestBody RegisterRequestDTO requestDTO) {
+		return Mono.fromFuture(() -> userService.registerUserAsync(requestDTO, Role.ROLE_USER))
+			.map(user -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(ApiResponseData.success("회원가입 성공")));
+	}
+
+	@PostMapping("/register/admin")
+	@Operation(summary = "관리자 회원가입", description = "")
+	public Mono<ResponseEntity<?>> registerAdmin(@Valid @RequestBody RegisterAdminRequestDTO requestDTO) {
+		return Mono.fromFuture(() -> userService.registerAdminAsync(requestDTO, Role.ROLE_ADMIN))
+			.map(user -> ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON)
+				.body(ApiResponseData.success("관리자 회원가입 성공")));
+	}
+}
@@ -1,14 +1,14 @@
 package org.personal.template.presentation.controller;
 
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.personal.template.application.service.UserService;
-import org.personal.template.domain.entity.User;
 import org.personal.template.infrastructure.response.ApiResponseData;
 import org.personal.template.infrastructure.security.Role;
 import org.personal.template.presentation.dto.LoginRequestDTO;
 import org.personal.template.presentation.dto.RegisterAdminRequestDTO;
 import org.personal.template.presentation.dto.RegisterRequestDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -23,12 +23,14 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/user")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "회원", description = "회원 가입 및 로그인")
 public class UserController {
 
@@ -58,14 +60,25 @@ public class UserController {
 						     "message": "일치하는 이메일 없음",
 						     "data": null
 						   }
+						"""))),
+			@ApiResponse(responseCode = "429", description = "로그인 시도 제한 (Retry-After 초 후 재시도)",
+				content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseData.class),
+					examples = @ExampleObject(value = """
+						{
+						     "code": 2007,
+						     "message": "로그인 시도 횟수 초과",
+						     "data": null
+						   }
 						""")))
 		}
 	)
-	public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDTO requestDTO) {
-		Map<String, Object> result = userService.login(requestDTO);
-		return ResponseEntity.ok()
-			.contentType(MediaType.APPLICATION_JSON)
-			.body(ApiResponseData.success(result, "로그인 성공"));
+	public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequestDTO requestDTO,
+		HttpServletRequest request) {
+		// BCrypt 검증은 해시 전용 풀에서 실행되고, 요청 스레드는 바로 반환됨 (시도 제한은 해시 전에 확인)
+		return userService.loginAsync(requestDTO, request.getRemoteAddr())
+			.thenApply(result -> ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(ApiResponseData.success(result, "로그인 성공")));
 	}
 
 	@PostMapping("/register")
@@ -90,9 +103,10 @@ public class UserController {
 						   }
 						""")))
 		})
-	public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequestDTO requestDTO) {
-		userService.registerUser(requestDTO, Role.ROLE_USER);
-		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(ApiResponseData.success("회원가입 성공"));
+	public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody RegisterRequestDTO requestDTO) {
+		return userService.registerUserAsync(requestDTO, Role.ROLE_USER)
+			.thenApply(user -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(ApiResponseData.success("회원가입 성공")));
 	}
 
 	@PostMapping("/register/admin")
@@ -120,9 +134,9 @@ public class UserController {
 						""")))
 		}
 	)
-	public ResponseEntity<?> registerAdmin(@Valid @RequestBody RegisterAdminRequestDTO requestDTO) {
-		User user = userService.registerAdmin(requestDTO, Role.ROLE_ADMIN);
-		return ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON)
-			.body(ApiResponseData.success("관리자 회원가입 성공"));
+	public CompletableFuture<ResponseEntity<?>> registerAdmin(@Valid @RequestBody RegisterAdminRequestDTO requestDTO) {
+		return userService.registerAdminAsync(requestDTO, Role.ROLE_ADMIN)
+			.thenApply(user -> ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON)
+				.body(ApiResponseData.success("관리자 회원가입 성공")));
 	}
 }
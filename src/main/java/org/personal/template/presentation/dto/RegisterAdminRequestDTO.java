@@ -12,6 +12,7 @@ import lombok.Setter;
 public class RegisterAdminRequestDTO {
 	@NotBlank(message = "이메일은 필수 입력 항목입니다")
 	@Email(message = "유효한 이메일 형식이 아닙니다")
+	@Size(max = 254, message = "이메일은 254자 이하여야 합니다")
 	@Schema(example = "admin@test")
 	private String email;
 
@@ -0,0 +1,36 @@
+package org.personal.template.presentation.dto;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.personal.template.domain.entity.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * uuid 기준 keyset 페이지 응답
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회, null 이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class UserPageResponseDTO {
+
+	private List<UserResponseDTO> users;
+	private Long nextCursor;
+
+	/**
+	 * uuid 순 iterator에서 최대 pageSize명을 읽어 페이지 구성 (서블릿/WebFlux 컨트롤러 공용)
+	 */
+	public static UserPageResponseDTO from(Iterator<User> iterator, int pageSize) {
+		List<UserResponseDTO> users = new ArrayList<>(Math.min(pageSize, 64));
+		Long lastUuid = null;
+		while (users.size() < pageSize && iterator.hasNext()) {
+			User user = iterator.next();
+			users.add(UserResponseDTO.from(user));
+			lastUuid = user.getUuid();
+		}
+		return new UserPageResponseDTO(users, iterator.hasNext() ? lastUuid : null);
+	}
+}
@@ -0,0 +1,24 @@
+package org.personal.template.presentation.dto;
+
+import org.personal.template.domain.entity.User;
+import org.personal.template.infrastructure.security.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 사용자 조회 응답 (비밀번호 해시는 노출하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class UserResponseDTO {
+
+	private Long uuid;
+	private String email;
+	private String username;
+	private Role role;
+
+	public static UserResponseDTO from(User user) {
+		return new UserResponseDTO(user.getUuid(), user.getEmail(), user.getUsername(), user.getRole());
+	}
+}
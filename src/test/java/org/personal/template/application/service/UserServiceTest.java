@@ -0,0 +1,108 @@
+package org.personal.template.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.VerifiedTokenCache;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.security.LoginAttemptLimiter;
+import org.personal.template.infrastructure.security.PasswordHashingExecutor;
+import org.personal.template.infrastructure.security.Role;
+import org.personal.template.presentation.dto.LoginRequestDTO;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserServiceTest {
+
+	private static final String PASSWORD = "password1234";
+
+	private final InMemoryUserRepository userRepository = new InMemoryUserRepository(Optional.empty());
+	// 현재 cost 5, 저장된 해시는 cost 4 -> 로그인 성공 시 재해시 대상
+	private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(5);
+	private final PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 8, 1);
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		JWTUtil jwtUtil = new JWTUtil(new VerifiedTokenCache(true, 100, 1));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey",
+			Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes()));
+		jwtUtil.init();
+		AuthEventLogger authEventLogger = new AuthEventLogger(20);
+		LoginAttemptLimiter loginAttemptLimiter =
+			new LoginAttemptLimiter(false, 5, 60, 1, 60, 1024, 60, 60, 1024, authEventLogger);
+		userService = new UserService(userRepository, passwordEncoder, jwtUtil, passwordHashingExecutor,
+			authEventLogger, AuthMetrics.NONE, loginAttemptLimiter);
+	}
+
+	@AfterEach
+	void tearDown() {
+		passwordHashingExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("이전 cost 해시로 로그인하면 백그라운드에서 현재 cost로 재해시하고 다른 필드는 유지")
+	void rehashesOutdatedHashAfterLogin() throws Exception {
+		User user = userRepository.save(newUser(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+
+		userService.login(login());
+
+		String rehashed = awaitPasswordChange(user.getUuid(), user.getPassword());
+		assertThat(rehashed).startsWith("$2a$05$");
+		assertThat(passwordEncoder.matches(PASSWORD, rehashed)).isTrue();
+		User stored = userRepository.findById(user.getUuid()).orElseThrow();
+		assertThat(stored.getEmail()).isEqualTo("user@test.com");
+		assertThat(stored.getUsername()).isEqualTo("tester");
+	}
+
+	@Test
+	@DisplayName("현재 cost 해시면 재해시하지 않음")
+	void keepsCurrentHash() throws Exception {
+		User user = userRepository.save(newUser(passwordEncoder.encode(PASSWORD)));
+		String hash = user.getPassword();
+
+		userService.login(login());
+		// 재해시가 제출됐다면 먼저 끝나도록 같은 단일 스레드 풀에서 뒤따르는 작업을 기다림
+		passwordHashingExecutor.submit(() -> null).get();
+
+		assertThat(userRepository.findById(user.getUuid()).orElseThrow().getPassword()).isEqualTo(hash);
+	}
+
+	private String awaitPasswordChange(long uuid, String previous) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (System.currentTimeMillis() < deadline) {
+			String current = userRepository.findById(uuid).orElseThrow().getPassword();
+			if (!current.equals(previous)) {
+				return current;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("재해시가 저장되지 않음");
+	}
+
+	private static LoginRequestDTO login() {
+		LoginRequestDTO dto = new LoginRequestDTO();
+		dto.setEmail("user@test.com");
+		dto.setPassword(PASSWORD);
+		return dto;
+	}
+
+	private static User newUser(String hash) {
+		User user = new User();
+		user.setEmail("user@test.com");
+		user.setUsername("tester");
+		user.setPassword(hash);
+		user.setRole(Role.ROLE_USER);
+		return user;
+	}
+}
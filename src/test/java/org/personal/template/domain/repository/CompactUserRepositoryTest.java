@@ -0,0 +1,162 @@
+package org.personal.template.domain.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+
+class CompactUserRepositoryTest {
+
+	// 작은 초기 크기로 시작하여 저장 중 재해시(resize)도 함께 확인
+	private final CompactUserRepository repository = new CompactUserRepository(2);
+
+	@Test
+	@DisplayName("같은 이메일로 동시에 가입하면 한 건만 저장")
+	void concurrentDuplicateEmailSavesOnce() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger rejected = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			String username = "user" + i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					repository.save(newUser("same@test.com", username));
+				} catch (BaseException e) {
+					assertThat(e.getErrorCode()).isEqualTo(Code.ALREADY_EXISTS);
+					rejected.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertThat(repository.count()).isEqualTo(1);
+		assertThat(rejected.get()).isEqualTo(threads - 1);
+		// 거절된 가입의 username은 색인되지 않음
+		User saved = repository.findByEmail("same@test.com").orElseThrow();
+		for (int i = 0; i < threads; i++) {
+			String username = "user" + i;
+			if (username.equals(saved.getUsername())) {
+				assertThat(repository.findByUsername(username).getUuid()).isEqualTo(saved.getUuid());
+			} else {
+				assertThat(repository.findByUsername(username)).isNull();
+				repository.save(newUser(username + "@test.com", username));
+			}
+		}
+		assertThat(repository.count()).isEqualTo(threads);
+	}
+
+	@Test
+	@DisplayName("수정 시 이전 email/username 색인은 해제되고 새 값으로만 조회, 다른 사용자의 키로는 변경 불가")
+	void updateMovesIndexes() {
+		User user = repository.save(newUser("old@test.com", "old"));
+		User other = repository.save(newUser("other@test.com", "other"));
+
+		User moved = repository.findById(user.getUuid()).orElseThrow();
+		moved.setEmail("new@test.com");
+		moved.setUsername("new");
+		moved.setRole(Role.ROLE_ADMIN);
+		repository.save(moved);
+
+		assertThat(repository.findByEmail("old@test.com")).isEmpty();
+		assertThat(repository.findByUsername("old")).isNull();
+		assertThat(repository.findByEmail("new@test.com")).get()
+			.extracting(User::getUuid, User::getUsername, User::getRole)
+			.containsExactly(user.getUuid(), "new", Role.ROLE_ADMIN);
+
+		moved.setEmail("other@test.com");
+		assertThatThrownBy(() -> repository.save(moved))
+			.isInstanceOfSatisfying(BaseException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(Code.ALREADY_EXISTS));
+		assertThat(repository.findByEmail("other@test.com")).get()
+			.extracting(User::getUuid).isEqualTo(other.getUuid());
+		// 해제된 키는 다른 사용자가 사용 가능
+		assertThat(repository.save(newUser("old@test.com", "old")).getUuid()).isNotEqualTo(user.getUuid());
+	}
+
+	@Test
+	@DisplayName("조회 결과는 복사본이므로 save() 전의 변경은 저장소에 반영되지 않음")
+	void returnsDetachedCopies() {
+		User user = repository.save(newUser("user@test.com", "name"));
+
+		repository.findById(user.getUuid()).orElseThrow().setUsername("changed");
+
+		assertThat(repository.findByUsername("name")).isNotNull();
+		assertThat(repository.findByUsername("changed")).isNull();
+	}
+
+	@Test
+	@DisplayName("scanFrom은 cursor 다음 uuid부터 오름차순으로 순회")
+	void scanFromReturnsUsersAfterCursorInOrder() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			ids.add(repository.save(newUser("user" + i + "@test.com", "user" + i)).getUuid());
+		}
+		repository.deleteById(ids.get(2));
+
+		List<Long> scanned = new ArrayList<>();
+		repository.scanFrom(ids.get(0)).forEachRemaining(user -> scanned.add(user.getUuid()));
+
+		assertThat(scanned).containsExactly(ids.get(1), ids.get(3), ids.get(4));
+	}
+
+	@Test
+	@DisplayName("저장/삭제/전체 삭제 시 변경 알림 (수정이면 이전 상태 전달)")
+	void notifiesChangeListeners() {
+		List<String> events = new ArrayList<>();
+		repository.setChangeListeners(List.of(new UserChangeListener() {
+			@Override
+			public void userSaved(User user, User previous) {
+				events.add("saved:" + user.getUsername() + ":" + (previous == null ? null : previous.getUsername()));
+			}
+
+			@Override
+			public void userDeleted(long uuid, String email) {
+				events.add("deleted:" + email);
+			}
+
+			@Override
+			public void allUsersDeleted() {
+				events.add("cleared");
+			}
+		}));
+
+		User user = repository.save(newUser("user@test.com", "before"));
+		user.setUsername("after");
+		repository.save(user);
+		repository.deleteById(user.getUuid());
+		repository.deleteById(user.getUuid());
+		repository.deleteAll();
+
+		assertThat(events).containsExactly(
+			"saved:before:null", "saved:after:before", "deleted:user@test.com", "cleared");
+	}
+
+	private static User newUser(String email, String username) {
+		User user = new User();
+		user.setEmail(email);
+		user.setUsername(username);
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		return user;
+	}
+}
@@ -0,0 +1,227 @@
+package org.personal.template.domain.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.journal.UserJournal;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+
+class InMemoryUserRepositoryTest {
+
+	private final InMemoryUserRepository repository = new InMemoryUserRepository(Optional.empty());
+
+	@Test
+	@DisplayName("같은 이메일로 동시에 가입하면 한 건만 저장")
+	void concurrentDuplicateEmailSavesOnce() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger rejected = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			String username = "user" + i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					repository.save(newUser("same@test.com", username));
+				} catch (BaseException e) {
+					assertThat(e.getErrorCode()).isEqualTo(Code.ALREADY_EXISTS);
+					rejected.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertThat(repository.count()).isEqualTo(1);
+		assertThat(rejected.get()).isEqualTo(threads - 1);
+		// 거절된 가입의 username 예약은 모두 되돌려짐
+		User saved = repository.findByEmail("same@test.com").orElseThrow();
+		for (int i = 0; i < threads; i++) {
+			String username = "user" + i;
+			if (username.equals(saved.getUsername())) {
+				assertThat(repository.findByUsername(username)).isSameAs(saved);
+			} else {
+				assertThat(repository.findByUsername(username)).isNull();
+				repository.save(newUser(username + "@test.com", username));
+			}
+		}
+		assertThat(repository.count()).isEqualTo(threads);
+	}
+
+	@Test
+	@DisplayName("이메일 변경 시 이전 이메일은 해제되고 새 이메일로만 조회")
+	void changingEmailMovesIndex() {
+		User user = repository.save(newUser("old@test.com", "name"));
+		User moved = newUser("new@test.com", "name");
+		moved.setUuid(user.getUuid());
+		repository.save(moved);
+
+		assertThat(repository.findByEmail("old@test.com")).isEmpty();
+		assertThat(repository.findByEmail("new@test.com")).get().isSameAs(moved);
+		assertThat(repository.findByUsername("name")).isSameAs(moved);
+		// 해제된 이메일은 다른 사용자가 사용 가능
+		assertThat(repository.save(newUser("old@test.com", "other")).getUuid()).isNotEqualTo(user.getUuid());
+	}
+
+	@Test
+	@DisplayName("replacePassword는 저장된 해시가 예상과 같을 때만 비밀번호만 교체")
+	void replacePasswordComparesStoredHash() {
+		User user = repository.save(newUser("user@test.com", "before"));
+		User renamed = newUser("user@test.com", "after");
+		renamed.setUuid(user.getUuid());
+		repository.save(renamed);
+
+		assertThat(repository.replacePassword(user.getUuid(), "stale", "new-hash")).isFalse();
+		assertThat(repository.replacePassword(user.getUuid(), "hash", "new-hash")).isTrue();
+
+		User stored = repository.findById(user.getUuid()).orElseThrow();
+		assertThat(stored.getPassword()).isEqualTo("new-hash");
+		assertThat(stored.getUsername()).isEqualTo("after");
+		// 호출 측이 들고 있던 인스턴스는 바뀌지 않음
+		assertThat(renamed.getPassword()).isEqualTo("hash");
+		assertThat(repository.replacePassword(999L, "hash", "new-hash")).isFalse();
+	}
+
+	@Test
+	@DisplayName("로그 기록이 실패하면 메모리에도 반영하지 않고 예약한 키를 되돌림")
+	void journalFailureLeavesStateUnchanged() {
+		FailingJournal journal = new FailingJournal();
+		InMemoryUserRepository journaled = new InMemoryUserRepository(Optional.of(journal));
+		journaled.recover();
+		User kept = journaled.save(newUser("kept@test.com", "kept"));
+
+		journal.failing = true;
+		assertThatThrownBy(() -> journaled.save(newUser("new@test.com", "new")))
+			.isInstanceOf(IllegalStateException.class);
+		User renamed = newUser("kept@test.com", "renamed");
+		renamed.setUuid(kept.getUuid());
+		assertThatThrownBy(() -> journaled.save(renamed)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> journaled.deleteById(kept.getUuid())).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(journaled::deleteAll).isInstanceOf(IllegalStateException.class);
+
+		assertThat(journaled.count()).isEqualTo(1);
+		assertThat(journaled.findByEmail("new@test.com")).isEmpty();
+		assertThat(journaled.findByUsername("kept")).isSameAs(kept);
+		assertThat(journaled.findByUsername("renamed")).isNull();
+
+		// 되돌린 예약은 다시 사용 가능
+		journal.failing = false;
+		journaled.save(newUser("new@test.com", "renamed"));
+		assertThat(journaled.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("변경 알림은 메모리에 반영된 변경에만, 반영 직후 호출")
+	void notifiesOnlyPublishedChanges() {
+		FailingJournal journal = new FailingJournal();
+		InMemoryUserRepository journaled = new InMemoryUserRepository(Optional.of(journal));
+		journaled.recover();
+		List<String> events = new ArrayList<>();
+		journaled.setChangeListeners(List.of(new UserChangeListener() {
+			@Override
+			public void userSaved(User user, User previous) {
+				// 알림 시점에 이미 새 상태로 조회됨
+				assertThat(journaled.findById(user.getUuid())).get().isSameAs(user);
+				events.add("saved:" + user.getUsername());
+			}
+
+			@Override
+			public void userDeleted(long uuid, String email) {
+				assertThat(journaled.existsById(uuid)).isFalse();
+				events.add("deleted:" + email);
+			}
+
+			@Override
+			public void allUsersDeleted() {
+				events.add("cleared");
+			}
+		}));
+		User user = journaled.save(newUser("user@test.com", "before"));
+
+		journal.failing = true;
+		User renamed = newUser("user@test.com", "after");
+		renamed.setUuid(user.getUuid());
+		assertThatThrownBy(() -> journaled.save(renamed)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> journaled.deleteById(user.getUuid())).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(journaled::deleteAll).isInstanceOf(IllegalStateException.class);
+		journal.failing = false;
+		journaled.deleteById(user.getUuid());
+
+		assertThat(events).containsExactly("saved:before", "deleted:user@test.com");
+	}
+
+	@Test
+	@DisplayName("scanFrom은 cursor 다음 uuid부터 오름차순으로 순회")
+	void scanFromReturnsUsersAfterCursorInOrder() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			ids.add(repository.save(newUser("user" + i + "@test.com", "user" + i)).getUuid());
+		}
+		repository.deleteById(ids.get(2));
+
+		List<Long> scanned = new ArrayList<>();
+		repository.scanFrom(ids.get(0)).forEachRemaining(user -> scanned.add(user.getUuid()));
+
+		assertThat(scanned).containsExactly(ids.get(1), ids.get(3), ids.get(4));
+	}
+
+	// failing 이면 모든 기록이 예외 (FileUserJournal의 기록 실패와 같은 IllegalStateException)
+	private static class FailingJournal implements UserJournal {
+
+		volatile boolean failing;
+
+		@Override
+		public void open(Replayer replayer, Supplier<Collection<User>> snapshotSource) {
+		}
+
+		@Override
+		public void appendSave(User user) {
+			check();
+		}
+
+		@Override
+		public void appendDelete(long uuid) {
+			check();
+		}
+
+		@Override
+		public void appendDeleteAll() {
+			check();
+		}
+
+		private void check() {
+			if (failing) {
+				throw new IllegalStateException("사용자 로그 기록 실패");
+			}
+		}
+	}
+
+	private static User newUser(String email, String username) {
+		User user = new User();
+		user.setEmail(email);
+		user.setUsername(username);
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		return user;
+	}
+}
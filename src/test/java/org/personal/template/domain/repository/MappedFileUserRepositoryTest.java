@@ -0,0 +1,72 @@
+package org.personal.template.domain.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.personal.template.domain.entity.User;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+
+class MappedFileUserRepositoryTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	@DisplayName("재시작 시 파일을 다시 매핑하여 사용자와 인덱스 복구")
+	void recoversUsersAfterReopen() throws Exception {
+		String path = dir.resolve("users.db").toString();
+
+		MappedFileUserRepository repository = new MappedFileUserRepository(path, false, 16);
+		repository.open();
+		User kept = repository.save(newUser("kept@test.com", "kept"));
+		User removed = repository.save(newUser("removed@test.com", "removed"));
+		kept.setUsername("renamed");
+		repository.save(kept);
+		repository.deleteById(removed.getUuid());
+		repository.close();
+
+		MappedFileUserRepository reopened = new MappedFileUserRepository(path, false, 16);
+		reopened.open();
+
+		assertThat(reopened.count()).isEqualTo(1);
+		assertThat(reopened.findByEmail("kept@test.com")).get()
+			.extracting(User::getUsername, User::getRole, User::getPassword)
+			.containsExactly("renamed", Role.ROLE_USER, "hash");
+		assertThat(reopened.findByUsername("kept")).isNull();
+		assertThat(reopened.findByEmail("removed@test.com")).isEmpty();
+		// 새 uuid는 기존 최대값 이후부터 발급
+		assertThat(reopened.save(newUser("new@test.com", "new")).getUuid()).isGreaterThan(removed.getUuid());
+		reopened.close();
+	}
+
+	@Test
+	@DisplayName("슬롯에 들어가지 않는 긴 값은 400 오류로 거절하고 저장소는 그대로")
+	void rejectsOversizedRecordAsClientError() throws Exception {
+		MappedFileUserRepository repository = new MappedFileUserRepository(dir.resolve("users.db").toString(), false,
+			16);
+		repository.open();
+
+		// 254자 이하지만 UTF-8로 글자당 3바이트인 이메일
+		String email = "가".repeat(240) + "@test.com";
+		assertThatThrownBy(() -> repository.save(newUser(email, "long")))
+			.isInstanceOfSatisfying(BaseException.class, e -> assertThat(e.getErrorCode()).isEqualTo(Code.SIGN005));
+		assertThat(repository.count()).isZero();
+		assertThat(repository.save(newUser("short@test.com", "short")).getUuid()).isNotNull();
+		repository.close();
+	}
+
+	private static User newUser(String email, String username) {
+		User user = new User();
+		user.setEmail(email);
+		user.setUsername(username);
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		return user;
+	}
+}
@@ -0,0 +1,42 @@
+package org.personal.template.domain.repository.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+	@Test
+	@DisplayName("무작위 put/remove 결과가 HashMap과 일치 (backward-shift 삭제 포함)")
+	void matchesHashMapUnderRandomOperations() {
+		LongObjectHashMap<String> map = new LongObjectHashMap<>();
+		StringLongHashMap index = new StringLongHashMap(-1L);
+		Map<Long, String> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int n = 0; n < 50_000; n++) {
+			// 좁은 키 범위로 충돌과 삭제 후 재삽입을 자주 발생시킴
+			long key = random.nextInt(2_000) - 1_000;
+			if (random.nextInt(3) == 0) {
+				assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+				index.remove("k" + key);
+			} else {
+				String value = "v" + n;
+				assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+				index.put("k" + key, key);
+			}
+		}
+
+		assertThat(map.size()).isEqualTo(expected.size());
+		assertThat(index.size()).isEqualTo(expected.size());
+		for (long key = -1_000; key < 1_000; key++) {
+			assertThat(map.get(key)).isEqualTo(expected.get(key));
+			assertThat(index.get("k" + key)).isEqualTo(expected.containsKey(key) ? key : -1L);
+		}
+	}
+}
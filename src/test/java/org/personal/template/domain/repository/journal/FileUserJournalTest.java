@@ -0,0 +1,214 @@
+package org.personal.template.domain.repository.journal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FileUserJournalTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	@DisplayName("스냅샷 이후 로그까지 재생하고 끝부분이 깨진 레코드는 무시")
+	void recoversFromSnapshotAndLogWithTornTail() throws Exception {
+		FileUserJournal journal = newJournal();
+		InMemoryUserRepository repository = new InMemoryUserRepository(Optional.of(journal));
+		repository.recover();
+
+		User kept = repository.save(newUser("kept@test.com", "kept"));
+		User removed = repository.save(newUser("removed@test.com", "removed"));
+		journal.snapshot();
+		repository.deleteById(removed.getUuid());
+		User added = repository.save(newUser("added@test.com", "added"));
+		journal.close();
+
+		// 기록 도중 종료된 상황 재현
+		try (Stream<Path> files = Files.list(dir)) {
+			Path lastLog = files.filter(path -> path.toString().endsWith(".wal")).sorted().reduce((a, b) -> b)
+				.orElseThrow();
+			Files.write(lastLog, new byte[] {0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+		}
+
+		FileUserJournal reopenedJournal = newJournal();
+		InMemoryUserRepository reopened = new InMemoryUserRepository(Optional.of(reopenedJournal));
+		reopened.recover();
+
+		assertThat(reopened.count()).isEqualTo(2);
+		assertThat(reopened.findByEmail("kept@test.com")).get()
+			.extracting(User::getUuid, User::getRole, User::getPassword)
+			.containsExactly(kept.getUuid(), Role.ROLE_USER, "hash");
+		assertThat(reopened.findByUsername("added")).isNotNull();
+		assertThat(reopened.findByEmail("removed@test.com")).isEmpty();
+		// 새 uuid는 복구된 최대값 이후부터 발급
+		assertThat(reopened.save(newUser("new@test.com", "new")).getUuid()).isGreaterThan(added.getUuid());
+		reopenedJournal.close();
+	}
+
+	@Test
+	@DisplayName("기록 실패 시 부분 바이트를 잘라내어 이후 성공한 기록이 재생에서 빠지지 않음")
+	void truncatesPartialRecordAfterWriteFailure() throws Exception {
+		FileUserJournal journal = newJournal();
+		InMemoryUserRepository repository = new InMemoryUserRepository(Optional.of(journal));
+		repository.recover();
+		repository.save(newUser("before@test.com", "before"));
+
+		FailingChannel failing;
+		synchronized (ReflectionTestUtils.getField(journal, "channelLock")) {
+			failing = new FailingChannel((FileChannel)ReflectionTestUtils.getField(journal, "channel"));
+			ReflectionTestUtils.setField(journal, "channel", failing);
+		}
+		failing.failNextWrite = true;
+		assertThatThrownBy(() -> repository.save(newUser("failed@test.com", "failed")))
+			.isInstanceOf(IllegalStateException.class);
+		repository.save(newUser("after@test.com", "after"));
+		journal.close();
+
+		FileUserJournal reopenedJournal = newJournal();
+		InMemoryUserRepository reopened = new InMemoryUserRepository(Optional.of(reopenedJournal));
+		reopened.recover();
+
+		assertThat(reopened.count()).isEqualTo(2);
+		assertThat(reopened.findByEmail("before@test.com")).isPresent();
+		assertThat(reopened.findByEmail("after@test.com")).isPresent();
+		assertThat(reopened.findByEmail("failed@test.com")).isEmpty();
+		reopenedJournal.close();
+	}
+
+	private FileUserJournal newJournal() {
+		// 주기적 스냅샷은 끄고 테스트에서 직접 호출
+		return new FileUserJournal(dir.toString(), "per-op", 100, 16, 0);
+	}
+
+	private static User newUser(String email, String username) {
+		User user = new User();
+		user.setEmail(email);
+		user.setUsername(username);
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		return user;
+	}
+
+	// 다음 기록은 절반만 쓰고 실패 (디스크 부족 등 재현), 나머지는 원래 채널에 위임
+	private static final class FailingChannel extends FileChannel {
+
+		private final FileChannel delegate;
+		private volatile boolean failNextWrite;
+
+		FailingChannel(FileChannel delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			if (failNextWrite) {
+				failNextWrite = false;
+				ByteBuffer half = src.slice(src.position(), src.remaining() / 2);
+				delegate.write(half);
+				throw new IOException("No space left on device");
+			}
+			return delegate.write(src);
+		}
+
+		@Override
+		public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+			return delegate.write(srcs, offset, length);
+		}
+
+		@Override
+		public int read(ByteBuffer dst) throws IOException {
+			return delegate.read(dst);
+		}
+
+		@Override
+		public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+			return delegate.read(dsts, offset, length);
+		}
+
+		@Override
+		public long position() throws IOException {
+			return delegate.position();
+		}
+
+		@Override
+		public FileChannel position(long newPosition) throws IOException {
+			delegate.position(newPosition);
+			return this;
+		}
+
+		@Override
+		public long size() throws IOException {
+			return delegate.size();
+		}
+
+		@Override
+		public FileChannel truncate(long size) throws IOException {
+			delegate.truncate(size);
+			return this;
+		}
+
+		@Override
+		public void force(boolean metaData) throws IOException {
+			delegate.force(metaData);
+		}
+
+		@Override
+		public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			return delegate.transferTo(position, count, target);
+		}
+
+		@Override
+		public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+			return delegate.transferFrom(src, position, count);
+		}
+
+		@Override
+		public int read(ByteBuffer dst, long position) throws IOException {
+			return delegate.read(dst, position);
+		}
+
+		@Override
+		public int write(ByteBuffer src, long position) throws IOException {
+			return delegate.write(src, position);
+		}
+
+		@Override
+		public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+			return delegate.map(mode, position, size);
+		}
+
+		@Override
+		public FileLock lock(long position, long size, boolean shared) throws IOException {
+			return delegate.lock(position, size, shared);
+		}
+
+		@Override
+		public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+			return delegate.tryLock(position, size, shared);
+		}
+
+		@Override
+		protected void implCloseChannel() throws IOException {
+			delegate.close();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package org.personal.template.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+	@Test
+	@DisplayName("만료 전에는 캐시 히트, 만료 시각 이후에는 미스")
+	void expiresAtDeadline() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, 1);
+		cache.put("token", "claims", 1_000L);
+
+		assertThat(cache.get("token", 999L)).isEqualTo("claims");
+		assertThat(cache.get("token", 1_000L)).isNull();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.hitCount()).isEqualTo(1);
+		assertThat(cache.missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("용량 초과 시 가장 오래 사용되지 않은 엔트리 제거")
+	void evictsLeastRecentlyUsed() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2, 1);
+		cache.put("a", "A", Long.MAX_VALUE);
+		cache.put("b", "B", Long.MAX_VALUE);
+		cache.get("a", 0L);
+		cache.put("c", "C", Long.MAX_VALUE);
+
+		assertThat(cache.get("a", 0L)).isEqualTo("A");
+		assertThat(cache.get("b", 0L)).isNull();
+		assertThat(cache.get("c", 0L)).isEqualTo("C");
+		assertThat(cache.evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("getOrCreate는 살아 있는 값을 재사용하고 만료 시각을 갱신, 만료되었으면 새로 생성")
+	void getOrCreateReusesLiveValue() {
+		ExpiringLruCache<String, Object> cache = new ExpiringLruCache<>(10, 1);
+		Object first = cache.getOrCreate("key", Object::new, 0L, 1_000L);
+
+		assertThat(cache.getOrCreate("key", Object::new, 999L, 2_000L)).isSameAs(first);
+		assertThat(cache.get("key", 1_500L)).isSameAs(first);
+		assertThat(cache.getOrCreate("key", Object::new, 2_000L, 3_000L)).isNotSameAs(first);
+	}
+}
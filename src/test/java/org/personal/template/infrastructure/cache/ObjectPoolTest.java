@@ -0,0 +1,36 @@
+package org.personal.template.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ObjectPoolTest {
+
+	@Test
+	@DisplayName("반납한 객체는 다른 스레드에서도 재사용되고, 풀이 비면 새로 생성")
+	void reusesReleasedObjectsAcrossThreads() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		ObjectPool<StringBuilder> pool = new ObjectPool<>(2, () -> {
+			created.incrementAndGet();
+			return new StringBuilder();
+		});
+
+		StringBuilder first = pool.acquire();
+		pool.release(first);
+
+		StringBuilder[] borrowed = new StringBuilder[2];
+		Thread other = new Thread(() -> {
+			borrowed[0] = pool.acquire();
+			borrowed[1] = pool.acquire();
+		});
+		other.start();
+		other.join();
+
+		assertThat(borrowed[0]).isSameAs(first);
+		assertThat(borrowed[1]).isNotSameAs(first);
+		assertThat(created.get()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,30 @@
+package org.personal.template.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SipHashTest {
+
+	@Test
+	@DisplayName("참조 구현 테스트 벡터와 일치 (키 00..0f, 입력 00 01 02 ... 를 UTF-16LE 문자로)")
+	void matchesReferenceVectors() {
+		SipHash sipHash = new SipHash(0x0706050403020100L, 0x0F0E0D0C0B0A0908L);
+
+		assertThat(sipHash.hash("")).isEqualTo(0x726FDB47DD0E0E31L);
+		assertThat(sipHash.hash("\u0100")).isEqualTo(0x0D6C8009D9A94F5AL);
+		assertThat(sipHash.hash("\u0100\u0302\u0504\u0706")).isEqualTo(0x93F5F5799A932462L);
+		assertThat(sipHash.hash("\u0100\u0302\u0504\u0706\u0908\u0b0a\u0d0c\u0f0e")).isEqualTo(0x3F2ACC7F57C29BDBL);
+	}
+
+	@Test
+	@DisplayName("String.hashCode가 같은 문자열도 다른 해시")
+	void separatesHashCodeCollisions() {
+		SipHash sipHash = SipHash.random();
+
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+		assertThat(sipHash.hash("Aa")).isNotEqualTo(sipHash.hash("BB"));
+		assertThat(sipHash.hash(new StringBuilder("Aa"))).isEqualTo(sipHash.hash("Aa"));
+	}
+}
@@ -0,0 +1,53 @@
+package org.personal.template.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowSketchTest {
+
+	@Test
+	@DisplayName("이전 세대 건수는 윈도우가 지나는 비율만큼 줄여서 반영하고, 두 윈도우가 지나면 잊음")
+	void slidesAcrossGenerations() {
+		SlidingWindowSketch sketch = new SlidingWindowSketch(1024, 1000, 0);
+		for (int i = 0; i < 10; i++) {
+			sketch.add("10.0.0.1", 100);
+		}
+		assertThat(sketch.estimate("10.0.0.1", 500)).isEqualTo(10);
+		assertThat(sketch.estimate("10.0.0.2", 500)).isZero();
+
+		// 다음 세대 시작 직후에는 이전 세대가 거의 그대로, 절반 지나면 절반
+		assertThat(sketch.estimate("10.0.0.1", 1000)).isEqualTo(10);
+		assertThat(sketch.estimate("10.0.0.1", 1500)).isEqualTo(5);
+		assertThat(sketch.add("10.0.0.1", 1500)).isEqualTo(6);
+
+		assertThat(sketch.estimate("10.0.0.1", 3100)).isZero();
+	}
+
+	@Test
+	@DisplayName("키가 많아도 과소 추정하지 않음")
+	void neverUnderestimates() {
+		SlidingWindowSketch sketch = new SlidingWindowSketch(64, 60_000, 0);
+		for (int i = 0; i < 2000; i++) {
+			sketch.add("key-" + (i % 500), 10);
+		}
+
+		for (int i = 0; i < 500; i++) {
+			assertThat(sketch.estimate("key-" + i, 10)).isGreaterThanOrEqualTo(4);
+		}
+	}
+
+	@Test
+	@DisplayName("String.hashCode가 같은 키끼리 카운터를 공유하지 않음")
+	void hashCodeCollisionsDoNotShareCounters() {
+		SlidingWindowSketch sketch = new SlidingWindowSketch(1024, 60_000, 0);
+		assertThat("2001:db8::Aa".hashCode()).isEqualTo("2001:db8::BB".hashCode());
+
+		for (int i = 0; i < 100; i++) {
+			sketch.add("2001:db8::Aa", 10);
+		}
+
+		assertThat(sketch.estimate("2001:db8::BB", 10)).isZero();
+	}
+}
@@ -0,0 +1,25 @@
+package org.personal.template.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveServerConfigTest {
+
+	@Autowired
+	private ReactiveWebServerApplicationContext context;
+
+	@Test
+	@DisplayName("reactive 프로필은 Tomcat이 클래스패스에 있어도 Netty로 기동")
+	void startsOnNetty() {
+		assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+	}
+}
@@ -0,0 +1,77 @@
+package org.personal.template.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BearerTokenScannerTest {
+
+	private JWTUtil jwtUtil;
+	private String header;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JWTUtil(new VerifiedTokenCache(true, 100, 1));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey",
+			Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes()));
+		jwtUtil.init();
+		header = jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_USER);
+	}
+
+	@Test
+	@DisplayName("발급한 토큰의 세그먼트 위치를 헤더 위에서 찾음")
+	void findsSegmentsOnHeader() {
+		long scan = BearerTokenScanner.scanHeader(header);
+
+		assertThat(scan).isGreaterThanOrEqualTo(0);
+		String token = header.substring(JWTUtil.BEARER_PREFIX.length());
+		assertThat(BearerTokenScanner.start(scan)).isEqualTo(JWTUtil.BEARER_PREFIX.length());
+		assertThat(BearerTokenScanner.firstDot(scan) - BearerTokenScanner.start(scan)).isEqualTo(token.indexOf('.'));
+		assertThat(BearerTokenScanner.secondDot(scan) - BearerTokenScanner.start(scan))
+			.isEqualTo(token.lastIndexOf('.'));
+	}
+
+	@Test
+	@DisplayName("Bearer가 아닌 헤더는 대상 아님, 빈 토큰/형식 오류는 구분")
+	void classifiesGarbageHeaders() {
+		assertThat(BearerTokenScanner.scanHeader(null)).isEqualTo(BearerTokenScanner.NO_TOKEN);
+		assertThat(BearerTokenScanner.scanHeader("Basic dXNlcjpwYXNz")).isEqualTo(BearerTokenScanner.NO_TOKEN);
+		assertThat(BearerTokenScanner.scanHeader("Bearer ")).isEqualTo(BearerTokenScanner.EMPTY);
+
+		String token = header.substring(JWTUtil.BEARER_PREFIX.length());
+		assertThat(BearerTokenScanner.scanHeader("Bearer not-a-jwt")).isEqualTo(BearerTokenScanner.MALFORMED);
+		// alg 헤더 변조 (none 등)
+		assertThat(BearerTokenScanner.scanHeader("Bearer eyJhbGciOiJub25lIn0" + token.substring(token.indexOf('.'))))
+			.isEqualTo(BearerTokenScanner.MALFORMED);
+		// 세그먼트 추가, 서명 길이 불일치, 허용되지 않는 문자
+		assertThat(BearerTokenScanner.scanHeader(header + ".x")).isEqualTo(BearerTokenScanner.MALFORMED);
+		assertThat(BearerTokenScanner.scanHeader(header.substring(0, header.length() - 1)))
+			.isEqualTo(BearerTokenScanner.MALFORMED);
+		assertThat(BearerTokenScanner.scanHeader(header.replace('.', '+'))).isEqualTo(BearerTokenScanner.MALFORMED);
+		assertThat(BearerTokenScanner.scanHeader("Bearer " + "A".repeat(BearerTokenScanner.MAX_TOKEN_LENGTH + 1)))
+			.isEqualTo(BearerTokenScanner.MALFORMED);
+	}
+
+	@Test
+	@DisplayName("verifyAuthorization: 형식 오류는 파싱 없이 AUTH001, 정상 토큰은 검증 결과 반환")
+	void verifyAuthorizationRejectsBeforeParsing() {
+		assertThat(jwtUtil.verifyAuthorization(null)).isNull();
+		assertThatThrownBy(() -> jwtUtil.verifyAuthorization("Bearer ../../etc/passwd"))
+			.isInstanceOf(BaseException.class)
+			.extracting("errorCode")
+			.isEqualTo(Code.AUTH001);
+
+		VerifiedToken verified = jwtUtil.verifyAuthorization(header);
+		assertThat(verified.getEmail()).isEqualTo("user@test.com");
+		// 같은 헤더는 캐시에서 같은 결과
+		assertThat(jwtUtil.verifyAuthorization(new StringBuilder(header))).isSameAs(verified);
+	}
+}
@@ -0,0 +1,123 @@
+package org.personal.template.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.Keys;
+
+class JWTUtilTest {
+
+	private static final byte[] SECRET = "test-secret-key-test-secret-key-test".getBytes();
+
+	private JWTUtil jwtUtil;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JWTUtil(new VerifiedTokenCache(true, 100, 1));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+		jwtUtil.init();
+	}
+
+	@Test
+	@DisplayName("고정 형태 인코더로 만든 토큰을 jjwt 파서가 검증")
+	void encodedTokenIsParsedByJjwt() {
+		String token = jwtUtil.substringToken(
+			jwtUtil.createAccessToken("user@test.com", "te\"ster\\", Role.ROLE_ADMIN));
+
+		Claims claims = jwtUtil.getClaims(token);
+		assertThat(claims.getSubject()).isEqualTo("user@test.com");
+		assertThat(claims.get(JWTUtil.USERNAME_KEY, String.class)).isEqualTo("te\"ster\\");
+		assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime()).isEqualTo(60 * 60 * 1000L);
+
+		VerifiedToken verified = jwtUtil.verify(token);
+		assertThat(verified.getEmail()).isEqualTo("user@test.com");
+		assertThat(verified.getRole()).isEqualTo(Role.ROLE_ADMIN);
+	}
+
+	@Test
+	@DisplayName("서명이 변조된 토큰은 AUTH001")
+	void tamperedSignatureIsRejected() {
+		String token = jwtUtil.substringToken(
+			jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_USER));
+		int signatureStart = token.lastIndexOf('.') + 1;
+		char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+		String tampered = token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+
+		assertThatThrownBy(() -> jwtUtil.verify(tampered))
+			.isInstanceOf(BaseException.class)
+			.extracting("errorCode")
+			.isEqualTo(Code.AUTH001);
+	}
+
+	@Test
+	@DisplayName("checkAuthorization은 실패를 예외 없이 미리 만든 결과로 반환")
+	void checkAuthorizationReturnsPreallocatedFailures() {
+		String header = jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_USER);
+		int signatureStart = header.lastIndexOf('.') + 1;
+		char replaced = header.charAt(signatureStart) == 'A' ? 'B' : 'A';
+		String tampered = header.substring(0, signatureStart) + replaced + header.substring(signatureStart + 1);
+
+		TokenVerification valid = jwtUtil.checkAuthorization(header);
+		assertThat(valid.isValid()).isTrue();
+		assertThat(valid.token().getEmail()).isEqualTo("user@test.com");
+
+		assertThat(jwtUtil.checkAuthorization(null)).isSameAs(TokenCheck.ABSENT.getResult());
+		assertThat(jwtUtil.checkAuthorization("Bearer ")).isSameAs(TokenCheck.EMPTY.getResult());
+		assertThat(jwtUtil.checkAuthorization("Bearer garbage")).isSameAs(TokenCheck.MALFORMED.getResult());
+		assertThat(jwtUtil.checkAuthorization(tampered)).isSameAs(TokenCheck.BAD_SIGNATURE.getResult());
+
+		// 실패 예외는 공유 인스턴스이고 스택 트레이스가 없음
+		BaseException exception = TokenCheck.BAD_SIGNATURE.getException();
+		assertThat(exception.getErrorCode()).isEqualTo(Code.AUTH001);
+		assertThat(exception.getStackTrace()).isEmpty();
+		assertThatThrownBy(() -> jwtUtil.verifyAuthorization(tampered)).isSameAs(exception);
+	}
+
+	@Test
+	@DisplayName("서명은 맞지만 만료된 토큰은 EXPIRED, 페이로드만 바꾼 토큰은 BAD_SIGNATURE")
+	void checkTokenDistinguishesExpiredAndForged() {
+		AccessTokenEncoder encoder = new AccessTokenEncoder(Keys.hmacShaKeyFor(SECRET));
+		long now = System.currentTimeMillis() / 1000;
+		String expired = encoder.encode("user@test.com", "tester", Role.ROLE_USER, now - 7200, now - 3600);
+		assertThat(jwtUtil.checkToken(expired)).isEqualTo(TokenCheck.EXPIRED);
+
+		String user = jwtUtil.substringToken(jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_USER));
+		String admin = jwtUtil.substringToken(jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_ADMIN));
+		// ADMIN 페이로드 + USER 서명
+		String forged = admin.substring(0, admin.lastIndexOf('.')) + user.substring(user.lastIndexOf('.'));
+		assertThat(jwtUtil.checkToken(forged)).isEqualTo(TokenCheck.BAD_SIGNATURE);
+		assertThat(jwtUtil.checkToken(user)).isEqualTo(TokenCheck.OK);
+	}
+
+	@Test
+	@DisplayName("checkRequest는 요청마다 한 번만 검증하고, 만료 토큰은 EXPIRED")
+	void checkRequestVerifiesOncePerRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JWTUtil.AUTHORIZATION_HEADER,
+			jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_USER));
+
+		TokenVerification first = jwtUtil.checkRequest(request);
+		assertThat(first.isValid()).isTrue();
+		// 같은 요청에서는 헤더를 다시 읽지 않고 처음 결과 재사용
+		request.removeHeader(JWTUtil.AUTHORIZATION_HEADER);
+		assertThat(jwtUtil.checkRequest(request)).isSameAs(first);
+
+		AccessTokenEncoder encoder = new AccessTokenEncoder(Keys.hmacShaKeyFor(SECRET));
+		long now = System.currentTimeMillis() / 1000;
+		MockHttpServletRequest expired = new MockHttpServletRequest();
+		expired.addHeader(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX
+			+ encoder.encode("user@test.com", "tester", Role.ROLE_USER, now - 7200, now - 3600));
+		assertThat(jwtUtil.checkRequest(expired).check()).isEqualTo(TokenCheck.EXPIRED);
+	}
+}
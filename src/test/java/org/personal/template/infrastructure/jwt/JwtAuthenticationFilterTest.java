@@ -0,0 +1,54 @@
+package org.personal.template.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.exception.RetryLaterException;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.security.LoginAttemptLimiter;
+import org.personal.template.infrastructure.security.UserDetailsServiceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JwtAuthenticationFilterTest {
+
+	@Test
+	@DisplayName("없는 이메일 로그인도 자격 증명 실패로 세어 시도 제한에 기록")
+	void countsUnknownEmailAsFailure() throws Exception {
+		AuthEventLogger authEventLogger = new AuthEventLogger(20);
+		// 1번 실패하면 60초 잠금
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(true, 1, 60, 60, 60, 1024, 100, 60, 1024,
+			authEventLogger);
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setUserDetailsService(new UserDetailsServiceImpl(new InMemoryUserRepository(Optional.empty())));
+		provider.setPasswordEncoder(new BCryptPasswordEncoder(4));
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(null,
+			new ApiResponseSerializer(new ObjectMapper()), authEventLogger, limiter);
+		filter.setAuthenticationManager(new ProviderManager(provider));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/login");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent("{\"email\":\"nobody@test.com\",\"password\":\"password\"}"
+			.getBytes(StandardCharsets.UTF_8));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+
+		assertThat(response.getStatus()).isEqualTo(401);
+		// 예약만 반납되었다면 다시 시도할 수 있어야 하지만, 실패로 기록되어 잠김
+		assertThatThrownBy(() -> limiter.acquire("nobody@test.com", "10.0.0.9"))
+			.isInstanceOf(RetryLaterException.class);
+	}
+}
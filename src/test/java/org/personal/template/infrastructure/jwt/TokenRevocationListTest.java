@@ -0,0 +1,91 @@
+package org.personal.template.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.cache.RotatingBloomFilter;
+import org.personal.template.infrastructure.security.Role;
+
+class TokenRevocationListTest {
+
+	private InMemoryUserRepository userRepository;
+	private TokenRevocationList revocationList;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = new InMemoryUserRepository(Optional.empty());
+		revocationList = new TokenRevocationList(100);
+		userRepository.setChangeListeners(List.of(revocationList));
+
+		user = new User();
+		user.setEmail("user@test.com");
+		user.setUsername("tester");
+		user.setPassword("hash");
+		user.setRole(Role.ROLE_USER);
+		userRepository.save(user);
+	}
+
+	@Test
+	@DisplayName("권한이 바뀌면 이전에 발급된 토큰은 폐기, 이후 발급된 토큰은 통과")
+	void roleChangeRevokesEarlierTokens() {
+		VerifiedToken before = token("user@test.com", Instant.now().minusSeconds(5));
+		assertThat(revocationList.isRevoked(before)).isFalse();
+
+		user.setRole(Role.ROLE_ADMIN);
+		userRepository.save(user);
+
+		assertThat(revocationList.isRevoked(before)).isTrue();
+		assertThat(revocationList.isRevoked(token("user@test.com", Instant.now().plusSeconds(2)))).isFalse();
+	}
+
+	@Test
+	@DisplayName("비밀번호만 바뀐 저장은 토큰을 폐기하지 않음")
+	void passwordRehashDoesNotRevoke() {
+		VerifiedToken before = token("user@test.com", Instant.now().minusSeconds(5));
+
+		user.setPassword("rehashed");
+		userRepository.save(user);
+
+		assertThat(revocationList.isRevoked(before)).isFalse();
+		assertThat(revocationList.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("삭제된 사용자의 토큰은 폐기, 다른 사용자는 영향 없음")
+	void deleteRevokesOnlyThatUser() {
+		VerifiedToken before = token("user@test.com", Instant.now().minusSeconds(5));
+		VerifiedToken other = token("other@test.com", Instant.now().minusSeconds(5));
+
+		userRepository.deleteById(user.getUuid());
+
+		assertThat(revocationList.isRevoked(before)).isTrue();
+		assertThat(revocationList.isRevoked(other)).isFalse();
+	}
+
+	@Test
+	@DisplayName("Bloom filter는 유지 기간 안에 추가된 키를 놓치지 않고, 두 세대가 지나면 잊음")
+	void bloomFilterRemembersForOneRotation() {
+		RotatingBloomFilter filter = new RotatingBloomFilter(1000, 10, 1000, 0);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("user" + i + "@test.com", 0);
+		}
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(filter.mightContain("user" + i + "@test.com", 1500)).isTrue();
+		}
+		assertThat(filter.mightContain("user0@test.com", 2500)).isFalse();
+	}
+
+	private static VerifiedToken token(String email, Instant issuedAt) {
+		return new VerifiedToken(email, "tester", Role.ROLE_USER, issuedAt, issuedAt.plusSeconds(3600));
+	}
+}
@@ -0,0 +1,62 @@
+package org.personal.template.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.jwt.TokenCheck;
+import org.personal.template.infrastructure.response.Code;
+import org.personal.template.infrastructure.security.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthMetricsTest {
+
+	@Test
+	@DisplayName("검증 결과/필터 결과/가입 중복은 태그별로 따로 집계")
+	void recordsByTag() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		AuthMetrics metrics = new AuthMetrics(registry);
+
+		metrics.recordTokenVerify(TokenCheck.OK, 1_000);
+		metrics.recordTokenVerify(TokenCheck.BAD_SIGNATURE, 1_000);
+		metrics.recordTokenVerify(TokenCheck.BAD_SIGNATURE, 1_000);
+		metrics.recordFilterOutcome(Code.SUCCESS);
+		metrics.recordFilterOutcome(Code.AUTH002);
+		metrics.recordFilterOutcome(null);
+		metrics.recordRegistrationConflict(AuthMetrics.ConflictField.CONCURRENT);
+
+		assertThat(registry.get("jwt.verify").tag("result", "OK").timer().count()).isEqualTo(1);
+		assertThat(registry.get("jwt.verify").tag("result", "BAD_SIGNATURE").timer().count()).isEqualTo(2);
+		assertThat(registry.get("security.filter.outcomes").tag("code", "SUCCESS").counter().count()).isEqualTo(1);
+		assertThat(registry.get("security.filter.outcomes").tag("code", "AUTH002").counter().count()).isEqualTo(1);
+		assertThat(registry.get("security.filter.outcomes").tag("code", "NONE").counter().count()).isEqualTo(1);
+		assertThat(registry.get("user.registration.conflicts").tag("field", "concurrent").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("TimedUserRepository는 결과를 그대로 돌려주고 연산별 타이머에 기록")
+	void timedRepositoryDelegates() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		TimedUserRepository repository =
+			new TimedUserRepository(new InMemoryUserRepository(Optional.empty()), registry);
+		User user = new User();
+		user.setEmail("user@test.com");
+		user.setUsername("tester");
+		user.setPassword("encoded");
+		user.setRole(Role.ROLE_USER);
+
+		repository.save(user);
+
+		assertThat(repository.findByEmail("user@test.com")).isPresent();
+		assertThat(repository.findByUsername("nobody")).isNull();
+		assertThat(registry.get("user.repository").tag("operation", "save").timer().count()).isEqualTo(1);
+		assertThat(registry.get("user.repository").tag("operation", "findByEmail").timer().count()).isEqualTo(1);
+		assertThat(registry.get("user.repository").tag("operation", "findByUsername").timer().count()).isEqualTo(1);
+	}
+}
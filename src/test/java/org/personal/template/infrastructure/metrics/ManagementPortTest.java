@@ -0,0 +1,45 @@
+package org.personal.template.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ManagementPortTest {
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@LocalServerPort
+	private int serverPort;
+
+	@LocalManagementPort
+	private int managementPort;
+
+	@Test
+	@DisplayName("메트릭은 관리 포트에서만 제공되고 서비스 포트에서는 보이지 않음")
+	void prometheusOnlyOnManagementPort() throws Exception {
+		assertThat(managementPort).isNotEqualTo(serverPort);
+
+		HttpResponse<String> management = get(managementPort, "/actuator/prometheus");
+		assertThat(management.statusCode()).isEqualTo(200);
+		assertThat(management.body()).contains("jvm_");
+
+		HttpResponse<String> server = get(serverPort, "/actuator/prometheus");
+		assertThat(server.statusCode()).isNotEqualTo(200);
+		assertThat(server.body()).doesNotContain("jvm_");
+	}
+
+	private HttpResponse<String> get(int port, String path) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path)).GET().build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+}
@@ -0,0 +1,192 @@
+package org.personal.template.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.VerifiedTokenCache;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.security.Role;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RateLimitFilterTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	private JWTUtil jwtUtil;
+	private String tokenA;
+	private String tokenB;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JWTUtil(new VerifiedTokenCache(true, 100, 1));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey",
+			Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes()));
+		jwtUtil.init();
+		tokenA = jwtUtil.createAccessToken("a@test.com", "a", Role.ROLE_USER);
+		tokenB = jwtUtil.createAccessToken("b@test.com", "b", Role.ROLE_USER);
+	}
+
+	@Test
+	@DisplayName("버킷은 burst개까지 연속 허용하고, 경과 시간만큼 보충")
+	void bucketAllowsBurstThenRefills() {
+		TokenBucket bucket = new TokenBucket(10, 3);
+		long now = 5 * SECOND;
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(bucket.tryAcquire(now)).isEqualTo(TokenBucket.ALLOWED);
+		}
+		// 다음 토큰은 0.1초 뒤
+		assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 10);
+		assertThat(bucket.tryAcquire(now + SECOND / 10)).isEqualTo(TokenBucket.ALLOWED);
+		// 오래 쉬어도 burst개까지만
+		long later = now + 60 * SECOND;
+		for (int i = 0; i < 3; i++) {
+			assertThat(bucket.tryAcquire(later)).isEqualTo(TokenBucket.ALLOWED);
+		}
+		assertThat(bucket.tryAcquire(later)).isPositive();
+	}
+
+	@Test
+	@DisplayName("주체 버킷 초과 시 429 + Retry-After, 다른 주체와 규칙 밖 경로는 영향 없음")
+	void rejectsPerPrincipal() throws Exception {
+		RateLimitFilter filter = filter(new String[] {"/api/user/**=1000:1000"}, 0.5, 2);
+
+		assertThat(call(filter, "/api/user/me", tokenA).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/user/me", tokenA).getStatus()).isEqualTo(200);
+		MockHttpServletResponse rejected = call(filter, "/api/user/me", tokenA);
+
+		assertThat(rejected.getStatus()).isEqualTo(429);
+		assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(rejected.getContentAsString()).contains("\"code\":429");
+		assertThat(call(filter, "/api/user/me", tokenB).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/user/me", null).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/actuator/health", tokenA).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("서명이 맞지 않는 토큰을 바꿔 보내도 원격 IP 버킷을 공유")
+	void rotatingTokensShareRemoteAddressBucket() throws Exception {
+		RateLimitFilter filter = filter(new String[] {"/api/user/**=1000:1000"}, 0.5, 2);
+		String forged = tokenA.substring(0, tokenA.lastIndexOf('.') + 1) + "A".repeat(43);
+
+		assertThat(call(filter, "/api/user/me", "Bearer garbage-1").getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/user/me", forged).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/user/me", "Bearer " + "x".repeat(8192)).getStatus()).isEqualTo(429);
+		assertThat(call(filter, "/api/user/me", null).getStatus()).isEqualTo(429);
+		// 서명이 맞는 토큰은 자기 버킷 사용
+		assertThat(call(filter, "/api/user/me", tokenA).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("같은 email로 발급된 토큰은 여러 개여도 주체 버킷 하나를 공유")
+	void tokensOfSamePrincipalShareBucket() throws Exception {
+		RateLimitFilter filter = filter(new String[] {"/api/user/**=1000:1000"}, 0.5, 2);
+		String otherTokenA = jwtUtil.createAccessToken("a@test.com", "a", Role.ROLE_MANAGER);
+
+		assertThat(otherTokenA).isNotEqualTo(tokenA);
+		assertThat(call(filter, "/api/user/me", tokenA).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/user/me", otherTokenA).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/user/me", tokenA).getStatus()).isEqualTo(429);
+		assertThat(call(filter, "/api/user/me", otherTokenA).getStatus()).isEqualTo(429);
+	}
+
+	@Test
+	@DisplayName("같은 주체의 첫 요청이 동시에 몰려도 버킷은 하나 (burst개만 허용)")
+	void concurrentFirstRequestsShareBucket() throws Exception {
+		RateLimitFilter filter = filter(new String[] {"/api/user/**=1000:1000"}, 0.001, 2);
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger passed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					if (call(filter, "/api/user/me", null).getStatus() == 200) {
+						passed.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(passed).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("인코딩/세미콜론이 섞인 경로도 디코딩한 경로로 규칙 적용")
+	void matchesDecodedPath() throws Exception {
+		RateLimitFilter filter = filter(new String[] {"/api/user/**=1:1"}, 1000, 1000);
+
+		assertThat(call(filter, "/api/user/register", null).getStatus()).isEqualTo(200);
+		assertThat(call(filter, "/api/%75ser/register", null).getStatus()).isEqualTo(429);
+		assertThat(call(filter, "/api/user;jsessionid=1/register", null).getStatus()).isEqualTo(429);
+	}
+
+	@Test
+	@DisplayName("경로 버킷은 주체와 관계없이 처음 일치한 규칙 하나를 공유")
+	void routeBucketIsShared() throws Exception {
+		RateLimitFilter filter = filter(new String[] {"/api/admin/**=1:2", "/api/**=1000:1000"}, 1000, 1000);
+		AtomicInteger passed = new AtomicInteger();
+
+		for (int i = 0; i < 5; i++) {
+			String token = i % 2 == 0 ? tokenA : tokenB;
+			if (call(filter, "/api/admin/users", token).getStatus() == 200) {
+				passed.incrementAndGet();
+			}
+		}
+
+		assertThat(passed).hasValue(2);
+		assertThat(call(filter, "/api/user/me", tokenA).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("규칙 형식이 잘못되면 시작 시 실패")
+	void invalidRouteSpec() {
+		assertThatThrownBy(() -> RateLimitFilter.parseRoutes(new String[] {"/api/**=fast"}))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(RateLimitFilter.parseRoutes(new String[] {""})).isEmpty();
+	}
+
+	private RateLimitFilter filter(String[] routes, double principalPermitsPerSecond, int principalBurst) {
+		return new RateLimitFilter(true, routes, principalPermitsPerSecond, principalBurst, 100, jwtUtil,
+			new ApiResponseSerializer(new ObjectMapper()));
+	}
+
+	private static MockHttpServletResponse call(RateLimitFilter filter, String path, String authorization)
+		throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		if (authorization != null) {
+			request.addHeader(JWTUtil.AUTHORIZATION_HEADER, authorization);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
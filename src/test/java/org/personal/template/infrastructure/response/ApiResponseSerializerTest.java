@@ -0,0 +1,45 @@
+package org.personal.template.infrastructure.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.infrastructure.exception.BaseException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ApiResponseSerializerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ApiResponseSerializer serializer = new ApiResponseSerializer(objectMapper);
+
+	@Test
+	@DisplayName("미리 만든 틀에 details를 끼운 결과가 ObjectMapper 직렬화 결과와 같음")
+	void authFailureMatchesObjectMapper() throws Exception {
+		for (String details : new String[] {"유효하지 않은 JWT 서명", "quote \" back\\slash\n<tag>", "", null}) {
+			for (Code code : new Code[] {Code.AUTH001, Code.AUTH007, Code.SIGN001}) {
+				ErrorData errorData = new ErrorData(code.getCode(), code.getMessage(), details);
+				String expected = objectMapper.writeValueAsString(new ApiResponseData<>(403, "fail", errorData));
+
+				byte[] actual = serializer.authFailure(BaseException.stackless(code, details));
+				assertThat(new String(actual, StandardCharsets.UTF_8)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("로그인 실패/고정 실패 응답도 ObjectMapper 직렬화 결과와 같음")
+	void loginAndFixedFailuresMatchObjectMapper() throws Exception {
+		String reason = "자격 증명에 실패하였습니다. \"bad\"";
+		assertThat(new String(serializer.loginFailure(reason), StandardCharsets.UTF_8))
+			.isEqualTo(objectMapper.writeValueAsString(ApiResponseData.failure(401, "로그인 실패: " + reason)));
+
+		Code code = Code.SERVICE_UNAVAILABLE;
+		assertThat(new String(serializer.failure(code), StandardCharsets.UTF_8))
+			.isEqualTo(objectMapper.writeValueAsString(ApiResponseData.failure(code.getCode(), code.getMessage())));
+		// 같은 배열을 재사용
+		assertThat(serializer.failure(code)).isSameAs(serializer.failure(code));
+	}
+}
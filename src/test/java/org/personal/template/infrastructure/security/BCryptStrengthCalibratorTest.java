@@ -0,0 +1,21 @@
+package org.personal.template.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BCryptStrengthCalibratorTest {
+
+	@Test
+	@DisplayName("최소 cost에서도 목표 시간을 넘으면 최소 cost 유지")
+	void neverGoesBelowMinimum() {
+		assertThat(BCryptStrengthCalibrator.calibrate(0, 4, 6)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("목표 시간이 넉넉해도 최대 cost를 넘지 않음")
+	void neverExceedsMaximum() {
+		assertThat(BCryptStrengthCalibrator.calibrate(60_000, 4, 6)).isEqualTo(6);
+	}
+}
@@ -0,0 +1,121 @@
+package org.personal.template.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.infrastructure.exception.RetryLaterException;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.response.Code;
+
+class LoginAttemptLimiterTest {
+
+	private static final String EMAIL = "user@test.com";
+
+	// 이메일: 3번 실패부터 1초, 2초, 4초... (최대 60초), IP: 분당 5회
+	private static LoginAttemptLimiter limiter(boolean enabled) {
+		return new LoginAttemptLimiter(enabled, 3, 60, 1, 60, 1024, 5, 60, 1024, new AuthEventLogger(20));
+	}
+
+	@Test
+	@DisplayName("이메일별 실패가 한도에 닿으면 잠그고, 이후 실패마다 잠금 시간을 2배로 늘림")
+	void locksEmailWithExponentialBackoff() {
+		LoginAttemptLimiter limiter = limiter(true);
+		long now = 1_000_000L;
+
+		limiter.recordFailure(EMAIL, now);
+		limiter.recordFailure(EMAIL, now);
+		assertThat(limiter.check(EMAIL, null, now)).isZero();
+
+		limiter.recordFailure(EMAIL, now);
+		assertThat(limiter.check(EMAIL, null, now)).isEqualTo(1);
+		assertThat(limiter.check(EMAIL, null, now + 1000)).isZero();
+
+		limiter.recordFailure(EMAIL, now + 1000);
+		assertThat(limiter.check(EMAIL, null, now + 1000)).isEqualTo(2);
+		limiter.recordFailure(EMAIL, now + 3000);
+		assertThat(limiter.check(EMAIL, null, now + 3000)).isEqualTo(4);
+
+		// 다른 이메일은 영향 없음
+		assertThat(limiter.check("other@test.com", null, now + 3000)).isZero();
+	}
+
+	@Test
+	@DisplayName("결과가 나오기 전의 동시 시도도 예약으로 세어, 남은 실패 허용 횟수를 넘으면 해시 전에 거절")
+	void reservesInFlightAttempts() {
+		LoginAttemptLimiter limiter = limiter(true);
+		long now = 1_000_000L;
+
+		// IP를 바꿔 IP 제한을 피해도 이메일당 동시 시도는 max-failures개까지
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.check(EMAIL, "10.0.0." + i, now)).isZero();
+		}
+		assertThat(limiter.check(EMAIL, "10.0.1.1", now)).isPositive();
+
+		// 실패 1회 정산: 남은 허용 2회는 진행 중인 2건이 차지
+		limiter.recordFailure(EMAIL, now);
+		assertThat(limiter.check(EMAIL, "10.0.1.2", now)).isPositive();
+
+		// 결과 없이 반납하면 그만큼 다시 허용
+		limiter.release(EMAIL, now);
+		assertThat(limiter.check(EMAIL, "10.0.1.3", now)).isZero();
+
+		// 정리되지 않은 예약은 일정 시간이 지나면 무시
+		assertThat(limiter.check(EMAIL, "10.0.1.4", now + 60_000)).isZero();
+	}
+
+	@Test
+	@DisplayName("한도에 닿은 뒤 잠금이 풀리면 한 번에 한 시도만 허용")
+	void allowsOneAttemptAtATimeAfterLockExpires() {
+		LoginAttemptLimiter limiter = limiter(true);
+		long now = 1_000_000L;
+		for (int i = 0; i < 3; i++) {
+			limiter.recordFailure(EMAIL, now);
+		}
+
+		assertThat(limiter.check(EMAIL, null, now + 1000)).isZero();
+		assertThat(limiter.check(EMAIL, null, now + 1000)).isPositive();
+	}
+
+	@Test
+	@DisplayName("로그인에 성공하면 이메일 실패 기록을 지움")
+	void successClearsFailures() {
+		LoginAttemptLimiter limiter = limiter(true);
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < 3; i++) {
+			limiter.recordFailure(EMAIL, now);
+		}
+
+		limiter.recordSuccess(EMAIL);
+
+		assertThat(limiter.check(EMAIL, null, now)).isZero();
+	}
+
+	@Test
+	@DisplayName("IP별 시도가 윈도우 한도를 넘으면 해시 전에 429로 거절")
+	void rejectsIpOverLimit() {
+		LoginAttemptLimiter limiter = limiter(true);
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire("user" + i + "@test.com", "10.0.0.1");
+		}
+
+		assertThatThrownBy(() -> limiter.acquire("user9@test.com", "10.0.0.1"))
+			.isInstanceOfSatisfying(RetryLaterException.class, e -> {
+				assertThat(e.getErrorCode()).isEqualTo(Code.SIGN007);
+				assertThat(e.getRetryAfterSeconds()).isPositive();
+			});
+		assertThatCode(() -> limiter.acquire("user9@test.com", "10.0.0.2")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("비활성화하면 기록/확인 모두 통과")
+	void disabledAllowsEverything() {
+		LoginAttemptLimiter limiter = limiter(false);
+		for (int i = 0; i < 10; i++) {
+			limiter.recordFailure(EMAIL);
+			limiter.acquire(EMAIL, "10.0.0.1");
+		}
+
+		assertThat(limiter.check(EMAIL, "10.0.0.1", System.currentTimeMillis())).isZero();
+	}
+}
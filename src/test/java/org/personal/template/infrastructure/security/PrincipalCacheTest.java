@@ -0,0 +1,86 @@
+package org.personal.template.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+
+class PrincipalCacheTest {
+
+	private InMemoryUserRepository userRepository;
+	private PrincipalCache principalCache;
+	private final AtomicInteger loads = new AtomicInteger();
+	private Function<String, Optional<User>> loader;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = new InMemoryUserRepository(Optional.empty());
+		principalCache = new PrincipalCache(true, 100, 1, 60);
+		userRepository.setChangeListeners(List.of(principalCache));
+		loader = email -> {
+			loads.incrementAndGet();
+			return userRepository.findByEmail(email);
+		};
+		userRepository.save(user("user@test.com", "tester", Role.ROLE_USER));
+	}
+
+	@Test
+	@DisplayName("같은 사용자 반복 조회 시 저장소는 한 번만 조회")
+	void repeatedLookupHitsCache() {
+		UserDetailsImpl first = principalCache.get("user@test.com", loader);
+		UserDetailsImpl second = principalCache.get("user@test.com", loader);
+
+		assertThat(second).isSameAs(first);
+		assertThat(second.getAuthorities()).isSameAs(first.getAuthorities());
+		assertThat(second.getUser().getPassword()).isNull();
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("저장소에서 권한이 바뀌면 다음 조회부터 새 값 반환")
+	void saveInvalidatesCachedPrincipal() {
+		principalCache.get("user@test.com", loader);
+
+		User user = userRepository.findByEmail("user@test.com").orElseThrow();
+		user.setRole(Role.ROLE_ADMIN);
+		userRepository.save(user);
+
+		assertThat(principalCache.get("user@test.com", loader).getAuthorities())
+			.isSameAs(Role.ROLE_ADMIN.authorities());
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("이메일 변경/삭제 시 이전 이메일로는 더 이상 조회되지 않음")
+	void emailChangeAndDeleteInvalidate() {
+		principalCache.get("user@test.com", loader);
+
+		User user = userRepository.findByEmail("user@test.com").orElseThrow();
+		User renamed = user("new@test.com", "tester", Role.ROLE_USER);
+		renamed.setUuid(user.getUuid());
+		userRepository.save(renamed);
+
+		assertThat(principalCache.get("user@test.com", loader)).isNull();
+		assertThat(principalCache.get("new@test.com", loader)).isNotNull();
+
+		userRepository.deleteById(user.getUuid());
+		assertThat(principalCache.get("new@test.com", loader)).isNull();
+	}
+
+	private static User user(String email, String username, Role role) {
+		User user = new User();
+		user.setEmail(email);
+		user.setUsername(username);
+		user.setPassword("encoded");
+		user.setRole(role);
+		return user;
+	}
+}
@@ -0,0 +1,50 @@
+package org.personal.template.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class RoleTest {
+
+	@Test
+	@DisplayName("역할 계층 ADMIN ⊇ MANAGER ⊇ USER")
+	void hierarchyIsTransitive() {
+		assertThat(Role.ROLE_ADMIN.includes(Role.ROLE_USER)).isTrue();
+		assertThat(Role.ROLE_ADMIN.includes(Role.ROLE_MANAGER)).isTrue();
+		assertThat(Role.ROLE_MANAGER.includes(Role.ROLE_USER)).isTrue();
+		assertThat(Role.ROLE_MANAGER.includes(Role.ROLE_ADMIN)).isFalse();
+		assertThat(Role.ROLE_USER.includes(Role.ROLE_MANAGER)).isFalse();
+
+		assertThat(Role.ROLE_ADMIN.authorities())
+			.containsExactly(Role.ROLE_ADMIN, Role.ROLE_MANAGER, Role.ROLE_USER);
+		assertThat(Role.ROLE_USER.authorities()).containsExactly(Role.ROLE_USER);
+	}
+
+	@Test
+	@DisplayName("권한 목록은 호출마다 같은 불변 인스턴스")
+	void authoritiesAreSharedAndImmutable() {
+		assertThat(Role.ROLE_MANAGER.authorities()).isSameAs(Role.ROLE_MANAGER.authorities());
+		assertThatThrownBy(() -> Role.ROLE_USER.authorities().add(Role.ROLE_ADMIN))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("RoleHierarchy: 문자열 권한도 역할로 해석하고, 역할이 아닌 권한은 유지")
+	void hierarchyResolvesPlainAuthorities() {
+		BitmaskRoleHierarchy hierarchy = new BitmaskRoleHierarchy();
+
+		assertThat(hierarchy.getReachableGrantedAuthorities(List.of(Role.ROLE_MANAGER)))
+			.isSameAs(Role.ROLE_MANAGER.authorities());
+
+		List<GrantedAuthority> mixed = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"),
+			new SimpleGrantedAuthority("SCOPE_read"));
+		assertThat(hierarchy.getReachableGrantedAuthorities(mixed))
+			.extracting(GrantedAuthority::getAuthority)
+			.containsExactlyInAnyOrder("SCOPE_read", "ROLE_ADMIN", "ROLE_MANAGER", "ROLE_USER");
+	}
+}
@@ -0,0 +1,106 @@
+package org.personal.template.infrastructure.security.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.personal.template.domain.entity.User;
+import org.personal.template.domain.repository.InMemoryUserRepository;
+import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.TokenRevocationList;
+import org.personal.template.infrastructure.jwt.VerifiedTokenCache;
+import org.personal.template.infrastructure.logging.AuthEventLogger;
+import org.personal.template.infrastructure.metrics.AuthMetrics;
+import org.personal.template.infrastructure.response.ApiResponseSerializer;
+import org.personal.template.infrastructure.security.PrincipalCache;
+import org.personal.template.infrastructure.security.PrincipalResolver;
+import org.personal.template.infrastructure.security.Role;
+import org.personal.template.infrastructure.security.UserDetailsImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class GlobalSecurityContextWebFilterTest {
+
+	private JWTUtil jwtUtil;
+	private GlobalSecurityContextWebFilter filter;
+
+	// 체인에 도달했을 때 보이는 인증 정보 (도달하지 않으면 null)
+	private final AtomicReference<Authentication> seen = new AtomicReference<>();
+	private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+		.map(SecurityContext::getAuthentication)
+		.doOnNext(seen::set)
+		.then();
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JWTUtil(new VerifiedTokenCache(true, 100, 1));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey",
+			Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes()));
+		jwtUtil.init();
+
+		InMemoryUserRepository userRepository = new InMemoryUserRepository(Optional.empty());
+		User user = new User();
+		user.setEmail("user@test.com");
+		user.setUsername("tester");
+		user.setPassword("encoded");
+		user.setRole(Role.ROLE_ADMIN);
+		userRepository.save(user);
+
+		PrincipalResolver principalResolver = new PrincipalResolver(userRepository,
+			new PrincipalCache(true, 100, 1, 60), new TokenRevocationList(100), "lookup");
+		filter = new GlobalSecurityContextWebFilter(jwtUtil, userRepository, principalResolver,
+			new ApiResponseSerializer(new ObjectMapper()), new AuthEventLogger(20), AuthMetrics.NONE);
+	}
+
+	@Test
+	@DisplayName("유효한 JWT이면 ReactiveSecurityContextHolder에 사용자 인증 정보 설정")
+	void validTokenPopulatesReactiveContext() {
+		String token = jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_ADMIN);
+		MockServerWebExchange exchange = MockServerWebExchange.from(
+			MockServerHttpRequest.get("/api/admin/users").header(JWTUtil.AUTHORIZATION_HEADER, token));
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(seen.get()).isNotNull();
+		assertThat(((UserDetailsImpl)seen.get().getPrincipal()).getUser().getEmail()).isEqualTo("user@test.com");
+		assertThat(seen.get().getAuthorities()).extracting("authority").contains("ROLE_ADMIN");
+	}
+
+	@Test
+	@DisplayName("토큰이 없으면 인증 정보 없이 다음 필터로 진행")
+	void missingTokenPassesThroughWithoutAuthentication() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/admin/users"));
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(seen.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	@DisplayName("변조된 토큰이면 체인을 멈추고 401 JSON 응답")
+	void invalidTokenIsRejectedWith401() {
+		String token = jwtUtil.createAccessToken("user@test.com", "tester", Role.ROLE_ADMIN);
+		MockServerWebExchange exchange = MockServerWebExchange.from(
+			MockServerHttpRequest.get("/api/admin/users").header(JWTUtil.AUTHORIZATION_HEADER, token + "x"));
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(seen.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(exchange.getResponse().getBodyAsString().block()).contains("\"code\":403", "\"fail\"");
+	}
+}
@@ -0,0 +1,130 @@
+package org.personal.template.infrastructure.tracing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RequestTraceTest {
+
+	@AfterEach
+	void tearDown() {
+		RequestTrace.finish("GET", "/", 200);
+	}
+
+	@Test
+	@DisplayName("샘플링되지 않은 스레드에서는 구간을 기록하지 않음")
+	void notRecordingWithoutBegin() {
+		assertThat(RequestTrace.isRecording()).isFalse();
+		assertThat(RequestTrace.start(Stage.TOKEN_PARSE)).isEqualTo(RequestTrace.NOT_RECORDING);
+		assertThat(RequestTrace.finish("GET", "/", 200)).isNull();
+	}
+
+	@Test
+	@DisplayName("구간은 열린 순서대로 부모가 정해지고, 닫히지 않은 안쪽 구간은 바깥 구간과 함께 닫힘")
+	void nestsAndClosesInnerSpans() {
+		RequestTrace.begin(1L, 2L);
+		int request = RequestTrace.start(Stage.REQUEST);
+		int security = RequestTrace.start(Stage.SECURITY_CONTEXT);
+		RequestTrace.start(Stage.TOKEN_PARSE);
+		RequestTrace.end(security);
+		int controller = RequestTrace.start(Stage.CONTROLLER);
+		RequestTrace.end(controller);
+		RequestTrace.end(request);
+
+		Trace trace = RequestTrace.finish("GET", "/api/admin/users", 200);
+
+		assertThat(trace.stages()).containsExactly(
+			Stage.REQUEST, Stage.SECURITY_CONTEXT, Stage.TOKEN_PARSE, Stage.CONTROLLER);
+		assertThat(trace.parents()).containsExactly(-1, 0, 1, 0);
+		assertThat(trace.ends()[2]).isEqualTo(trace.ends()[1]);
+		for (int i = 0; i < trace.size(); i++) {
+			assertThat(trace.ends()[i]).isGreaterThanOrEqualTo(trace.starts()[i]);
+		}
+		assertThat(RequestTrace.isRecording()).isFalse();
+	}
+
+	@Test
+	@DisplayName("버퍼 크기를 넘는 구간은 버리고 건수만 남김")
+	void dropsSpansBeyondCapacity() {
+		RequestTrace.begin(1L, 2L);
+		for (int i = 0; i < RequestTrace.MAX_SPANS + 3; i++) {
+			RequestTrace.end(RequestTrace.start(Stage.PRINCIPAL_LOOKUP));
+		}
+
+		Trace trace = RequestTrace.finish("GET", "/", 200);
+
+		assertThat(trace.size()).isEqualTo(RequestTrace.MAX_SPANS);
+		assertThat(trace.dropped()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("OTLP/JSON 한 줄로 기록하고 루트 span에만 HTTP 속성을 붙임")
+	void writesOtlpJsonLine() throws Exception {
+		RequestTrace.begin(0x1234L, 0xabcdL);
+		int request = RequestTrace.start(Stage.REQUEST);
+		RequestTrace.end(RequestTrace.start(Stage.SIGNATURE_VERIFY));
+		RequestTrace.end(request);
+		Trace trace = RequestTrace.finish("POST", "/api/user/login", 503);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		OtlpJsonFileExporter.write(trace, "template", out);
+		String line = out.toString(StandardCharsets.UTF_8);
+
+		assertThat(line).endsWith("\n").doesNotContain("\n\n");
+		JsonNode resourceSpans = new ObjectMapper().readTree(line).get("resourceSpans").get(0);
+		assertThat(resourceSpans.at("/resource/attributes/0/value/stringValue").asText()).isEqualTo("template");
+		JsonNode spans = resourceSpans.at("/scopeSpans/0/spans");
+		assertThat(spans).hasSize(2);
+
+		JsonNode root = spans.get(0);
+		JsonNode child = spans.get(1);
+		assertThat(root.get("traceId").asText()).isEqualTo("0000000000001234000000000000abcd");
+		assertThat(root.get("name").asText()).isEqualTo("http.request");
+		assertThat(root.has("parentSpanId")).isFalse();
+		assertThat(root.at("/status/code").asInt()).isEqualTo(2);
+		assertThat(root.get("attributes").toString()).contains("/api/user/login", "\"503\"");
+		assertThat(child.get("name").asText()).isEqualTo("jwt.signature");
+		assertThat(child.get("parentSpanId").asText()).isEqualTo(root.get("spanId").asText());
+		assertThat(child.has("attributes")).isFalse();
+	}
+
+	@Test
+	@DisplayName("내보내기 파일이 최대 크기를 넘으면 .1로 교체하고 새 파일에 이어 씀")
+	void rotatesExportFile(@TempDir Path dir) throws Exception {
+		Path path = dir.resolve("spans.jsonl");
+		RequestTrace.begin(1L, 2L);
+		RequestTrace.end(RequestTrace.start(Stage.REQUEST));
+		Trace trace = RequestTrace.finish("GET", "/api/user/me", 200);
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		OtlpJsonFileExporter.write(trace, "template", line);
+
+		// 한 줄을 쓰면 바로 교체되는 크기
+		OtlpJsonFileExporter exporter = new OtlpJsonFileExporter(path, "template", 16, line.size());
+		exporter.export(trace);
+		awaitFile(path.resolveSibling("spans.jsonl.1"));
+		exporter.export(trace);
+		exporter.close();
+
+		assertThat(Files.size(path.resolveSibling("spans.jsonl.1"))).isEqualTo(line.size());
+		assertThat(Files.exists(path)).isFalse();
+	}
+
+	private static void awaitFile(Path path) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!Files.exists(path) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(path).exists();
+	}
+}
@@ -0,0 +1,137 @@
+package org.personal.template.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP API 부하 테스트 (./gradlew loadTest, 일반 test 실행에서는 제외)
+ * - 기본: 임의 포트로 앱을 띄우고 localhost로 요청
+ * - -Pload.target=http://host:port 를 주면 이미 떠 있는 서버로 요청
+ * - -Pload.rate (초당 요청 수, 기본 100), -Pload.duration-seconds (기본 10), -Pload.max-in-flight (기본 1000)
+ * 결과는 콘솔과 build/reports/load/{시나리오}.json 에 기록
+ */
+@Tag("load")
+// 한 IP/이메일/토큰으로 반복 요청하므로 시도/요청 수 제한을 끄고 처리량 자체를 측정
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {"security.login-throttle.enabled=false", "rate-limit.enabled=false"})
+class ApiLoadTest {
+
+	private static final int RATE = Integer.getInteger("load.rate", 100);
+	private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10));
+	private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 1000);
+	private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "load");
+	private static final String PASSWORD = "loadtest-password";
+
+	@LocalServerPort
+	private int port;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient client = HttpClient.newBuilder()
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+	private LoadGenerator generator;
+	private String baseUrl;
+	// 외부 서버에 반복 실행해도 이메일이 겹치지 않도록 실행마다 다른 접두어 사용
+	private String runId;
+
+	@BeforeEach
+	void setUp() {
+		generator = new LoadGenerator(client, MAX_IN_FLIGHT);
+		baseUrl = System.getProperty("load.target", "http://localhost:" + port);
+		runId = UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	@Test
+	@DisplayName("회원 가입 부하")
+	void register() throws Exception {
+		LoadResult result = generator.run("register", RATE, DURATION,
+			i -> post("/api/user/register", registerBody("register-" + runId + "-" + i)));
+
+		report(result);
+	}
+
+	@Test
+	@DisplayName("로그인 부하")
+	void login() throws Exception {
+		String email = registerOnce("/api/user/register", registerBody("login-" + runId));
+		String body = loginBody(email);
+
+		LoadResult result = generator.run("login", RATE, DURATION, i -> post("/api/user/login", body));
+
+		report(result);
+	}
+
+	@Test
+	@DisplayName("인증된 관리자 API 부하")
+	void adminUserCount() throws Exception {
+		String email = registerOnce("/api/user/register/admin", registerAdminBody("admin-" + runId));
+		String token = login(email);
+
+		LoadResult result = generator.run("admin-users-count", RATE, DURATION, i -> HttpRequest.newBuilder()
+			.uri(URI.create(baseUrl + "/api/admin/users/count"))
+			.header("Authorization", token)
+			.GET()
+			.build());
+
+		report(result);
+	}
+
+	private void report(LoadResult result) throws Exception {
+		System.out.println(result.summary());
+		result.writeJson(REPORT_DIRECTORY);
+		// 용량 측정이 목적이므로 상태 코드 분포는 기록만 하고, 연결 실패만 실패로 처리
+		assertThat(result.errors()).as("transport errors").isZero();
+	}
+
+	private String registerOnce(String path, String body) throws Exception {
+		HttpResponse<String> response = client.send(post(path, body), HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).as(response.body()).isLessThan(300);
+		return objectMapper.readTree(body).get("email").asText();
+	}
+
+	private String login(String email) throws Exception {
+		HttpResponse<String> response = client.send(post("/api/user/login", loginBody(email)),
+			HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+		return objectMapper.readTree(response.body()).path("data").path("token").asText();
+	}
+
+	private HttpRequest post(String path, String body) {
+		return HttpRequest.newBuilder()
+			.uri(URI.create(baseUrl + path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private static String registerBody(String name) {
+		return String.format("{\"email\":\"%s@load.test\",\"password\":\"%s\",\"username\":\"%s\"}",
+			name, PASSWORD, name);
+	}
+
+	private static String registerAdminBody(String name) {
+		return String.format(
+			"{\"email\":\"%s@load.test\",\"password\":\"%s\",\"username\":\"%s\",\"admincode\":\"admincode\"}",
+			name, PASSWORD, name);
+	}
+
+	private static String loginBody(String email) {
+		return String.format("{\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD);
+	}
+}
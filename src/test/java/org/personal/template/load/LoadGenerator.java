@@ -0,0 +1,89 @@
+package org.personal.template.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 고정 요청률(open model) HTTP 부하 생성기
+ * - 예정 시각마다 비동기로 요청을 보내고 응답을 기다리지 않으므로, 서버가 느려져도 요청률이 유지됨
+ * - 지연 시간은 실제 전송 시각이 아니라 예정 시각부터 측정 (coordinated omission 보정)
+ * - 동시 대기 요청이 maxInFlight를 넘으면 보내지 않고 dropped로 집계
+ */
+public class LoadGenerator {
+
+	// 60초 이상 지연은 60초로 기록
+	private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+	private final HttpClient client;
+	private final int maxInFlight;
+
+	public LoadGenerator(HttpClient client, int maxInFlight) {
+		this.client = client;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * ratePerSecond로 duration 동안 요청 실행
+	 * @param requestFactory 요청 순번(0부터)을 받아 보낼 요청 생성
+	 */
+	public LoadResult run(String name, int ratePerSecond, Duration duration, LongFunction<HttpRequest> requestFactory)
+		throws InterruptedException {
+		Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+		Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+		LongAdder errors = new LongAdder();
+		LongAdder dropped = new LongAdder();
+		Semaphore inFlight = new Semaphore(maxInFlight);
+
+		long total = ratePerSecond * duration.toSeconds();
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+		CountDownLatch completed = new CountDownLatch((int)total);
+
+		long start = System.nanoTime();
+		for (long i = 0; i < total; i++) {
+			long intendedStart = start + i * intervalNanos;
+			long wait;
+			while ((wait = intendedStart - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+
+			if (!inFlight.tryAcquire()) {
+				dropped.increment();
+				completed.countDown();
+				continue;
+			}
+			client.sendAsync(requestFactory.apply(i), HttpResponse.BodyHandlers.discarding())
+				.whenComplete((response, e) -> {
+					histogram.recordValue(Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS));
+					if (e != null) {
+						errors.increment();
+					} else {
+						statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+					}
+					inFlight.release();
+					completed.countDown();
+				});
+		}
+
+		completed.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+		long elapsedNanos = System.nanoTime() - start;
+
+		Map<Integer, Long> statusCounts = new TreeMap<>();
+		statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+		return new LoadResult(name, ratePerSecond, total, elapsedNanos, histogram, statusCounts, errors.sum(),
+			dropped.sum());
+	}
+}
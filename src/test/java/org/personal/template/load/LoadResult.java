@@ -0,0 +1,72 @@
+package org.personal.template.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 시나리오 1건의 부하 테스트 결과 (지연 시간은 ms, 처리량은 응답 수/초)
+ */
+public record LoadResult(
+	String name,
+	int targetRate,
+	long requests,
+	long elapsedNanos,
+	Histogram latency,
+	Map<Integer, Long> statuses,
+	long errors,
+	long dropped
+) {
+
+	public long responses() {
+		return statuses.values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	public double throughput() {
+		return responses() / (elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1));
+	}
+
+	public double percentileMillis(double percentile) {
+		return latency.getValueAtPercentile(percentile) / 1_000_000.0;
+	}
+
+	public String summary() {
+		return String.format(
+			"[%s] target=%d/s throughput=%.1f/s requests=%d p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms "
+				+ "statuses=%s errors=%d dropped=%d",
+			name, targetRate, throughput(), requests,
+			percentileMillis(50), percentileMillis(99), percentileMillis(99.9), latency.getMaxValue() / 1_000_000.0,
+			statuses, errors, dropped);
+	}
+
+	/**
+	 * 릴리스 간 비교용 JSON 파일로 저장
+	 */
+	public void writeJson(Path directory) throws IOException {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("name", name);
+		json.put("targetRate", targetRate);
+		json.put("requests", requests);
+		json.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		json.put("throughput", throughput());
+		json.put("p50Millis", percentileMillis(50));
+		json.put("p99Millis", percentileMillis(99));
+		json.put("p999Millis", percentileMillis(99.9));
+		json.put("maxMillis", latency.getMaxValue() / 1_000_000.0);
+		json.put("statuses", statuses);
+		json.put("errors", errors);
+		json.put("dropped", dropped);
+
+		Files.createDirectories(directory);
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+			.writeValue(directory.resolve(name + ".json").toFile(), json);
+	}
+}
@@ -1,5 +1,6 @@
 package org.personal.template.presentation.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -14,9 +15,11 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.personal.template.domain.entity.User;
 import org.personal.template.domain.repository.UserRepository;
 import org.personal.template.infrastructure.jwt.JWTUtil;
+import org.personal.template.infrastructure.jwt.TokenCheck;
 import org.personal.template.infrastructure.security.Role;
 import org.personal.template.infrastructure.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +29,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -72,12 +76,15 @@ class AdminControllerAPITest {
 		testUsers = Arrays.asList(user1, user2, adminUser);
 
 		// Mock 응답 설정
-		when(userRepository.findAll()).thenReturn(testUsers);
+		when(userRepository.scanFrom(ArgumentMatchers.isNull())).thenAnswer(invocation -> testUsers.iterator());
 		when(userRepository.count()).thenReturn(3L);
+		// Authorization 헤더 없음 (@WithMockUser 인증 정보 사용)
+		when(jwtUtil.checkAuthorization(ArgumentMatchers.any())).thenReturn(TokenCheck.ABSENT.getResult());
+		when(jwtUtil.checkRequest(ArgumentMatchers.any())).thenReturn(TokenCheck.ABSENT.getResult());
 	}
 
 	@Test
-	@DisplayName("관리자 사용자: 모든 사용자 조회 성공")
+	@DisplayName("관리자 사용자: 사용자 목록 조회 성공 (비밀번호 제외)")
 	@WithMockUser(username = "admin", roles = {"ADMIN"})
 	void adminCanGetAllUsers() throws Exception {
 		mockMvc.perform(get("/api/admin/users")
@@ -87,13 +94,53 @@ class AdminControllerAPITest {
 			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
 			.andExpect(jsonPath("$.code").value(200))
 			.andExpect(jsonPath("$.message").value("전체 사용자 목록"))
-			.andExpect(jsonPath("$.data").isArray())
-			.andExpect(jsonPath("$.data", hasSize(3)))
-			.andExpect(jsonPath("$.data[0].username").value("user1"))
-			.andExpect(jsonPath("$.data[1].username").value("user2"))
-			.andExpect(jsonPath("$.data[2].username").value("admin"));
+			.andExpect(jsonPath("$.data.users").isArray())
+			.andExpect(jsonPath("$.data.users", hasSize(3)))
+			.andExpect(jsonPath("$.data.users[0].username").value("user1"))
+			.andExpect(jsonPath("$.data.users[1].username").value("user2"))
+			.andExpect(jsonPath("$.data.users[2].username").value("admin"))
+			.andExpect(jsonPath("$.data.users[0].password").doesNotExist())
+			.andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+
+		verify(userRepository, times(1)).scanFrom(null);
+		verify(userRepository, never()).findAll();
+	}
+
+	@Test
+	@DisplayName("관리자 사용자: size보다 많으면 nextCursor로 다음 페이지 안내")
+	@WithMockUser(username = "admin", roles = {"ADMIN"})
+	void adminGetsNextCursorWhenMoreUsersRemain() throws Exception {
+		when(userRepository.scanFrom(2L)).thenAnswer(invocation -> testUsers.subList(2, 3).iterator());
 
-		verify(userRepository, times(1)).findAll();
+		mockMvc.perform(get("/api/admin/users").param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.users", hasSize(2)))
+			.andExpect(jsonPath("$.data.nextCursor").value(2));
+
+		mockMvc.perform(get("/api/admin/users").param("cursor", "2").param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.users", hasSize(1)))
+			.andExpect(jsonPath("$.data.users[0].username").value("admin"))
+			.andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+	}
+
+	@Test
+	@DisplayName("관리자 사용자: NDJSON 스트리밍 조회")
+	@WithMockUser(username = "admin", roles = {"ADMIN"})
+	void adminCanStreamUsers() throws Exception {
+		MvcResult mvcResult = mockMvc.perform(get("/api/admin/users/stream"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+			.andReturn().getResponse().getContentAsString();
+
+		String[] lines = body.trim().split("\n");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).contains("\"username\":\"user1\"").doesNotContain("password");
+		assertThat(lines[2]).contains("\"role\":\"ROLE_ADMIN\"");
 	}
 
 	@Test
@@ -127,7 +174,7 @@ class AdminControllerAPITest {
 			.andDo(print())
 			.andExpect(status().isForbidden());
 
-		verify(userRepository, never()).findAll();
+		verify(userRepository, never()).scanFrom(ArgumentMatchers.any());
 	}
 
 	@Test
@@ -138,6 +185,6 @@ class AdminControllerAPITest {
 			.andDo(print())
 			.andExpect(status().isUnauthorized());
 
-		verify(userRepository, never()).findAll();
+		verify(userRepository, never()).scanFrom(ArgumentMatchers.any());
 	}
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,7 @@ import org.personal.template.application.service.UserService;
 import org.personal.template.domain.entity.User;
 import org.personal.template.domain.repository.UserRepository;
 import org.personal.template.infrastructure.exception.BaseException;
+import org.personal.template.infrastructure.exception.RetryLaterException;
 import org.personal.template.infrastructure.jwt.JWTUtil;
 import org.personal.template.infrastructure.response.Code;
 import org.personal.template.infrastructure.security.GlobalSecurityContextFilter;
@@ -33,6 +35,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -99,8 +102,8 @@ public class UserControllerAPITest {
 	@DisplayName("일반 사용자 회원가입 - 성공")
 	void registerUserSuccess() throws Exception {
 		// UserService.registerUser 모킹
-		when(userService.registerUser(any(RegisterRequestDTO.class), eq(Role.ROLE_USER)))
-			.thenReturn(userEntity);
+		when(userService.registerUserAsync(any(RegisterRequestDTO.class), eq(Role.ROLE_USER)))
+			.thenReturn(CompletableFuture.completedFuture(userEntity));
 
 		// 요청 데이터 생성
 		Map<String, Object> requestData = new HashMap<>();
@@ -108,23 +111,27 @@ public class UserControllerAPITest {
 		requestData.put("username", "testuser");
 		requestData.put("password", "password123");
 
-		mockMvc.perform(post("/api/user/register")
+		MvcResult mvcResult = mockMvc.perform(post("/api/user/register")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.code").value(200))
 			.andExpect(jsonPath("$.message").value("성공적으로 처리되었습니다."))
 			.andExpect(jsonPath("$.data").value("회원가입 성공"));
 
-		verify(userService, times(1)).registerUser(any(RegisterRequestDTO.class), eq(Role.ROLE_USER));
+		verify(userService, times(1)).registerUserAsync(any(RegisterRequestDTO.class), eq(Role.ROLE_USER));
 	}
 
 	@Test
 	@DisplayName("일반 사용자 회원가입 - 실패 (이메일 중복)")
 	void registerUserFailDuplicateEmail() throws Exception {
 		// ExceptionHandler를 위한 Global 컨트롤러 어드바이스 설정 필요
-		when(userService.registerUser(any(RegisterRequestDTO.class), eq(Role.ROLE_USER)))
-			.thenThrow(new BaseException(Code.ALREADY_EXISTS, "이미 등록된 이메일입니다"));
+		when(userService.registerUserAsync(any(RegisterRequestDTO.class), eq(Role.ROLE_USER)))
+			.thenReturn(CompletableFuture.failedFuture(new BaseException(Code.ALREADY_EXISTS, "이미 등록된 이메일입니다")));
 
 		// 요청 데이터 생성
 		Map<String, Object> requestData = new HashMap<>();
@@ -132,13 +139,17 @@ public class UserControllerAPITest {
 		requestData.put("username", "duplicate");
 		requestData.put("password", "password123");
 
-		mockMvc.perform(post("/api/user/register")
+		MvcResult mvcResult = mockMvc.perform(post("/api/user/register")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isBadRequest())
 			.andExpect(jsonPath("$.code").value(202));
 
-		verify(userService, times(1)).registerUser(any(RegisterRequestDTO.class), eq(Role.ROLE_USER));
+		verify(userService, times(1)).registerUserAsync(any(RegisterRequestDTO.class), eq(Role.ROLE_USER));
 	}
 
 	// @Test
@@ -166,8 +177,8 @@ public class UserControllerAPITest {
 	@DisplayName("관리자 회원가입 - 성공")
 	void registerAdminSuccess() throws Exception {
 		// UserService.registerAdmin 모킹
-		when(userService.registerAdmin(any(RegisterAdminRequestDTO.class), eq(Role.ROLE_ADMIN)))
-			.thenReturn(adminEntity);
+		when(userService.registerAdminAsync(any(RegisterAdminRequestDTO.class), eq(Role.ROLE_ADMIN)))
+			.thenReturn(CompletableFuture.completedFuture(adminEntity));
 
 		// 요청 데이터 생성 - adminCode 필드명 주의
 		Map<String, Object> requestData = new HashMap<>();
@@ -176,15 +187,19 @@ public class UserControllerAPITest {
 		requestData.put("password", "admin123");
 		requestData.put("adminCode", "adminSecret"); // adminCode로 수정
 
-		mockMvc.perform(post("/api/user/register/admin")
+		MvcResult mvcResult = mockMvc.perform(post("/api/user/register/admin")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isCreated())
 			.andExpect(jsonPath("$.code").value(200))
 			.andExpect(jsonPath("$.message").value("성공적으로 처리되었습니다."))
 			.andExpect(jsonPath("$.data").value("관리자 회원가입 성공"));
 
-		verify(userService, times(1)).registerAdmin(any(RegisterAdminRequestDTO.class), eq(Role.ROLE_ADMIN));
+		verify(userService, times(1)).registerAdminAsync(any(RegisterAdminRequestDTO.class), eq(Role.ROLE_ADMIN));
 	}
 
 	@Test
@@ -195,39 +210,48 @@ public class UserControllerAPITest {
 		loginResponse.put("token", jwtToken);
 
 		// UserService.login 모킹
-		when(userService.login(any(LoginRequestDTO.class))).thenReturn(loginResponse);
+		when(userService.loginAsync(any(LoginRequestDTO.class), any()))
+			.thenReturn(CompletableFuture.completedFuture(loginResponse));
 
 		// 요청 데이터 생성
 		Map<String, Object> requestData = new HashMap<>();
 		requestData.put("email", "user@test.com");
 		requestData.put("password", "password123");
 
-		mockMvc.perform(post("/api/user/login")
+		MvcResult mvcResult = mockMvc.perform(post("/api/user/login")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.code").value(200))
 			.andExpect(jsonPath("$.message").value("로그인 성공"))
 			.andExpect(jsonPath("$.data.token").value(jwtToken));
 
-		verify(userService, times(1)).login(any(LoginRequestDTO.class));
+		verify(userService, times(1)).loginAsync(any(LoginRequestDTO.class), any());
 	}
 
 	@Test
 	@DisplayName("로그인 - 실패 (이메일 없음)")
 	void loginFailInvalidEmail() throws Exception {
 		// UserService가 예외를 던지도록 모킹
-		when(userService.login(any(LoginRequestDTO.class)))
-			.thenThrow(new BaseException(Code.SIGN001, "일치하는 이메일 없음"));
+		when(userService.loginAsync(any(LoginRequestDTO.class), any()))
+			.thenReturn(CompletableFuture.failedFuture(new BaseException(Code.SIGN001, "일치하는 이메일 없음")));
 
 		// 요청 데이터 생성
 		Map<String, Object> requestData = new HashMap<>();
 		requestData.put("email", "wrong@test.com");
 		requestData.put("password", "password123");
 
-		mockMvc.perform(post("/api/user/login")
+		MvcResult mvcResult = mockMvc.perform(post("/api/user/login")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isBadRequest())
 			.andExpect(jsonPath("$.code").value(2001))
 			.andExpect(jsonPath("$.message").value("일치하는 이메일 없음"));
@@ -237,19 +261,42 @@ public class UserControllerAPITest {
 	@DisplayName("로그인 - 실패 (비밀번호 불일치)")
 	void loginFailInvalidPassword() throws Exception {
 		// UserService가 예외를 던지도록 모킹
-		when(userService.login(any(LoginRequestDTO.class)))
-			.thenThrow(new BaseException(Code.SIGN002, "비밀번호 불일치"));
+		when(userService.loginAsync(any(LoginRequestDTO.class), any()))
+			.thenReturn(CompletableFuture.failedFuture(new BaseException(Code.SIGN002, "비밀번호 불일치")));
 
 		// 요청 데이터 생성
 		Map<String, Object> requestData = new HashMap<>();
 		requestData.put("email", "user@test.com");
 		requestData.put("password", "wrongpassword");
 
-		mockMvc.perform(post("/api/user/login")
+		MvcResult mvcResult = mockMvc.perform(post("/api/user/login")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isBadRequest())
 			.andExpect(jsonPath("$.code").value(2002))
 			.andExpect(jsonPath("$.message").value("비밀번호 불일치"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("로그인 - 실패 (해시 풀 포화)")
+	void loginRejectedWhenHashingPoolSaturated() throws Exception {
+		// 해시 풀이 가득 차면 요청 스레드에서 즉시 거절
+		when(userService.loginAsync(any(LoginRequestDTO.class), any()))
+			.thenThrow(new RetryLaterException(Code.SERVICE_UNAVAILABLE, "비밀번호 처리 요청이 많습니다", 1));
+
+		Map<String, Object> requestData = new HashMap<>();
+		requestData.put("email", "user@test.com");
+		requestData.put("password", "password123");
+
+		mockMvc.perform(post("/api/user/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(requestData)))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().string("Retry-After", "1"))
+			.andExpect(jsonPath("$.code").value(503));
+	}
+}